@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import edu.ucr.cs.riple.core.evaluators.graph.ConflictGraph;
+import edu.ucr.cs.riple.core.evaluators.graph.Node;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks {@link ConflictGraph#findGroups()} on nodes with randomly shared regions. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ConflictGraphBenchmark {
+
+  /** Number of nodes in the graph. */
+  @Param({"100", "1000"})
+  public int fixes;
+
+  /** Number of distinct regions, fewer regions result in more conflicts. */
+  @Param({"1000", "10000"})
+  public int regions;
+
+  /** Number of potentially impacted regions of each node. */
+  @Param({"5", "20"})
+  public int regionsPerFix;
+
+  /** Graph under benchmark. */
+  private ConflictGraph graph;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(SyntheticData.SEED);
+    ImmutableList<Region> allRegions = SyntheticData.regions(regions);
+    graph = new ConflictGraph();
+    for (Fix fix : SyntheticData.fixes(fixes)) {
+      Node node = graph.addNodeToVertices(fix);
+      for (int i = 0; i < regionsPerFix; i++) {
+        node.regions.add(allRegions.get(random.nextInt(allRegions.size())));
+      }
+    }
+  }
+
+  @Benchmark
+  public int findGroups() {
+    graph.findGroups();
+    return graph.getGroups().size();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.cache.Impact;
+import edu.ucr.cs.riple.core.cache.TargetModuleCache;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link edu.ucr.cs.riple.core.cache.BaseCache#getTriggeredErrorsForCollection} on a
+ * {@link TargetModuleCache} filled with synthetic impacts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImpactCacheBenchmark {
+
+  /** Number of fixes with a cached impact. */
+  @Param({"1000", "10000"})
+  public int fixes;
+
+  /** Number of triggered errors in each impact. */
+  @Param({"10"})
+  public int errorsPerImpact;
+
+  /** Number of fixes in the queried collection. */
+  @Param({"10", "100"})
+  public int collectionSize;
+
+  /** Cache under benchmark. */
+  private TargetModuleCache cache;
+
+  /** Queried collection of fixes. */
+  private ImmutableSet<Fix> collection;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(SyntheticData.SEED);
+    ImmutableList<Fix> allFixes = SyntheticData.fixes(fixes);
+    ImmutableList<Region> regions = SyntheticData.regions(fixes);
+    Set<Impact> impacts = new HashSet<>();
+    for (Fix fix : allFixes) {
+      List<Error> triggered = SyntheticData.errors(errorsPerImpact, regions, allFixes, random);
+      impacts.add(new Impact(fix, new HashSet<>(triggered), ImmutableSet.of()));
+    }
+    cache = new TargetModuleCache();
+    cache.updateCacheState(impacts);
+    ImmutableSet.Builder<Fix> builder = ImmutableSet.builder();
+    for (int i = 0; i < collectionSize; i++) {
+      builder.add(allFixes.get(random.nextInt(allFixes.size())));
+    }
+    collection = builder.build();
+  }
+
+  @Benchmark
+  public ImmutableSet<Error> triggeredErrorsForCollection() {
+    return cache.getTriggeredErrorsForCollection(collection);
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.Index;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link Index#index(java.util.Collection)} and region lookups on the created index. The
+ * index is not bound to a module as errors are given directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexBenchmark {
+
+  /** Number of indexed errors. */
+  @Param({"1000", "100000"})
+  public int errors;
+
+  /** Number of distinct regions errors are reported on. */
+  @Param({"100", "10000"})
+  public int regions;
+
+  /** Number of distinct fixes resolving errors. */
+  @Param({"1000"})
+  public int fixes;
+
+  /** Errors to index. */
+  private List<Error> allErrors;
+
+  /** Index under benchmark. */
+  private Index index;
+
+  @Setup
+  public void setup() {
+    allErrors =
+        SyntheticData.errors(
+            errors,
+            SyntheticData.regions(regions),
+            SyntheticData.fixes(fixes),
+            new Random(SyntheticData.SEED));
+    index = new Index(null, null);
+    index.index(allErrors);
+  }
+
+  @Benchmark
+  public int index() {
+    index.index(allErrors);
+    return index.values().size();
+  }
+
+  @Benchmark
+  public int regionsOfMatchingItems() {
+    return index.getRegionsOfMatchingItems(error -> error.getRegion().hashCode() % 2 == 0).size();
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import com.github.javaparser.ParserConfiguration;
+import com.google.common.collect.ImmutableList;
+import edu.ucr.cs.riple.injector.Injector;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.changes.RemoveAnnotation;
+import edu.ucr.cs.riple.injector.changes.RemoveMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks {@link Injector#start(Set)} on synthetic source files. Each invocation adds
+ * annotations and removes them afterwards, so source files are identical at the start of every
+ * invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InjectorBenchmark {
+
+  /** Number of modified source files. */
+  @Param({"10", "100"})
+  public int files;
+
+  /** Approximate number of lines in each source file. */
+  @Param({"300", "3000"})
+  public int lines;
+
+  /** Number of annotations injected in each file. */
+  @Param({"1", "20"})
+  public int changesPerFile;
+
+  /** Temporary directory holding source files. */
+  private Path root;
+
+  /** Injector under benchmark. */
+  private Injector injector;
+
+  /** Annotations to add. */
+  private Set<AddAnnotation> additions;
+
+  /** Annotations to remove, reverting the additions. */
+  private Set<RemoveAnnotation> removals;
+
+  @Setup
+  public void setup() throws IOException {
+    root = Files.createTempDirectory("annotator-injector-benchmark");
+    ImmutableList<Path> paths = SyntheticData.writeSourceFiles(root, files, lines);
+    int methods = Math.max(1, lines / 3);
+    Random random = new Random(SyntheticData.SEED);
+    additions = new HashSet<>();
+    removals = new HashSet<>();
+    for (int i = 0; i < paths.size(); i++) {
+      for (int j = 0; j < changesPerFile; j++) {
+        OnMethod location =
+            new OnMethod(
+                paths.get(i), SyntheticData.className(i), "m" + random.nextInt(methods) + "()");
+        additions.add(new AddMarkerAnnotation(location, SyntheticData.NULLABLE));
+        removals.add(new RemoveMarkerAnnotation(location, SyntheticData.NULLABLE));
+      }
+    }
+    injector = new Injector(ParserConfiguration.LanguageLevel.JAVA_17);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public int addAndRemoveAnnotations() {
+    return injector.addAnnotations(additions).size() + injector.removeAnnotations(removals).size();
+  }
+}
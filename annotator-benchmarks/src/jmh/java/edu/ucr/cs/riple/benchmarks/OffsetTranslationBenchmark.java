@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import com.google.common.collect.ImmutableSortedSet;
+import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
+import edu.ucr.cs.riple.injector.offsets.OffsetChange;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks translating offsets of reported errors to their original offsets, comparing the
+ * linear scan in {@link OffsetChange#getOriginalOffset} with the indexed and batch translations
+ * in {@link FileOffsetStore}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OffsetTranslationBenchmark {
+
+  /** Number of lines in the file. */
+  @Param({"1000", "20000"})
+  public int lines;
+
+  /** Number of recorded offset changes. */
+  @Param({"100", "5000"})
+  public int changes;
+
+  /** Number of translated offsets. */
+  @Param({"1000"})
+  public int offsets;
+
+  /** Offset store holding the recorded changes. */
+  private FileOffsetStore store;
+
+  /** Snapshot of the recorded changes. */
+  private ImmutableSortedSet<OffsetChange> offsetChanges;
+
+  /** Offsets to translate. */
+  private int[] queries;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(SyntheticData.SEED);
+    List<String> content = new ArrayList<>(lines);
+    for (int i = 0; i < lines; i++) {
+      content.add("    Object field" + i + " = new Object();");
+    }
+    Path path = Paths.get("Foo.java");
+    store = new FileOffsetStore(content, path);
+    // Record changes the way Context.OffsetHandler does, one store per injection.
+    for (int i = 0; i < changes; i++) {
+      FileOffsetStore injection = new FileOffsetStore(content, path);
+      if (random.nextBoolean()) {
+        injection.updateOffsetWithAddition(random.nextInt(lines), 4, "@Nullable ".length());
+      } else {
+        injection.updateOffsetWithDeletion(random.nextInt(lines), 4, "@Nullable ".length());
+      }
+      store.updateStateWithNewOffsetChanges(injection.getOffsetChanges());
+    }
+    offsetChanges = store.getOffsetChanges();
+    int length = content.get(0).length() * lines;
+    queries = new int[offsets];
+    for (int i = 0; i < offsets; i++) {
+      queries[i] = random.nextInt(length);
+    }
+  }
+
+  @Benchmark
+  public int linearScan() {
+    int sum = 0;
+    for (int offset : queries) {
+      sum += OffsetChange.getOriginalOffset(offset, offsetChanges);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int indexed() {
+    int sum = 0;
+    for (int offset : queries) {
+      sum += store.getOriginalOffset(offset);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int[] batch() {
+    return store.getOriginalOffsets(queries);
+  }
+}
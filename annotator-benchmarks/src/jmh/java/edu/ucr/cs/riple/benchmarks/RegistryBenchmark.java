@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.module.ModuleConfiguration;
+import edu.ucr.cs.riple.core.registries.method.MethodRegistry;
+import edu.ucr.cs.riple.scanner.Serializer;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks loading a {@link edu.ucr.cs.riple.core.registries.Registry} from scanner outputs,
+ * using {@link MethodRegistry} over a synthetic {@code method_records.tsv} file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RegistryBenchmark {
+
+  /** Number of serialized method records. */
+  @Param({"1000", "100000"})
+  public int methods;
+
+  /** Temporary directory holding scanner outputs. */
+  private Path root;
+
+  /** Module whose outputs are loaded. */
+  private ModuleConfiguration module;
+
+  @Setup
+  public void setup() throws IOException {
+    root = Files.createTempDirectory("annotator-registry-benchmark");
+    module =
+        new ModuleConfiguration(0, root, root.resolve("checker.xml"), root.resolve("scanner.xml"));
+    Random random = new Random(SyntheticData.SEED);
+    try (BufferedWriter writer =
+        Files.newBufferedWriter(
+            module.dir.resolve(Serializer.METHOD_RECORD_FILE_NAME), Charset.defaultCharset())) {
+      writer.write("HEADER");
+      writer.newLine();
+      for (int id = 1; id <= methods; id++) {
+        int clazz = id / 20;
+        // Half of the methods override a method declared earlier.
+        int parent = id > 1 && random.nextBoolean() ? 1 + random.nextInt(id - 1) : 0;
+        writer.write(
+            String.join(
+                "\t",
+                String.valueOf(id),
+                SyntheticData.className(clazz),
+                "m" + id + "()",
+                String.valueOf(parent),
+                "[]",
+                random.nextInt(10) == 0 ? SyntheticData.NULLABLE : "",
+                "public",
+                "true",
+                root.resolve("C" + clazz + ".java").toString()));
+        writer.newLine();
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    try (Stream<Path> paths = Files.walk(root)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public MethodRegistry loadMethodRegistry() {
+    return new MethodRegistry(ImmutableSet.of(module), null);
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.checkers.nullaway.NullAwayError;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic inputs for benchmarks. All generated data is deterministic for the given
+ * parameters, so results of different runs and releases are comparable.
+ */
+final class SyntheticData {
+
+  /** Seed used for all random decisions. */
+  static final long SEED = 1234L;
+
+  /** Annotation used in all generated fixes. */
+  static final String NULLABLE = "javax.annotation.Nullable";
+
+  /** Package of all generated classes. */
+  static final String PACKAGE = "edu.ucr.bench";
+
+  /** Number of methods declared in each generated class. */
+  private static final int METHODS_PER_CLASS = 20;
+
+  private SyntheticData() {}
+
+  /**
+   * Returns the flat name of the generated class at the given index.
+   *
+   * @param index Index of the class.
+   * @return Flat name of the class.
+   */
+  static String className(int index) {
+    return PACKAGE + ".C" + index;
+  }
+
+  /**
+   * Creates fixes, each making the return type of a distinct method {@code @Nullable}.
+   *
+   * @param count Number of fixes.
+   * @return List of fixes.
+   */
+  static ImmutableList<Fix> fixes(int count) {
+    ImmutableList.Builder<Fix> builder = ImmutableList.builder();
+    for (int i = 0; i < count; i++) {
+      int clazz = i / METHODS_PER_CLASS;
+      builder.add(
+          new Fix(
+              new AddMarkerAnnotation(
+                  new OnMethod("C" + clazz + ".java", className(clazz), "m" + i + "()"),
+                  NULLABLE)));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates regions, each being a distinct method.
+   *
+   * @param count Number of regions.
+   * @return List of regions.
+   */
+  static ImmutableList<Region> regions(int count) {
+    ImmutableList.Builder<Region> builder = ImmutableList.builder();
+    for (int i = 0; i < count; i++) {
+      builder.add(new Region(className(i / METHODS_PER_CLASS), "r" + i + "()"));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates errors reported on random regions, each resolvable by a random fix.
+   *
+   * @param count Number of errors.
+   * @param regions Regions where errors can be reported.
+   * @param fixes Fixes which can resolve errors.
+   * @param random Random source.
+   * @return List of errors.
+   */
+  static List<Error> errors(int count, List<Region> regions, List<Fix> fixes, Random random) {
+    List<Error> errors = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Fix fix = fixes.get(random.nextInt(fixes.size()));
+      errors.add(
+          new NullAwayError(
+              "RETURN_NULLABLE",
+              "returning @Nullable expression from method with @NonNull return type",
+              regions.get(random.nextInt(regions.size())),
+              i,
+              ImmutableSet.copyOf(fix.changes)));
+    }
+    return errors;
+  }
+
+  /**
+   * Writes Java source files to the given directory. Each file declares a class with methods
+   * returning {@code Object}, and each method spans three lines. Files already import {@link
+   * #NULLABLE}, so injecting and removing it leaves the files unchanged.
+   *
+   * @param dir Directory to write files into.
+   * @param files Number of files.
+   * @param lines Approximate number of lines in each file.
+   * @return Paths to written files.
+   */
+  static ImmutableList<Path> writeSourceFiles(Path dir, int files, int lines) {
+    ImmutableList.Builder<Path> builder = ImmutableList.builder();
+    int methods = Math.max(1, lines / 3);
+    for (int i = 0; i < files; i++) {
+      List<String> content = new ArrayList<>();
+      content.add("package " + PACKAGE + ";");
+      content.add("import " + NULLABLE + ";");
+      content.add("public class C" + i + " {");
+      for (int j = 0; j < methods; j++) {
+        content.add("  public Object m" + j + "() {");
+        content.add("    return new Object();");
+        content.add("  }");
+      }
+      content.add("}");
+      Path path = dir.resolve("C" + i + ".java");
+      try {
+        Files.write(path, content, Charset.defaultCharset());
+      } catch (IOException e) {
+        throw new RuntimeException("Could not write synthetic source file at: " + path, e);
+      }
+      builder.add(path);
+    }
+    return builder.build();
+  }
+}
@@ -25,6 +25,7 @@
 package edu.ucr.cs.riple.core;
 
 import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.cache.InjectionHistory;
 import edu.ucr.cs.riple.core.cache.TargetModuleCache;
 import edu.ucr.cs.riple.core.cache.downstream.DownstreamImpactCache;
 import edu.ucr.cs.riple.core.cache.downstream.DownstreamImpactCacheImpl;
@@ -35,7 +36,9 @@ import edu.ucr.cs.riple.core.evaluators.Evaluator;
 import edu.ucr.cs.riple.core.evaluators.VoidEvaluator;
 import edu.ucr.cs.riple.core.evaluators.suppliers.Supplier;
 import edu.ucr.cs.riple.core.evaluators.suppliers.TargetModuleSupplier;
+import edu.ucr.cs.riple.core.metrics.IterationEvent;
 import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.CompoundRegionRegistry;
 import edu.ucr.cs.riple.core.util.Utility;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -56,19 +59,41 @@ public class Annotator {
   /** Annotator configuration. */
   public final Config config;
 
+  /** Number of iterations of inference/injection executed so far. */
+  private int iterations;
+
+  /** History of fixes injected in each iteration, shared by caches to validate their entries. */
+  private final InjectionHistory history;
+
   public Annotator(Config config) {
     this.config = config;
     this.context = new Context(config);
-    this.cache = new ReportCache(config);
+    this.history = new InjectionHistory();
+    this.cache = new ReportCache(config, history);
+    context.metrics.registerCache("report", cache.getStatistics());
   }
 
-  /** Starts the annotating process consist of preprocess followed by the "annotate" phase. */
+  /**
+   * Starts the annotating process consist of preprocess followed by the "annotate" phase. Metrics
+   * are written in the output directory at the end, and periodically during the run if requested.
+   * In dry run mode, only the cost of the run is estimated and no annotation is injected.
+   */
   public void start() {
-    preprocess();
-    long timer = context.log.startTimer();
-    annotate();
-    context.log.stopTimerAndCapture(timer);
-    Utility.writeLog(context);
+    context.metrics.startPeriodicSnapshots(config.globalDir, config.metricsSnapshotInterval);
+    try {
+      if (config.dryRun) {
+        new DryRun(context).estimate();
+        return;
+      }
+      preprocess();
+      long timer = context.log.startTimer();
+      annotate();
+      context.log.stopTimerAndCapture(timer);
+      Utility.writeLog(context);
+    } finally {
+      context.metrics.stopPeriodicSnapshots();
+      context.metrics.write(config.globalDir);
+    }
   }
 
   /**
@@ -100,27 +125,52 @@ public class Annotator {
             ? new DownstreamImpactCacheImpl(context)
             : new VoidDownstreamImpactCache();
     downstreamImpactCache.analyzeDownstreamDependencies();
-    TargetModuleCache targetModuleCache = new TargetModuleCache();
+    // Impacts are validated against the source code of their footprint only when verified in the
+    // final iteration.
+    TargetModuleCache targetModuleCache =
+        new TargetModuleCache(
+            history, config.verifyFinalIteration ? context.targetModuleInfo : null);
+    context.metrics.registerCache("downstream_impact", downstreamImpactCache.getStatistics());
+    context.metrics.registerCache("target_module", targetModuleCache.getStatistics());
     if (config.inferenceActivated) {
       // Outer loop starts.
-      while (cache.isUpdated()) {
+      while (cache.isUpdated() && !context.budget.isExhausted()) {
         executeNextIteration(targetModuleCache, downstreamImpactCache);
         if (config.disableOuterLoop) {
           break;
         }
       }
       // Perform once last iteration including all fixes.
-      if (!config.disableOuterLoop) {
-        cache.disable();
-        executeNextIteration(targetModuleCache, downstreamImpactCache);
-        cache.enable();
+      if (!config.disableOuterLoop && !context.budget.isExhausted()) {
+        if (config.verifyFinalIteration) {
+          // Only reports and impacts invalidated by fixes injected after their evaluation are
+          // evaluated again, the rest are reused.
+          CompoundRegionRegistry regionRegistry = context.targetModuleInfo.getRegionRegistry();
+          int reports = cache.invalidateReportsChangedSinceEvaluation(regionRegistry);
+          int impacts = targetModuleCache.invalidateImpactsChangedSinceComputation(regionRegistry);
+          System.out.println(
+              "Verifying final iteration, invalidated reports: "
+                  + reports
+                  + ", invalidated impacts: "
+                  + impacts);
+          executeNextIteration(targetModuleCache, downstreamImpactCache);
+        } else {
+          cache.disable();
+          executeNextIteration(targetModuleCache, downstreamImpactCache);
+          cache.enable();
+        }
       }
     }
     if (config.suppressRemainingErrors) {
       context.checker.suppressRemainingErrors();
     }
     System.out.println("\nFinished annotating.");
-    Utility.writeReports(context, cache.reports().stream().collect(ImmutableSet.toImmutableSet()));
+    ImmutableSet<Report> reports = cache.reports();
+    Utility.writeReports(context, reports);
+    Utility.writeCosts(context, reports);
+    if (context.budget.isLimited()) {
+      Utility.writeBudgetSummary(context, reports);
+    }
   }
 
   /**
@@ -132,6 +182,8 @@ public class Annotator {
    */
   private void executeNextIteration(
       TargetModuleCache targetModuleCache, DownstreamImpactCache downstreamImpactCache) {
+    IterationEvent event = new IterationEvent();
+    event.begin();
     ImmutableSet<Report> latestReports =
         processTriggeredFixes(targetModuleCache, downstreamImpactCache);
     // Compute boundaries of effects on downstream dependencies.
@@ -145,6 +197,12 @@ public class Annotator {
     cache.update(latestReports);
     // Tag reports according to selected analysis mode.
     config.mode.tag(downstreamImpactCache, latestReports);
+    if (context.budget.isLimited()) {
+      // Reports left unevaluated due to exhausted budget are never approved.
+      latestReports.stream()
+          .filter(report -> report.skippedByBudget)
+          .forEach(report -> report.tag(Report.Tag.REJECT));
+    }
     // Inject approved fixes.
     Set<Fix> selectedFixes =
         latestReports.stream()
@@ -152,12 +210,17 @@ public class Annotator {
             .flatMap(report -> config.chain ? report.tree.stream() : Stream.of(report.root))
             .collect(Collectors.toSet());
     context.getInjector().injectFixes(selectedFixes);
+    history.record(selectedFixes);
     // Update log.
     context.log.updateInjectedAnnotations(
         selectedFixes.stream().flatMap(fix -> fix.changes.stream()).collect(Collectors.toSet()));
     // Update impact saved state.
     downstreamImpactCache.updateImpactsAfterInjection(selectedFixes);
     targetModuleCache.updateImpactsAfterInjection(selectedFixes);
+    event.iteration = ++iterations;
+    event.reports = latestReports.size();
+    event.injectedFixes = selectedFixes.size();
+    event.commit();
   }
 
   /**
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import com.google.gson.JsonObject;
+import edu.ucr.cs.riple.core.log.Log;
+
+/**
+ * Limits the resources spent on a run. When a limit on wall clock time or number of builds is
+ * configured, Annotator evaluates fixes with the best expected payoff first and stops evaluating
+ * new fixes once the budget is exhausted. Fixes approved before that point are still injected.
+ */
+public class Budget {
+
+  /** Maximum wall clock time in milliseconds, non-positive values disable the limit. */
+  private final long maxWallTime;
+
+  /** Maximum number of builds, non-positive values disable the limit. */
+  private final long maxBuilds;
+
+  /** Log instance to retrieve the number of requested builds. */
+  private final Log log;
+
+  /** Time the run started at in milliseconds. */
+  private final long start;
+
+  public Budget(Config config, Log log) {
+    this.maxWallTime = config.maxWallTime * 1000L;
+    this.maxBuilds = config.maxBuilds;
+    this.log = log;
+    this.start = System.currentTimeMillis();
+  }
+
+  /**
+   * Checks if any limit is configured for the run.
+   *
+   * @return true, if either wall clock time or number of builds is limited.
+   */
+  public boolean isLimited() {
+    return maxWallTime > 0 || maxBuilds > 0;
+  }
+
+  /**
+   * Checks if the budget is exhausted, no more fixes should be evaluated afterward.
+   *
+   * @return true, if any of the configured limits is reached.
+   */
+  public boolean isExhausted() {
+    return (maxWallTime > 0 && getElapsedTime() >= maxWallTime)
+        || (maxBuilds > 0 && log.getRequestedBuilds() >= maxBuilds);
+  }
+
+  /**
+   * Returns the wall clock time elapsed since the start of the run.
+   *
+   * @return Elapsed time in milliseconds.
+   */
+  public long getElapsedTime() {
+    return System.currentTimeMillis() - start;
+  }
+
+  /**
+   * Returns the json representation of the budget and its consumption.
+   *
+   * @return Json object containing limits and consumed resources.
+   */
+  public JsonObject getJson() {
+    JsonObject json = new JsonObject();
+    json.addProperty("MAX WALL TIME", maxWallTime);
+    json.addProperty("MAX BUILDS", maxBuilds);
+    json.addProperty("ELAPSED TIME", getElapsedTime());
+    json.addProperty("BUILDS", log.getRequestedBuilds());
+    json.addProperty("EXHAUSTED", isExhausted());
+    return json;
+  }
+}
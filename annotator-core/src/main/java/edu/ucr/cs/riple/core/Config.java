@@ -45,6 +45,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -177,6 +178,86 @@ public class Config {
   /** Language level to use when parsing Java code. Defaults to Java 17. */
   public final ParserConfiguration.LanguageLevel languageLevel;
 
+  /**
+   * Directory where outputs of all builds requested during the run (checker builds of the target
+   * module and downstream dependencies, and scanner builds) are recorded. If {@code null}, outputs
+   * are not recorded. See {@link edu.ucr.cs.riple.core.util.BuildTrace}.
+   */
+  public final Path recordBuildTraceDir;
+
+  /**
+   * Directory of previously recorded build outputs. If not {@code null}, no build is executed and
+   * outputs of all builds are served from this directory instead. See {@link
+   * edu.ucr.cs.riple.core.util.BuildTrace}.
+   */
+  public final Path replayBuildTraceDir;
+
+  /**
+   * Interval in seconds between two snapshots of metrics written in the output directory during
+   * the run. Metrics are always written at the end of the run, non-positive values disable
+   * periodic snapshots.
+   */
+  public final int metricsSnapshotInterval;
+
+  /**
+   * Path where a flight recording of the run is written. If not {@code null}, a recording is
+   * started automatically at the beginning of the run and written to this path at the end.
+   */
+  public final Path flightRecordingPath;
+
+  /**
+   * If activated, no annotation is injected. Annotator only builds the target module once, prepares
+   * the conflict graph of the first iteration and reports the predicted number of builds and the
+   * projected wall clock time of the run.
+   */
+  public final boolean dryRun;
+
+  /**
+   * Maximum wall clock time of the run in seconds. Once exceeded, no further fix is evaluated and
+   * Annotator stops after injecting fixes approved so far. Non-positive values disable the limit.
+   */
+  public final long maxWallTime;
+
+  /**
+   * Maximum number of builds of the run. Once reached, no further fix is evaluated and Annotator
+   * stops after injecting fixes approved so far. Non-positive values disable the limit.
+   */
+  public final int maxBuilds;
+
+  /**
+   * If activated, the final iteration including all fixes only evaluates again the reports and
+   * impacts invalidated by fixes injected after their evaluation, and reuses the rest.
+   */
+  public final boolean verifyFinalIteration;
+
+  /**
+   * If activated, the scanner serializes its outputs in the compact binary format of {@link
+   * edu.ucr.cs.riple.scanner.BinaryTable} instead of TSV.
+   */
+  public final boolean binaryScannerOutput;
+
+  /**
+   * If activated, records of impacted regions are stored off-heap in memory-mapped files sorted by
+   * the used member and are looked up by binary search, instead of being held on heap.
+   */
+  public final boolean offHeapRegions;
+
+  /**
+   * If activated, each compilation running the scanner writes its outputs to a shard of its own,
+   * see {@link edu.ucr.cs.riple.scanner.ScannerShards}. Shards are merged while loading, which
+   * makes parallel compilations in scanner builds safe.
+   */
+  public final boolean shardedScannerOutput;
+
+  /** Charset used to read and write source files while injecting annotations. */
+  public final Charset sourceCharset;
+
+  /**
+   * If activated, source files modified by each injection are forced to the storage device in a
+   * single batch before replacing the original files.
+   */
+  public final boolean syncWrites;
+
   /**
    * Builds context from command line arguments.
    *
@@ -382,6 +463,134 @@ public class Config {
     languageLevelOption.setRequired(false);
     options.addOption(languageLevelOption);
 
+    // Build trace record
+    Option recordBuildTraceOption =
+        new Option(
+            "rbt",
+            "record-build-trace",
+            true,
+            "Records outputs of all builds (including baseline and scanner builds) in the given directory");
+    recordBuildTraceOption.setRequired(false);
+    options.addOption(recordBuildTraceOption);
+
+    // Build trace replay
+    Option replayBuildTraceOption =
+        new Option(
+            "pbt",
+            "replay-build-trace",
+            true,
+            "Serves outputs of all builds (including baseline and scanner builds) from a recorded build trace in the given directory instead of building");
+    replayBuildTraceOption.setRequired(false);
+    options.addOption(replayBuildTraceOption);
+
+    // Metrics snapshot interval
+    Option metricsSnapshotIntervalOption =
+        new Option(
+            "msi",
+            "metrics-snapshot-interval",
+            true,
+            "Writes snapshots of metrics in the output directory periodically with the given interval in seconds");
+    metricsSnapshotIntervalOption.setRequired(false);
+    options.addOption(metricsSnapshotIntervalOption);
+
+    // Flight recording
+    Option flightRecordingOption =
+        new Option(
+            "jfr",
+            "flight-recording",
+            true,
+            "Records the run with JDK Flight Recorder and writes the recording to the given path");
+    flightRecordingOption.setRequired(false);
+    options.addOption(flightRecordingOption);
+
+    // Dry run
+    Option dryRunOption =
+        new Option(
+            "dr",
+            "dry-run",
+            false,
+            "Estimates the number of builds and the wall clock time of the run without injecting any annotation");
+    dryRunOption.setRequired(false);
+    options.addOption(dryRunOption);
+
+    // Budget
+    Option maxWallTimeOption =
+        new Option(
+            "mwt",
+            "max-wall-time",
+            true,
+            "Stops evaluating fixes once the run exceeds the given wall clock time in seconds");
+    maxWallTimeOption.setRequired(false);
+    options.addOption(maxWallTimeOption);
+    Option maxBuildsOption =
+        new Option(
+            "mb",
+            "max-builds",
+            true,
+            "Stops evaluating fixes once the run reaches the given number of builds");
+    maxBuildsOption.setRequired(false);
+    options.addOption(maxBuildsOption);
+
+    // Verify final iteration
+    Option verifyFinalIterationOption =
+        new Option(
+            "vfi",
+            "verify-final-iteration",
+            false,
+            "Re-evaluates only invalidated reports in the final iteration including all fixes and reuses the rest");
+    verifyFinalIterationOption.setRequired(false);
+    options.addOption(verifyFinalIterationOption);
+
+    // Binary scanner output
+    Option binaryScannerOutputOption =
+        new Option(
+            "bso",
+            "binary-scanner-output",
+            false,
+            "Serializes outputs of the scanner in a compact binary format instead of TSV");
+    binaryScannerOutputOption.setRequired(false);
+    options.addOption(binaryScannerOutputOption);
+
+    // Off-heap regions
+    Option offHeapRegionsOption =
+        new Option(
+            "ohr",
+            "off-heap-regions",
+            false,
+            "Stores records of impacted regions off-heap in memory-mapped files instead of on heap");
+    offHeapRegionsOption.setRequired(false);
+    options.addOption(offHeapRegionsOption);
+
+    // Sharded scanner output
+    Option shardedScannerOutputOption =
+        new Option(
+            "sso",
+            "sharded-scanner-output",
+            false,
+            "Writes outputs of each compilation running the scanner to a shard of its own, allowing parallel scanner builds");
+    shardedScannerOutputOption.setRequired(false);
+    options.addOption(shardedScannerOutputOption);
+
+    // Source charset
+    Option sourceCharsetOption =
+        new Option(
+            "sc",
+            "source-charset",
+            true,
+            "Charset used to read and write source files while injecting annotations. Defaults to the platform charset.");
+    sourceCharsetOption.setRequired(false);
+    options.addOption(sourceCharsetOption);
+
+    // Sync writes
+    Option syncWritesOption =
+        new Option(
+            "sw",
+            "sync-writes",
+            false,
+            "Forces source files modified by each injection to the storage device before replacing the original files");
+    syncWritesOption.setRequired(false);
+    options.addOption(syncWritesOption);
+
     HelpFormatter formatter = new HelpFormatter();
     CommandLineParser parser = new DefaultParser();
     CommandLine cmd;
@@ -488,6 +697,33 @@ public class Config {
         !cmd.hasOption(nonnullAnnotationsOption)
             ? ImmutableSet.of()
             : ImmutableSet.copyOf(cmd.getOptionValue(nonnullAnnotationsOption).split(","));
+    this.recordBuildTraceDir =
+        cmd.hasOption(recordBuildTraceOption)
+            ? Paths.get(cmd.getOptionValue(recordBuildTraceOption))
+            : null;
+    this.replayBuildTraceDir =
+        cmd.hasOption(replayBuildTraceOption)
+            ? Paths.get(cmd.getOptionValue(replayBuildTraceOption))
+            : null;
+    checkBuildTraceDirectories();
+    this.metricsSnapshotInterval =
+        Integer.parseInt(cmd.getOptionValue(metricsSnapshotIntervalOption, "0"));
+    this.flightRecordingPath =
+        cmd.hasOption(flightRecordingOption)
+            ? Paths.get(cmd.getOptionValue(flightRecordingOption))
+            : null;
+    this.dryRun = cmd.hasOption(dryRunOption);
+    this.maxWallTime = Long.parseLong(cmd.getOptionValue(maxWallTimeOption, "0"));
+    this.maxBuilds = Integer.parseInt(cmd.getOptionValue(maxBuildsOption, "0"));
+    this.verifyFinalIteration = cmd.hasOption(verifyFinalIterationOption);
+    this.binaryScannerOutput = cmd.hasOption(binaryScannerOutputOption);
+    this.offHeapRegions = cmd.hasOption(offHeapRegionsOption);
+    this.shardedScannerOutput = cmd.hasOption(shardedScannerOutputOption);
+    this.sourceCharset =
+        cmd.hasOption(sourceCharsetOption)
+            ? Charset.forName(cmd.getOptionValue(sourceCharsetOption))
+            : Charset.defaultCharset();
+    this.syncWrites = cmd.hasOption(syncWritesOption);
   }
 
   /**
@@ -602,6 +838,52 @@ public class Config {
                 .getArrayValueFromKey(
                     "ANNOTATION:NONNULL", json -> json.get("NONNULL").getAsString())
                 .orElse(List.of()));
+    this.recordBuildTraceDir = getOptionalPathFromKey(parser, "BUILD_TRACE:RECORD");
+    this.replayBuildTraceDir = getOptionalPathFromKey(parser, "BUILD_TRACE:REPLAY");
+    checkBuildTraceDirectories();
+    this.metricsSnapshotInterval =
+        parser.getValueFromKey("METRICS:SNAPSHOT_INTERVAL").orElse(0).getAsInt();
+    this.flightRecordingPath = getOptionalPathFromKey(parser, "METRICS:FLIGHT_RECORDING");
+    this.dryRun = parser.getValueFromKey("DRY_RUN").orElse(false).getAsBoolean();
+    this.maxWallTime = parser.getValueFromKey("BUDGET:MAX_WALL_TIME").orElse(0).getAsLong();
+    this.maxBuilds = parser.getValueFromKey("BUDGET:MAX_BUILDS").orElse(0).getAsInt();
+    this.verifyFinalIteration =
+        parser.getValueFromKey("VERIFY_FINAL_ITERATION").orElse(false).getAsBoolean();
+    this.binaryScannerOutput =
+        parser.getValueFromKey("BINARY_SCANNER_OUTPUT").orElse(false).getAsBoolean();
+    this.offHeapRegions = parser.getValueFromKey("OFF_HEAP_REGIONS").orElse(false).getAsBoolean();
+    this.shardedScannerOutput =
+        parser.getValueFromKey("SHARDED_SCANNER_OUTPUT").orElse(false).getAsBoolean();
+    this.sourceCharset =
+        Charset.forName(
+            parser
+                .getValueFromKey("SOURCE_CHARSET")
+                .orElse(Charset.defaultCharset().name())
+                .getAsString());
+    this.syncWrites = parser.getValueFromKey("SYNC_WRITES").orElse(false).getAsBoolean();
+  }
+
+  /**
+   * Returns the path stored at the given key of the json config. {@link JsonParser.OrElse}
+   * serializes a {@code null} default value as the string {@code "null"}, hence absent keys are
+   * detected with an empty default value instead.
+   *
+   * @param parser Parser of the json config.
+   * @param key Key of the path in the form of "key1:key2".
+   * @return The path stored at the key, or {@code null} if the key is absent or empty.
+   */
+  @Nullable
+  private static Path getOptionalPathFromKey(JsonParser parser, String key) {
+    String value = parser.getValueFromKey(key).orElse("").getAsString();
+    return value.isEmpty() ? null : Paths.get(value);
+  }
+
+  /** Checks that recording and replaying build traces are not requested together. */
+  private void checkBuildTraceDirectories() {
+    if (recordBuildTraceDir != null && replayBuildTraceDir != null) {
+      throw new IllegalArgumentException(
+          "Cannot record and replay a build trace at the same time, set only one of them.");
+    }
   }
 
   /**
@@ -660,6 +942,19 @@ public class Config {
     public int depth = 1;
     public String checker;
     public ParserConfiguration.LanguageLevel languageLevel;
+    public Path recordBuildTraceDir;
+    public Path replayBuildTraceDir;
+    public int metricsSnapshotInterval = 0;
+    public Path flightRecordingPath;
+    public boolean dryRun = false;
+    public long maxWallTime = 0;
+    public int maxBuilds = 0;
+    public boolean verifyFinalIteration = false;
+    public boolean binaryScannerOutput = false;
+    public boolean offHeapRegions = false;
+    public boolean shardedScannerOutput = false;
+    public Charset sourceCharset = Charset.defaultCharset();
+    public boolean syncWrites = false;
 
     public void write(Path path) {
       Preconditions.checkNotNull(
@@ -725,6 +1020,31 @@ public class Config {
             processors.add(sourceType.name(), st);
           });
       json.add("PROCESSORS", processors);
+      JsonObject buildTrace = new JsonObject();
+      if (recordBuildTraceDir != null) {
+        buildTrace.addProperty("RECORD", recordBuildTraceDir.toString());
+      }
+      if (replayBuildTraceDir != null) {
+        buildTrace.addProperty("REPLAY", replayBuildTraceDir.toString());
+      }
+      json.add("BUILD_TRACE", buildTrace);
+      JsonObject metrics = new JsonObject();
+      metrics.addProperty("SNAPSHOT_INTERVAL", metricsSnapshotInterval);
+      if (flightRecordingPath != null) {
+        metrics.addProperty("FLIGHT_RECORDING", flightRecordingPath.toString());
+      }
+      json.add("METRICS", metrics);
+      json.addProperty("DRY_RUN", dryRun);
+      JsonObject budget = new JsonObject();
+      budget.addProperty("MAX_WALL_TIME", maxWallTime);
+      budget.addProperty("MAX_BUILDS", maxBuilds);
+      json.add("BUDGET", budget);
+      json.addProperty("VERIFY_FINAL_ITERATION", verifyFinalIteration);
+      json.addProperty("BINARY_SCANNER_OUTPUT", binaryScannerOutput);
+      json.addProperty("OFF_HEAP_REGIONS", offHeapRegions);
+      json.addProperty("SHARDED_SCANNER_OUTPUT", shardedScannerOutput);
+      json.addProperty("SOURCE_CHARSET", sourceCharset.name());
+      json.addProperty("SYNC_WRITES", syncWrites);
       try (BufferedWriter file =
           Files.newBufferedWriter(path.toFile().toPath(), Charset.defaultCharset())) {
         file.write(json.toString());
@@ -30,11 +30,11 @@ import edu.ucr.cs.riple.core.checkers.CheckerBaseClass;
 import edu.ucr.cs.riple.core.injectors.AnnotationInjector;
 import edu.ucr.cs.riple.core.injectors.PhysicalInjector;
 import edu.ucr.cs.riple.core.log.Log;
+import edu.ucr.cs.riple.core.metrics.Metrics;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
-import edu.ucr.cs.riple.injector.offsets.OffsetChange;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
@@ -53,6 +53,12 @@ public class Context {
   /** Log instance. Responsible for logging all the information about the build time and count. */
   public final Log log;
 
+  /** Budget of the run. Limits the wall clock time and number of builds spent on evaluation. */
+  public final Budget budget;
+
+  /** Metrics registry. Collects durations of phases, counters and cache statistics. */
+  public final Metrics metrics;
+
   /** Handler for computing the original offset of reported errors with existing changes. */
   public final OffsetHandler offsetHandler;
 
@@ -83,6 +89,8 @@ public class Context {
     this.offsetHandler = new OffsetHandler();
     this.downstreamConfigurations = config.downstreamConfigurations;
     this.log = new Log();
+    this.metrics = new Metrics();
+    this.budget = new Budget(config, log);
     this.targetConfiguration = config.target;
     this.checker = CheckerBaseClass.getCheckerByName(config.checkerName, this);
     this.targetModuleInfo = new ModuleInfo(this, config.target, config.buildCommand);
@@ -121,7 +129,23 @@ public class Context {
       if (!contents.containsKey(path)) {
         return offset;
       }
-      return OffsetChange.getOriginalOffset(offset, contents.get(path).getOffsetChanges());
+      return contents.get(path).getOriginalOffset(offset);
+    }
+
+    /**
+     * Gets the original offsets of all given offsets in a source file according to existing offset
+     * changes. Offsets are translated in a single pass and the result is in the same order as the
+     * given offsets.
+     *
+     * @param path Path to source file.
+     * @param offsets Given offsets.
+     * @return Original offsets.
+     */
+    public int[] getOriginalOffsets(Path path, int[] offsets) {
+      if (!contents.containsKey(path)) {
+        return offsets.clone();
+      }
+      return contents.get(path).getOriginalOffsets(offsets);
     }
 
     /**
@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonObject;
+import edu.ucr.cs.riple.core.cache.downstream.DownstreamImpactCacheImpl;
+import edu.ucr.cs.riple.core.evaluators.graph.ConflictGraph;
+import edu.ucr.cs.riple.core.evaluators.graph.Node;
+import edu.ucr.cs.riple.core.evaluators.suppliers.DownstreamDependencySupplier;
+import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.util.Utility;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+
+/**
+ * Estimates the cost of a run without injecting any annotation. Builds the target module once to
+ * sample the build time and collect the initial set of fixes, then prepares the conflict graph of
+ * the first iteration the same way the configured evaluator and processor would and counts the
+ * builds needed to process it. The projection assumes every level of the search requires the same
+ * number of builds as the first one, which is an upper bound in practice as bailout and caching
+ * shrink the graph in deeper levels, and covers a single iteration of the outer loop.
+ */
+public class DryRun {
+
+  /** Annotator context. */
+  private final Context context;
+
+  /** Annotator configuration. */
+  private final Config config;
+
+  public DryRun(Context context) {
+    this.context = context;
+    this.config = context.config;
+  }
+
+  /**
+   * Computes the estimate, prints it and writes it in json format in estimate.json file in the
+   * output directory.
+   *
+   * @return Json representation of the estimate.
+   */
+  public JsonObject estimate() {
+    System.out.println("Estimating the cost of the run (dry run)...");
+    JsonObject result = new JsonObject();
+    result.addProperty("DEPTH", config.depth);
+    result.addProperty("ANALYSIS MODE", config.mode.name());
+    result.addProperty("PARALLEL PROCESSING", config.useParallelGraphProcessor);
+    result.addProperty("IMPACT CACHE", config.useImpactCache);
+
+    long timer = System.currentTimeMillis();
+    Utility.buildTarget(context);
+    long targetBuildTime = System.currentTimeMillis() - timer;
+    ImmutableSet<Fix> fixes =
+        ImmutableSet.copyOf(
+            Utility.readFixesFromOutputDirectory(context, context.targetModuleInfo));
+    int targetBuildsPerLevel =
+        countBuildsPerLevel(fixes, context.targetModuleInfo, !config.useImpactCache);
+    long targetBuilds = (long) targetBuildsPerLevel * config.depth;
+    result.addProperty("FIXES", fixes.size());
+    result.addProperty("SAMPLED BUILD TIME", targetBuildTime);
+    result.addProperty("BUILDS PER LEVEL", targetBuildsPerLevel);
+    result.addProperty("BUILDS", targetBuilds);
+    long projectedTime = targetBuilds * targetBuildTime;
+
+    if (config.downStreamDependenciesAnalysisActivated) {
+      // Downstream dependencies are analyzed once, at depth 1, with one node per public API.
+      DownstreamDependencySupplier supplier = new DownstreamDependencySupplier(context);
+      ImmutableSet<Fix> downstreamFixes =
+          new DownstreamImpactCacheImpl(context).getFixesToAnalyze(supplier.getModuleInfo());
+      timer = System.currentTimeMillis();
+      Utility.buildDownstreamDependencies(context);
+      long downstreamBuildTime = System.currentTimeMillis() - timer;
+      int downstreamBuilds = countBuildsPerLevel(downstreamFixes, supplier.getModuleInfo(), true);
+      result.addProperty("DOWNSTREAM FIXES", downstreamFixes.size());
+      result.addProperty("DOWNSTREAM SAMPLED BUILD TIME", downstreamBuildTime);
+      result.addProperty("DOWNSTREAM BUILDS", downstreamBuilds);
+      projectedTime += downstreamBuilds * downstreamBuildTime;
+    }
+    result.addProperty("PROJECTED TIME", projectedTime);
+    print(result);
+    write(result);
+    return result;
+  }
+
+  /**
+   * Prepares the conflict graph for the first level of the search on the given fixes and returns
+   * the number of builds required to process it with the configured processor.
+   *
+   * @param fixes Fixes to evaluate.
+   * @param moduleInfo Module the fixes are evaluated on.
+   * @param includeTree If true, each node contains the entire fix tree of its root including fixes
+   *     propagated to generated code as in {@link
+   *     edu.ucr.cs.riple.core.evaluators.BasicEvaluator}, otherwise each node contains only its
+   *     root as in {@link edu.ucr.cs.riple.core.evaluators.CachedEvaluator}.
+   * @return Number of builds.
+   */
+  private int countBuildsPerLevel(
+      ImmutableSet<Fix> fixes, ModuleInfo moduleInfo, boolean includeTree) {
+    ConflictGraph graph = new ConflictGraph();
+    for (Fix fix : fixes) {
+      Node node = graph.addNodeToVertices(fix);
+      if (includeTree) {
+        Report report = new Report(fix, 1);
+        report.reflectAnnotationProcessorChangesOnSourceCode(moduleInfo);
+        node.tree.addAll(report.tree);
+      }
+    }
+    if (graph.isEmpty()) {
+      return 0;
+    }
+    if (!config.useParallelGraphProcessor) {
+      return (int) graph.getNodes().count();
+    }
+    graph
+        .getNodes()
+        .forEach(node -> node.reCollectPotentiallyImpactedRegions(moduleInfo.getRegionRegistry()));
+    graph.findGroups();
+    return graph.getGroups().size();
+  }
+
+  /**
+   * Prints the estimate in a human-readable format.
+   *
+   * @param result Json representation of the estimate.
+   */
+  private static void print(JsonObject result) {
+    System.out.println(
+        result.entrySet().stream()
+            .map(entry -> entry.getKey() + ": " + entry.getValue())
+            .collect(Collectors.joining("\n", "Dry run estimate:\n", "")));
+    long seconds = result.get("PROJECTED TIME").getAsLong() / 1000;
+    System.out.printf(
+        "Projected wall clock time for one iteration: %dh %dm %ds%n",
+        seconds / 3600, (seconds % 3600) / 60, seconds % 60);
+  }
+
+  /**
+   * Writes the estimate in estimate.json file in the output directory.
+   *
+   * @param result Json representation of the estimate.
+   */
+  private void write(JsonObject result) {
+    Path path = config.globalDir.resolve("estimate.json");
+    try (BufferedWriter writer = Files.newBufferedWriter(path, Charset.defaultCharset())) {
+      writer.write(result.toString());
+      writer.flush();
+    } catch (IOException e) {
+      throw new RuntimeException("Could not create the Annotator estimate json file: " + path, e);
+    }
+  }
+}
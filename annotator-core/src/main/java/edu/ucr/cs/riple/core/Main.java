@@ -24,6 +24,7 @@
 
 package edu.ucr.cs.riple.core;
 
+import edu.ucr.cs.riple.core.metrics.FlightRecording;
 import java.nio.file.Paths;
 
 /** Starting point. */
@@ -42,7 +43,16 @@ public class Main {
     } else {
       config = new Config(args);
     }
-    Annotator annotator = new Annotator(config);
-    annotator.start();
+    // Started before creating the annotator to include the initial builds and registry loads.
+    FlightRecording recording =
+        config.flightRecordingPath == null ? null : new FlightRecording(config.flightRecordingPath);
+    try {
+      Annotator annotator = new Annotator(config);
+      annotator.start();
+    } finally {
+      if (recording != null) {
+        recording.stop();
+      }
+    }
   }
 }
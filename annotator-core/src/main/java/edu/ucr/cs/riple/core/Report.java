@@ -27,6 +27,7 @@ package edu.ucr.cs.riple.core;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import edu.ucr.cs.riple.core.cache.downstream.DownstreamImpactCache;
+import edu.ucr.cs.riple.core.log.Cost;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
@@ -65,6 +66,15 @@ public class Report {
   /** If true, this report's tree has been processed for at least one iteration */
   public boolean hasBeenProcessedOnce;
 
+  /**
+   * If true, this report's tree was never evaluated since the budget was exhausted before its
+   * evaluation. Such reports are never approved.
+   */
+  public boolean skippedByBudget;
+
+  /** Cost of evaluating this report's tree, accumulated over all iterations. */
+  public final Cost cost;
+
   /**
    * Lower bound of number of errors in downstream dependencies if fix tree is applied to the target
    * module.
@@ -93,11 +103,13 @@ public class Report {
     this.root = root;
     this.tree = Sets.newHashSet(root);
     this.hasBeenProcessedOnce = false;
+    this.skippedByBudget = false;
     this.triggeredFixesFromDownstreamErrors = ImmutableSet.of();
     this.triggeredErrors = ImmutableSet.of();
     this.lowerBoundEffectOnDownstreamDependencies = 0;
     this.upperBoundEffectOnDownstreamDependencies = 0;
     this.tag = Tag.REJECT;
+    this.cost = new Cost();
   }
 
   /**
@@ -25,9 +25,18 @@
 package edu.ucr.cs.riple.core;
 
 import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.cache.InjectionHistory;
+import edu.ucr.cs.riple.core.metrics.CacheStatistics;
 import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.CompoundRegionRegistry;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /** Reports cache. Used to detect fixes that has already been processed. */
 public class ReportCache {
@@ -48,10 +57,29 @@ public class ReportCache {
    */
   private boolean stateUpdated;
 
-  public ReportCache(Config config) {
+  /** Hit and miss statistics of lookups while the cache is enabled. */
+  private final CacheStatistics statistics;
+
+  /**
+   * Roots of stored reports which are invalidated by changes in their footprint and should be
+   * evaluated again once suggested. Their reports are kept until replaced.
+   */
+  private final Set<Fix> stale;
+
+  /** History of injected fixes, used to validate stored reports. */
+  private final InjectionHistory history;
+
+  /** Version of the injection history each stored report is computed at. */
+  private final Map<Fix, Integer> versions;
+
+  public ReportCache(Config config, InjectionHistory history) {
     this.store = new HashMap<>();
     this.enabled = config.useCache;
     this.stateUpdated = true;
+    this.statistics = new CacheStatistics();
+    this.stale = new HashSet<>();
+    this.history = history;
+    this.versions = new HashMap<>();
   }
 
   /**
@@ -64,7 +92,9 @@ public class ReportCache {
     if (!enabled) {
       return false;
     }
-    return store.containsKey(fix);
+    boolean processed = store.containsKey(fix) && !stale.contains(fix);
+    statistics.record(processed);
+    return processed;
   }
 
   /**
@@ -74,8 +104,18 @@ public class ReportCache {
    */
   public void update(ImmutableSet<Report> reports) {
     int size = store.keySet().size();
-    reports.forEach(report -> store.put(report.root, report));
-    if (size == store.keySet().size()) {
+    boolean refreshed =
+        stale.removeAll(reports.stream().map(report -> report.root).collect(Collectors.toSet()));
+    reports.forEach(
+        report -> {
+          Report previous = store.put(report.root, report);
+          versions.put(report.root, history.getVersion());
+          // Keep the cost of evaluating the same root in previous iterations.
+          if (previous != null && previous != report) {
+            report.cost.add(previous.cost, 1);
+          }
+        });
+    if (size == store.keySet().size() && !refreshed) {
       stateUpdated = false;
     }
   }
@@ -89,6 +129,41 @@ public class ReportCache {
     return stateUpdated;
   }
 
+  /**
+   * Marks stored reports which are not approved and whose footprint intersects the regions changed
+   * by fixes injected after the report was computed as stale. Used to verify the reports in the
+   * final iteration, only stale reports are evaluated again and the rest are reused.
+   *
+   * @param regionRegistry Region registry to compute the footprint of reports.
+   * @return Number of reports marked as stale.
+   */
+  public int invalidateReportsChangedSinceEvaluation(CompoundRegionRegistry regionRegistry) {
+    List<Set<Region>> changed = history.computeChangedRegionsSinceEachVersion(regionRegistry);
+    int size = stale.size();
+    store.values().stream()
+        .filter(report -> !report.approved())
+        .filter(
+            report -> {
+              Set<Region> changedRegions = changed.get(versions.getOrDefault(report.root, 0));
+              return !changedRegions.isEmpty()
+                  && !Collections.disjoint(
+                      regionRegistry.getImpactedRegions(report.tree), changedRegions);
+            })
+        .forEach(report -> stale.add(report.root));
+    return stale.size() - size;
+  }
+
+  /**
+   * Returns the version of the injection history the stored report of the given root is computed
+   * at. See {@link InjectionHistory#getVersion()}.
+   *
+   * @param root Root of the stored report.
+   * @return Version of the injection history, or {@code -1} if no report is stored for the root.
+   */
+  public int getVersion(Fix root) {
+    return versions.getOrDefault(root, -1);
+  }
+
   /** Enables cache. */
   public void enable() {
     this.enabled = true;
@@ -107,4 +182,13 @@ public class ReportCache {
   public ImmutableSet<Report> reports() {
     return ImmutableSet.copyOf(store.values());
   }
+
+  /**
+   * Returns hit and miss statistics of lookups in this cache.
+   *
+   * @return Statistics of this cache.
+   */
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
 }
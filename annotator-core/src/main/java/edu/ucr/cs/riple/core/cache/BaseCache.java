@@ -25,6 +25,7 @@
 package edu.ucr.cs.riple.core.cache;
 
 import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.metrics.CacheStatistics;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import java.util.Collection;
@@ -43,19 +44,35 @@ public abstract class BaseCache<T extends Impact, S extends Map<Fix, T>> impleme
   /** Container holding cache entries. */
   protected final S store;
 
+  /**
+   * Inverted index from fixes to stored impacts referencing them. Entries must be added and
+   * removed through {@link #putImpact(Impact)} and {@link #removeImpact(Fix)} to keep it in sync
+   * with the store.
+   */
+  protected final ImpactIndex<T> index;
+
+  /** Hit and miss statistics of lookups in this cache. */
+  protected final CacheStatistics statistics;
+
   public BaseCache(S store) {
     this.store = store;
+    this.index = new ImpactIndex<>();
+    this.statistics = new CacheStatistics();
   }
 
   @Override
   public boolean isUnknown(Fix fix) {
-    return !this.store.containsKey(fix);
+    boolean unknown = !this.store.containsKey(fix);
+    statistics.record(!unknown);
+    return unknown;
   }
 
   @Nullable
   @Override
   public T fetchImpact(Fix fix) {
-    return store.get(fix);
+    T impact = store.get(fix);
+    statistics.record(impact != null);
+    return impact;
   }
 
   @Override
@@ -88,7 +105,38 @@ public abstract class BaseCache<T extends Impact, S extends Map<Fix, T>> impleme
 
   @Override
   public void updateImpactsAfterInjection(Collection<Fix> fixes) {
-    this.store.values().forEach(impact -> impact.updateStatusAfterInjection(fixes));
+    // Only impacts with a triggered error resolvable by the injected fixes can change.
+    this.index
+        .getImpactsReferencing(fixes)
+        .forEach(impact -> impact.updateStatusAfterInjection(fixes));
+  }
+
+  /**
+   * Stores the given impact, replacing the impact stored for the same fix.
+   *
+   * @param impact Impact to store.
+   */
+  protected void putImpact(T impact) {
+    removeImpact(impact.fix);
+    store.put(impact.fix, impact);
+    index.add(impact);
+  }
+
+  /**
+   * Removes the impact stored for the given fix.
+   *
+   * @param fix Fix of the impact to remove.
+   */
+  protected void removeImpact(Fix fix) {
+    T previous = store.remove(fix);
+    if (previous != null) {
+      index.remove(previous);
+    }
+  }
+
+  @Override
+  public CacheStatistics getStatistics() {
+    return statistics;
   }
 
   @Override
@@ -25,6 +25,7 @@
 package edu.ucr.cs.riple.core.cache;
 
 import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.metrics.CacheStatistics;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import java.util.Collection;
@@ -78,6 +79,13 @@ public interface ImpactCache<T extends Impact> {
    */
   ImmutableSet<Error> getTriggeredErrorsForCollection(Collection<Fix> fixes);
 
+  /**
+   * Returns hit and miss statistics of lookups in this cache.
+   *
+   * @return Statistics of this cache.
+   */
+  CacheStatistics getStatistics();
+
   /**
    * Returns Set of fixes on downstream dependencies that will be triggered if given fixes are
    * applied to target module.
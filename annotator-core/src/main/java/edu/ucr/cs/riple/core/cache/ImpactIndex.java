@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.cache;
+
+import com.google.common.collect.MultimapBuilder;
+import com.google.common.collect.SetMultimap;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Inverted index from fixes to the impacts referencing them. An impact references its own fix and
+ * every resolving fix of its triggered errors. Used by {@link ImpactCache} implementations to
+ * touch only the impacts affected by a set of injected fixes instead of every stored impact.
+ *
+ * <p>Since triggered errors of impacts only shrink after injections, the index may contain stale
+ * references which are harmless, as affected impacts are a superset of the impacts that actually
+ * change.
+ *
+ * @param <T> Type of indexed impacts.
+ */
+public class ImpactIndex<T extends Impact> {
+
+  /** Map of fixes to impacts referencing them. */
+  private final SetMultimap<Fix, T> index;
+
+  /** Map of impacts to fixes they are indexed with, used to remove impacts from the index. */
+  private final SetMultimap<T, Fix> keys;
+
+  public ImpactIndex() {
+    this.index = MultimapBuilder.hashKeys().hashSetValues().build();
+    this.keys = MultimapBuilder.hashKeys().hashSetValues().build();
+  }
+
+  /**
+   * Adds the given impact to the index. An impact with the same fix must be removed beforehand.
+   *
+   * @param impact Impact to index.
+   */
+  public void add(T impact) {
+    index(impact.fix, impact);
+    impact.getTriggeredErrors().stream()
+        .flatMap(Error::getResolvingFixesStream)
+        .forEach(fix -> index(fix, impact));
+  }
+
+  /**
+   * Removes the given impact from the index.
+   *
+   * @param impact Impact to remove.
+   */
+  public void remove(T impact) {
+    keys.removeAll(impact).forEach(fix -> index.remove(fix, impact));
+  }
+
+  /**
+   * Returns the set of impacts referencing any of the given fixes.
+   *
+   * @param fixes Collection of fixes.
+   * @return Set of impacts which may be affected by the given fixes.
+   */
+  public Set<T> getImpactsReferencing(Collection<Fix> fixes) {
+    Set<T> impacts = new HashSet<>();
+    fixes.forEach(fix -> impacts.addAll(index.get(fix)));
+    return impacts;
+  }
+
+  /** Removes all impacts from the index. */
+  public void clear() {
+    index.clear();
+    keys.clear();
+  }
+
+  /**
+   * Records the reference of the given impact to the given fix.
+   *
+   * @param fix Referenced fix.
+   * @param impact Referencing impact.
+   */
+  private void index(Fix fix, T impact) {
+    index.put(fix, impact);
+    keys.put(impact, fix);
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.cache;
+
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.CompoundRegionRegistry;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records fixes injected permanently in each iteration. Caches tag their entries with the version
+ * of the history they are computed at, and use the history to find the regions changed by fixes
+ * injected afterward to decide whether an entry is still valid.
+ */
+public class InjectionHistory {
+
+  /** Fixes injected in each iteration, in order of injection. */
+  private final List<ImmutableSet<Fix>> injections;
+
+  public InjectionHistory() {
+    this.injections = new ArrayList<>();
+  }
+
+  /**
+   * Records fixes injected permanently in an iteration.
+   *
+   * @param fixes Injected fixes.
+   */
+  public void record(Collection<Fix> fixes) {
+    injections.add(ImmutableSet.copyOf(fixes));
+  }
+
+  /**
+   * Returns the current version of the history. Entries computed now are invalidated only by fixes
+   * recorded afterward.
+   *
+   * @return Number of recorded injections.
+   */
+  public int getVersion() {
+    return injections.size();
+  }
+
+  /**
+   * Computes the regions changed since each version of the history. The element at index {@code
+   * v} of the returned list is the set of regions where fixes injected at or after version {@code
+   * v} can introduce new errors, the last element is always empty.
+   *
+   * @param regionRegistry Region registry to compute the footprint of injected fixes.
+   * @return List of changed regions since each version, indexed by version.
+   */
+  public List<Set<Region>> computeChangedRegionsSinceEachVersion(
+      CompoundRegionRegistry regionRegistry) {
+    List<Set<Region>> changed = new ArrayList<>(injections.size() + 1);
+    Set<Region> current = new HashSet<>();
+    changed.add(ImmutableSet.of());
+    for (int i = injections.size() - 1; i >= 0; i--) {
+      current.addAll(regionRegistry.getImpactedRegions(injections.get(i)));
+      changed.add(ImmutableSet.copyOf(current));
+    }
+    // reverse so that the element at index v contains the changes after version v.
+    Collections.reverse(changed);
+    return changed;
+  }
+}
@@ -24,9 +24,18 @@
 
 package edu.ucr.cs.riple.core.cache;
 
+import com.google.common.collect.ImmutableMap;
+import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.CompoundRegionRegistry;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * Cache for storing impacts of fixes on target module. This cache's state is not immutable and can
@@ -34,8 +43,32 @@ import java.util.Set;
  */
 public class TargetModuleCache extends BaseCache<Impact, HashMap<Fix, Impact>> {
 
+  /** History of injected fixes, used to validate stored impacts. */
+  private final InjectionHistory history;
+
+  /** Version of the injection history each stored impact is computed at. */
+  private final Map<Fix, Integer> versions;
+
+  /**
+   * Target module, used to validate stored impacts against changes to the source code of their
+   * footprint which are not recorded in the injection history. {@code null} if stored impacts are
+   * not validated against the source code.
+   */
+  @Nullable private final ModuleInfo moduleInfo;
+
+  /** Fingerprints of the regions in the footprint of each stored impact when it is computed. */
+  private final Map<Fix, ImmutableMap<Region, Long>> fingerprints;
+
   public TargetModuleCache() {
+    this(new InjectionHistory(), null);
+  }
+
+  public TargetModuleCache(InjectionHistory history, @Nullable ModuleInfo moduleInfo) {
     super(new HashMap<>());
+    this.history = history;
+    this.versions = new HashMap<>();
+    this.moduleInfo = moduleInfo;
+    this.fingerprints = new HashMap<>();
   }
 
   /**
@@ -44,6 +77,60 @@ public class TargetModuleCache extends BaseCache<Impact, HashMap<Fix, Impact>> {
    * @param newData New given impacts.
    */
   public void updateCacheState(Set<Impact> newData) {
-    newData.forEach(t -> store.put(t.fix, t));
+    int version = history.getVersion();
+    newData.forEach(
+        t -> {
+          putImpact(t);
+          versions.put(t.fix, version);
+          if (moduleInfo != null) {
+            Set<Region> footprint =
+                moduleInfo.getRegionRegistry().getImpactedRegions(List.of(t.fix));
+            fingerprints.put(t.fix, moduleInfo.getRegionFingerprints().getFingerprints(footprint));
+          }
+        });
+  }
+
+  /**
+   * Removes impacts of fixes whose footprint intersects the regions changed by fixes injected
+   * after the impact was computed. If a target module is given, impacts whose footprint has a
+   * different source text than when the impact was computed are removed as well, see {@link
+   * edu.ucr.cs.riple.core.registries.region.RegionFingerprints}. The remaining impacts are still
+   * valid and are kept.
+   *
+   * @param regionRegistry Region registry to compute the footprint of fixes.
+   * @return Number of removed impacts.
+   */
+  public int invalidateImpactsChangedSinceComputation(CompoundRegionRegistry regionRegistry) {
+    List<Set<Region>> changed = history.computeChangedRegionsSinceEachVersion(regionRegistry);
+    Set<Fix> invalidated =
+        store.keySet().stream()
+            .filter(
+                fix -> {
+                  Set<Region> changedRegions = changed.get(versions.getOrDefault(fix, 0));
+                  return (!changedRegions.isEmpty()
+                          && !Collections.disjoint(
+                              regionRegistry.getImpactedRegions(List.of(fix)), changedRegions))
+                      || isSourceChanged(fix);
+                })
+            .collect(Collectors.toSet());
+    invalidated.forEach(this::removeImpact);
+    versions.keySet().retainAll(store.keySet());
+    fingerprints.keySet().retainAll(store.keySet());
+    return invalidated.size();
+  }
+
+  /**
+   * Checks if the source text of any region in the footprint of the impact of the given fix is
+   * changed since the impact was computed. Annotations injected by Annotator are not considered
+   * changes, as they are already tracked by the injection history.
+   *
+   * @param fix Fix of the stored impact.
+   * @return true, if the source text of the footprint is changed.
+   */
+  private boolean isSourceChanged(Fix fix) {
+    ImmutableMap<Region, Long> snapshot = fingerprints.get(fix);
+    return moduleInfo != null
+        && snapshot != null
+        && !moduleInfo.getRegionFingerprints().isUnchanged(snapshot);
   }
 }
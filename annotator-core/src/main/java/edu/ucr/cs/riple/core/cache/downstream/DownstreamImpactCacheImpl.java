@@ -112,25 +112,32 @@ public class DownstreamImpactCacheImpl
     return locationsToCache.build();
   }
 
+  /**
+   * Returns the fixes whose impacts on downstream dependencies are computed by {@link
+   * #analyzeDownstreamDependencies()}, making each public API with a non-primitive type which is
+   * used in downstream dependencies {@code @Nullable}.
+   *
+   * @param moduleInfo Module info of the downstream dependencies.
+   * @return Immutable set of fixes to analyze.
+   */
+  public ImmutableSet<Fix> getFixesToAnalyze(ModuleInfo moduleInfo) {
+    return retrieveLocationsToCacheImpactsOnDownstreamDependencies(context, moduleInfo).stream()
+        .map(location -> new Fix(new AddMarkerAnnotation(location, context.config.nullableAnnot)))
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
   @Override
   public void analyzeDownstreamDependencies() {
     System.out.println("Analyzing downstream dependencies...");
     DownstreamDependencySupplier supplier = new DownstreamDependencySupplier(context);
-    // Generate fixes corresponding methods.
-    ImmutableSet<Fix> fixes =
-        retrieveLocationsToCacheImpactsOnDownstreamDependencies(context, supplier.getModuleInfo())
-            .stream()
-            .map(
-                location ->
-                    new Fix(new AddMarkerAnnotation(location, context.config.nullableAnnot)))
-            .collect(ImmutableSet.toImmutableSet());
+    ImmutableSet<Fix> fixes = getFixesToAnalyze(supplier.getModuleInfo());
     DownstreamImpactEvaluator evaluator = new DownstreamImpactEvaluator(supplier);
     ImmutableSet<Report> reports = evaluator.evaluate(fixes);
     // Update method status based on the results.
     reports.forEach(
         report -> {
           DownstreamImpact impact = new DownstreamImpact(report);
-          store.put(report.root, impact);
+          putImpact(impact);
         });
     System.out.println("Analyzing downstream dependencies completed!");
   }
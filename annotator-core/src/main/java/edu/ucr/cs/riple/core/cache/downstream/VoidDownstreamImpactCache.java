@@ -25,6 +25,7 @@
 package edu.ucr.cs.riple.core.cache.downstream;
 
 import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.metrics.CacheStatistics;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import java.util.Collection;
@@ -38,6 +39,9 @@ import javax.annotation.Nullable;
  */
 public class VoidDownstreamImpactCache implements DownstreamImpactCache {
 
+  /** Statistics of this cache, no lookup is recorded as nothing is stored. */
+  private final CacheStatistics statistics = new CacheStatistics();
+
   @Override
   public void analyzeDownstreamDependencies() {
     // No operation needed.
@@ -82,6 +86,11 @@ public class VoidDownstreamImpactCache implements DownstreamImpactCache {
     return ImmutableSet.of();
   }
 
+  @Override
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
   @Override
   public ImmutableSet<Fix> getTriggeredFixesFromDownstreamForCollection(Collection<Fix> fixes) {
     return ImmutableSet.of();
@@ -29,12 +29,14 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.checkers.CheckerBaseClass;
+import edu.ucr.cs.riple.core.metrics.Phase;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.field.FieldInitializationStore;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.core.util.TsvReader;
 import edu.ucr.cs.riple.core.util.Utility;
 import edu.ucr.cs.riple.injector.Printer;
 import edu.ucr.cs.riple.injector.changes.AddAnnotation;
@@ -44,13 +46,16 @@ import edu.ucr.cs.riple.injector.changes.AddTypeUseMarkerAnnotation;
 import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.location.OnField;
 import edu.ucr.cs.riple.injector.location.OnParameter;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -72,45 +77,79 @@ public class NullAway extends CheckerBaseClass<NullAwayError> {
 
   @Override
   public Set<NullAwayError> deserializeErrors(ModuleInfo module) {
+    long timer = context.metrics.startTimer();
     ImmutableSet<Path> paths =
         module.getModuleConfiguration().stream()
             .map(configuration -> configuration.dir.resolve("errors.tsv"))
             .collect(ImmutableSet.toImmutableSet());
-    Set<NullAwayError> errors = new HashSet<>();
+    List<String[]> rows = new ArrayList<>();
     paths.forEach(
         path -> {
-          try {
-            try (BufferedReader br = Files.newBufferedReader(path, Charset.defaultCharset())) {
-              String line;
-              // Skip header.
-              br.readLine();
-              while ((line = br.readLine()) != null) {
-                errors.add(deserializeErrorFromTSVLine(module, line));
-              }
+          try (TsvReader reader = new TsvReader(path)) {
+            // Skip header.
+            reader.skip();
+            while (reader.next()) {
+              String[] values = reader.fields();
+              Preconditions.checkArgument(
+                  values.length == 12,
+                  "Expected 12 values to create Error instance in NullAway serialization version 2 but found: "
+                      + values.length);
+              // Rows are retained until all offsets are translated.
+              rows.add(values.clone());
             }
           } catch (IOException e) {
             throw new RuntimeException("Exception happened in reading errors at: " + path, e);
           }
         });
+    int[] originalOffsets = computeOriginalOffsets(module.getContext(), rows);
+    Set<NullAwayError> errors = new HashSet<>();
+    for (int i = 0; i < rows.size(); i++) {
+      errors.add(deserializeErrorFromTSVValues(module, rows.get(i), originalOffsets[i]));
+    }
+    context.metrics.stopTimer(Phase.ERROR_DESERIALIZATION, timer);
+    context.metrics.counter("deserialized_errors").add(rows.size());
     return errors;
   }
 
   /**
-   * Deserializes an error from a TSV line.
+   * Computes the original offsets of all serialized errors. Offsets are grouped by source file and
+   * each file is translated in a single pass.
+   *
+   * @param context Annotator context.
+   * @param rows Values of serialized errors.
+   * @return Original offsets, where the element at index {@code i} corresponds to {@code
+   *     rows.get(i)}.
+   */
+  private static int[] computeOriginalOffsets(Context context, List<String[]> rows) {
+    Map<Path, List<Integer>> rowsBySourceFile = new HashMap<>();
+    for (int i = 0; i < rows.size(); i++) {
+      rowsBySourceFile
+          .computeIfAbsent(Printer.deserializePath(rows.get(i)[5]), k -> new ArrayList<>())
+          .add(i);
+    }
+    int[] originalOffsets = new int[rows.size()];
+    rowsBySourceFile.forEach(
+        (path, indices) -> {
+          int[] offsets =
+              indices.stream().mapToInt(i -> Integer.parseInt(rows.get(i)[4])).toArray();
+          int[] translated = context.offsetHandler.getOriginalOffsets(path, offsets);
+          for (int j = 0; j < translated.length; j++) {
+            originalOffsets[indices.get(j)] = translated[j];
+          }
+        });
+    return originalOffsets;
+  }
+
+  /**
+   * Deserializes an error from values of a TSV line.
    *
    * @param moduleInfo Module info.
-   * @param line Given TSV line.
+   * @param values Values of the TSV line.
+   * @param offset Offset of the error in the original version of the source file.
    * @return the deserialized error corresponding to the values in the given tsv line.
    */
-  private NullAwayError deserializeErrorFromTSVLine(ModuleInfo moduleInfo, String line) {
-    Context context = moduleInfo.getContext();
-    String[] values = line.split("\t");
-    Preconditions.checkArgument(
-        values.length == 12,
-        "Expected 12 values to create Error instance in NullAway serialization version 2 but found: "
-            + values.length);
-    int offset = Integer.parseInt(values[4]);
-    Path path = Printer.deserializePath(values[5]);
+  private NullAwayError deserializeErrorFromTSVValues(
+      ModuleInfo moduleInfo, String[] values, int offset) {
     String errorMessage = values[1];
     String errorType = values[0];
     Region region = new Region(values[2], values[3]);
@@ -120,13 +159,7 @@ public class NullAway extends CheckerBaseClass<NullAwayError> {
       Set<AddAnnotation> annotationsOnField =
           computeAddAnnotationInstancesForUninitializedFields(
               errorMessage, region.clazz, moduleInfo);
-      return createError(
-          errorType,
-          errorMessage,
-          region,
-          context.offsetHandler.getOriginalOffset(path, offset),
-          annotationsOnField,
-          moduleInfo);
+      return createError(errorType, errorMessage, region, offset, annotationsOnField, moduleInfo);
     }
     if (nonnullTarget != null && nonnullTarget.isOnField()) {
       nonnullTarget = extendVariableList(nonnullTarget.toField(), moduleInfo);
@@ -150,13 +183,7 @@ public class NullAway extends CheckerBaseClass<NullAwayError> {
       annotations = Set.of(new AddMarkerAnnotation(nonnullTarget, config.nullableAnnot));
     }
 
-    return createError(
-        errorType,
-        errorMessage,
-        region,
-        context.offsetHandler.getOriginalOffset(path, offset),
-        annotations,
-        moduleInfo);
+    return createError(errorType, errorMessage, region, offset, annotations, moduleInfo);
   }
 
   /**
@@ -246,7 +273,9 @@ public class NullAway extends CheckerBaseClass<NullAwayError> {
   public void suppressRemainingErrors() {
     // Collect regions with remaining errors.
     Utility.buildTarget(context);
-    Set<NullAwayError> remainingErrors = deserializeErrors(context.targetModuleInfo);
+    Set<NullAwayError> remainingErrors =
+        Utility.readErrorsFromOutputDirectory(
+            context, context.targetModuleInfo, NullAwayError.class);
     // Collect all regions for NullUnmarked.
     // For all errors in regions which correspond to a method's body, we can add @NullUnmarked at
     // the method level.
@@ -355,7 +384,9 @@ public class NullAway extends CheckerBaseClass<NullAwayError> {
     context.log.updateInjectedAnnotations(result);
     // Collect @NullUnmarked annotations on classes for any remaining error.
     Utility.buildTarget(context);
-    remainingErrors = deserializeErrors(context.targetModuleInfo);
+    remainingErrors =
+        Utility.readErrorsFromOutputDirectory(
+            context, context.targetModuleInfo, NullAwayError.class);
     nullUnMarkedAnnotations =
         remainingErrors.stream()
             .filter(error -> !error.getRegion().isInAnonymousClass())
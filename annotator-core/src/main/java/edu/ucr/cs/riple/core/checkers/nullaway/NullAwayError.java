@@ -90,13 +90,12 @@ public class NullAwayError extends Error {
 
   @Override
   public int hashCode() {
-    return Objects.hash(
-        messageType,
-        // to make sure equal objects will produce the same hashcode.
-        messageType.equals(METHOD_INITIALIZER_ERROR) ? METHOD_INITIALIZER_ERROR : message,
-        region,
-        resolvingFixes,
-        offset);
+    if (messageType.equals(METHOD_INITIALIZER_ERROR)) {
+      // to make sure equal objects will produce the same hashcode, only fields compared in equals
+      // are used.
+      return Objects.hash(messageType, region);
+    }
+    return Objects.hash(messageType, message, region, resolvingFixes, offset);
   }
 
   /**
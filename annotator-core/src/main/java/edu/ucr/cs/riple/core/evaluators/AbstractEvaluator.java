@@ -30,6 +30,7 @@ import edu.ucr.cs.riple.core.Report;
 import edu.ucr.cs.riple.core.evaluators.graph.ConflictGraph;
 import edu.ucr.cs.riple.core.evaluators.graph.processors.ConflictGraphProcessor;
 import edu.ucr.cs.riple.core.evaluators.suppliers.Supplier;
+import edu.ucr.cs.riple.core.metrics.Phase;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 
 /**
@@ -96,7 +97,13 @@ public abstract class AbstractEvaluator implements Evaluator {
             .collect(ImmutableSet.toImmutableSet());
     System.out.println("Max Depth level: " + this.depth);
     for (int i = 0; i < this.depth; i++) {
+      if (context.budget.isExhausted()) {
+        System.out.println("Budget exhausted, stopping at level " + i + ".");
+        break;
+      }
+      long timer = context.metrics.startTimer();
       initializeFixGraph(reports);
+      context.metrics.stopTimer(Phase.GRAPH_CONSTRUCTION, timer);
       context.log.updateNodeNumber(graph.getNodes().count());
       if (!graph.isEmpty()) {
         System.out.print("Analyzing at level " + (i + 1) + ", ");
@@ -104,6 +111,11 @@ public abstract class AbstractEvaluator implements Evaluator {
       }
       collectGraphResults(reports);
     }
+    if (context.budget.isExhausted()) {
+      reports.stream()
+          .filter(report -> !report.hasBeenProcessedOnce)
+          .forEach(report -> report.skippedByBudget = true);
+    }
     return reports;
   }
 }
@@ -73,6 +73,8 @@ public class BasicEvaluator extends AbstractEvaluator {
   protected void collectGraphResults(ImmutableSet<Report> reports) {
     graph
         .getNodes()
+        // nodes skipped due to exhausted budget keep the results of the previous level.
+        .filter(node -> node.evaluated)
         .forEach(
             node -> {
               Report report = node.report;
@@ -82,6 +84,7 @@ public class BasicEvaluator extends AbstractEvaluator {
                   ImmutableSet.copyOf(node.triggeredFixesFromDownstreamErrors);
               report.triggeredErrors = ImmutableSet.copyOf(node.triggeredErrors);
               report.hasBeenProcessedOnce = true;
+              report.cost.add(node.cost, 1);
             });
   }
 }
@@ -32,9 +32,11 @@ import com.google.common.collect.Sets;
 import edu.ucr.cs.riple.core.Report;
 import edu.ucr.cs.riple.core.cache.Impact;
 import edu.ucr.cs.riple.core.cache.TargetModuleCache;
+import edu.ucr.cs.riple.core.evaluators.graph.Node;
 import edu.ucr.cs.riple.core.evaluators.suppliers.Supplier;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -98,6 +100,7 @@ public class CachedEvaluator extends AbstractEvaluator {
     cache.updateCacheState(
         graph
             .getNodes()
+            .filter(node -> node.evaluated)
             .map(
                 node ->
                     new Impact(
@@ -105,10 +108,33 @@ public class CachedEvaluator extends AbstractEvaluator {
             .collect(Collectors.toSet()));
 
     // collect requested fixes for each report which was added to conflict graph.
+    // reports requesting a fix skipped due to exhausted budget keep the results of the previous
+    // level.
+    Set<Fix> skipped =
+        graph
+            .getNodes()
+            .filter(node -> !node.evaluated)
+            .map(node -> node.root)
+            .collect(Collectors.toSet());
     Map<Report, Set<Fix>> reportFixMap =
         reports.stream()
             .filter(report -> report.requiresFurtherProcess(context.config))
             .collect(toMap(identity(), Report::getFixesForNextIteration));
+    reportFixMap.values().removeIf(fixes -> !Collections.disjoint(fixes, skipped));
+
+    // share the cost of each processed node among all reports which requested its fix.
+    Map<Fix, Node> nodes = graph.getNodes().collect(toMap(node -> node.root, identity()));
+    Map<Fix, Long> requests =
+        reportFixMap.values().stream()
+            .flatMap(Set::stream)
+            .filter(nodes::containsKey)
+            .collect(Collectors.groupingBy(identity(), Collectors.counting()));
+    reportFixMap.forEach(
+        (report, processedFixes) ->
+            processedFixes.stream()
+                .filter(nodes::containsKey)
+                .forEach(
+                    fix -> report.cost.add(nodes.get(fix).cost, 1.0 / requests.get(fix))));
 
     // update reports state.
     reportFixMap.forEach(
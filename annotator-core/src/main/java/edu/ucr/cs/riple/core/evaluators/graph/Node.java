@@ -27,6 +27,7 @@ package edu.ucr.cs.riple.core.evaluators.graph;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import edu.ucr.cs.riple.core.Report;
+import edu.ucr.cs.riple.core.log.Cost;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.ErrorStore;
@@ -74,6 +75,15 @@ public class Node {
   /** Corresponding report of processing root. */
   public Report report;
 
+  /** Share of the cost of evaluating the group this node is evaluated in. */
+  public final Cost cost;
+
+  /**
+   * Whether the node has been evaluated by the processor. Nodes are left unevaluated once the
+   * budget of the run is exhausted, and their results must not be collected.
+   */
+  public boolean evaluated;
+
   /** Regions where original errors reported and NullAway suggested root for that. */
   private ImmutableSet<Region> origins;
 
@@ -85,6 +95,8 @@ public class Node {
     this.effect = 0;
     this.tree = Sets.newHashSet(root);
     this.origins = ImmutableSet.of();
+    this.cost = new Cost();
+    this.evaluated = false;
   }
 
   /**
@@ -93,9 +105,7 @@ public class Node {
    * @param errorStore {@link ErrorStore} instance.
    */
   public void setOrigins(ErrorStore errorStore) {
-    this.origins =
-        ImmutableSet.copyOf(
-            errorStore.getRegionsForElements(error -> error.getResolvingFixes().contains(root)));
+    this.origins = ImmutableSet.copyOf(errorStore.getRegionsOfErrorsResolvableWith(root));
   }
 
   /**
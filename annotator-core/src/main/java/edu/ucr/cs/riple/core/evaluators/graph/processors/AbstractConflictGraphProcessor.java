@@ -29,10 +29,16 @@ import edu.ucr.cs.riple.core.cache.downstream.DownstreamImpactCache;
 import edu.ucr.cs.riple.core.evaluators.graph.Node;
 import edu.ucr.cs.riple.core.evaluators.suppliers.Supplier;
 import edu.ucr.cs.riple.core.injectors.AnnotationInjector;
+import edu.ucr.cs.riple.core.log.Cost;
+import edu.ucr.cs.riple.core.metrics.CompilerRunEvent;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.ErrorStore;
 import edu.ucr.cs.riple.core.registries.index.Fix;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -66,6 +72,68 @@ public abstract class AbstractConflictGraphProcessor implements ConflictGraphPro
     this.compilerRunner = runner;
   }
 
+  /**
+   * Evaluates a group of nodes in a single build. Injects the fixes, reruns the compiler, saves the
+   * new state of errors, runs the given collector to update the nodes and removes the fixes. The
+   * cost of the evaluation is recorded in the log and shared equally among the nodes of the group.
+   * The compiler run is recorded as a {@link CompilerRunEvent}.
+   *
+   * @param groupId Index of the group within the processed conflict graph.
+   * @param group Nodes of the group.
+   * @param fixes Set of fixes to inject for the group.
+   * @param collector Collects the results of the evaluation for the nodes of the group.
+   */
+  protected void evaluateGroup(
+      int groupId, Collection<Node> group, Set<Fix> fixes, Runnable collector) {
+    Cost cost = new Cost();
+    long timer = System.nanoTime();
+    injector.injectFixes(fixes);
+    cost.recordInjection(System.nanoTime() - timer);
+    CompilerRunEvent event = new CompilerRunEvent();
+    event.begin();
+    timer = System.nanoTime();
+    compilerRunner.run(fixes);
+    cost.recordBuild(System.nanoTime() - timer);
+    event.groupId = groupId;
+    event.fixCount = fixes.size();
+    event.commit();
+    timer = System.nanoTime();
+    errorStore.saveState();
+    collector.run();
+    cost.recordAnalysis(System.nanoTime() - timer);
+    timer = System.nanoTime();
+    injector.removeFixes(fixes);
+    cost.recordRemoval(System.nanoTime() - timer);
+    String modules =
+        moduleInfo.getModuleConfiguration().stream()
+            .map(configuration -> String.valueOf(configuration.id))
+            .collect(Collectors.joining(","));
+    context.log.recordGroupCost(modules, group.size(), fixes.size(), cost);
+    group.forEach(
+        node -> {
+          node.cost.add(cost, 1.0 / group.size());
+          node.evaluated = true;
+        });
+  }
+
+  /**
+   * Computes the expected payoff of evaluating a node, used to prioritize nodes when the budget of
+   * the run is limited. Nodes resolving more errors are preferred, and among those, nodes with
+   * fewer potentially impacted regions which are cheaper to evaluate and less likely to trigger
+   * new errors.
+   *
+   * @return Comparator ordering nodes from the highest to the lowest expected payoff.
+   */
+  protected Comparator<Node> byExpectedPayoff() {
+    Map<Node, Integer> resolved = new HashMap<>();
+    return Comparator.<Node>comparingInt(
+            node ->
+                -resolved.computeIfAbsent(
+                    node,
+                    n -> errorStore.getNumberOfErrorsResolvedByAllFixesWithinCollection(n.tree)))
+        .thenComparingInt(node -> node.regions.size());
+  }
+
   /**
    * Gets the set of triggered fixes on target module from downstream errors.
    *
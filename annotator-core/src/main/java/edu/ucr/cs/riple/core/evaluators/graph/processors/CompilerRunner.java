@@ -24,9 +24,16 @@
 
 package edu.ucr.cs.riple.core.evaluators.graph.processors;
 
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import java.util.Set;
+
 /** Interface for rerunning the analysis/compiler. */
 public interface CompilerRunner {
 
-  /** Runs the analysis/compiler. */
-  void run();
+  /**
+   * Runs the analysis/compiler while the given set of fixes are injected.
+   *
+   * @param fixes Set of fixes injected prior to this run.
+   */
+  void run(Set<Fix> fixes);
 }
@@ -28,14 +28,19 @@ import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.evaluators.graph.ConflictGraph;
 import edu.ucr.cs.riple.core.evaluators.graph.Node;
 import edu.ucr.cs.riple.core.evaluators.suppliers.Supplier;
+import edu.ucr.cs.riple.core.metrics.Histogram;
+import edu.ucr.cs.riple.core.metrics.Phase;
 import edu.ucr.cs.riple.core.registries.index.Error;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import edu.ucr.cs.riple.core.registries.index.Result;
 import edu.ucr.cs.riple.core.registries.region.Region;
 import edu.ucr.cs.riple.core.registries.region.RegionRegistry;
 import edu.ucr.cs.riple.core.util.Utility;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import me.tongfei.progressbar.ProgressBar;
@@ -53,6 +58,9 @@ public class ParallelConflictGraphProcessor extends AbstractConflictGraphProcess
    */
   private final RegionRegistry regionRegistry;
 
+  /** Bucket upper bounds of the histogram of number of nodes processed in a single build. */
+  private static final double[] GROUP_SIZE_BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
   public ParallelConflictGraphProcessor(Context context, CompilerRunner runner, Supplier supplier) {
     super(context, runner, supplier);
     this.regionRegistry = supplier.getModuleInfo().getRegionRegistry();
@@ -60,10 +68,22 @@ public class ParallelConflictGraphProcessor extends AbstractConflictGraphProcess
 
   @Override
   public void process(ConflictGraph graph) {
+    long timer = context.metrics.startTimer();
     graph.getNodes().forEach(node -> node.reCollectPotentiallyImpactedRegions(regionRegistry));
+    context.metrics.stopTimer(Phase.GRAPH_CONSTRUCTION, timer);
     // find non-conflicting groups.
+    timer = context.metrics.startTimer();
     graph.findGroups();
-    Collection<Set<Node>> nonConflictingGroups = graph.getGroups();
+    context.metrics.stopTimer(Phase.COLORING, timer);
+    List<Set<Node>> nonConflictingGroups = new ArrayList<>(graph.getGroups());
+    if (context.budget.isLimited()) {
+      // evaluate groups containing nodes with the best expected payoff first.
+      Comparator<Node> payoff = byExpectedPayoff();
+      nonConflictingGroups.sort(
+          Comparator.comparing(group -> Collections.min(group, payoff), payoff));
+    }
+    Histogram groupSizes = context.metrics.histogram("build_group_size", GROUP_SIZE_BOUNDS);
+    nonConflictingGroups.forEach(group -> groupSizes.observe(group.size()));
     System.out.println(
         "Scheduling for: "
             + nonConflictingGroups.size()
@@ -71,30 +91,36 @@ public class ParallelConflictGraphProcessor extends AbstractConflictGraphProcess
             + graph.getNodes().count()
             + " fixes");
     ProgressBar pb = Utility.createProgressBar("Processing", nonConflictingGroups.size());
+    int groupId = 0;
     for (Set<Node> group : nonConflictingGroups) {
+      if (context.budget.isExhausted()) {
+        System.out.println("\nBudget exhausted, skipping remaining groups.");
+        break;
+      }
       pb.step();
       Set<Fix> fixes =
           group.stream().flatMap(node -> node.tree.stream()).collect(Collectors.toSet());
-      injector.injectFixes(fixes);
-      compilerRunner.run();
-      errorStore.saveState();
-      group.forEach(
-          node -> {
-            int localEffect = 0;
-            Set<Error> triggeredErrors = new HashSet<>();
-            for (Region region : node.regions) {
-              Result errorComparisonResult = errorStore.compareByRegion(region);
-              localEffect += errorComparisonResult.size;
-              triggeredErrors.addAll(errorComparisonResult.dif);
-            }
-            node.updateStatus(
-                localEffect,
-                fixes,
-                getTriggeredFixesFromDownstreamErrors(node),
-                triggeredErrors,
-                moduleInfo);
-          });
-      injector.removeFixes(fixes);
+      evaluateGroup(
+          groupId++,
+          group,
+          fixes,
+          () ->
+              group.forEach(
+                  node -> {
+                    int localEffect = 0;
+                    Set<Error> triggeredErrors = new HashSet<>();
+                    for (Region region : node.regions) {
+                      Result errorComparisonResult = errorStore.compareByRegion(region);
+                      localEffect += errorComparisonResult.size;
+                      triggeredErrors.addAll(errorComparisonResult.dif);
+                    }
+                    node.updateStatus(
+                        localEffect,
+                        fixes,
+                        getTriggeredFixesFromDownstreamErrors(node),
+                        triggeredErrors,
+                        moduleInfo);
+                  }));
     }
     pb.close();
   }
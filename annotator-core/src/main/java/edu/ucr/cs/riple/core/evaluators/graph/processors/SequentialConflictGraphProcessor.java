@@ -26,11 +26,14 @@ package edu.ucr.cs.riple.core.evaluators.graph.processors;
 
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.evaluators.graph.ConflictGraph;
+import edu.ucr.cs.riple.core.evaluators.graph.Node;
 import edu.ucr.cs.riple.core.evaluators.suppliers.Supplier;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import edu.ucr.cs.riple.core.registries.index.Result;
 import edu.ucr.cs.riple.core.util.Utility;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import me.tongfei.progressbar.ProgressBar;
 
 /** Basic processor which processes the impact of each node sequentially. */
@@ -43,28 +46,38 @@ public class SequentialConflictGraphProcessor extends AbstractConflictGraphProce
 
   @Override
   public void process(ConflictGraph graph) {
-    int count = (int) graph.getNodes().count();
-    System.out.println("Scheduling for: " + count + " runs.");
-    ProgressBar pb = Utility.createProgressBar("Processing", count);
-    graph
-        .getNodes()
-        .forEach(
-            node -> {
-              pb.step();
-              Set<Fix> fixes = node.tree;
-              injector.injectFixes(fixes);
-              compilerRunner.run();
-              errorStore.saveState();
-              Result errorComparisonResult = errorStore.compare();
-              node.effect = errorComparisonResult.size;
-              node.updateStatus(
-                  errorComparisonResult.size,
-                  fixes,
-                  getTriggeredFixesFromDownstreamErrors(node),
-                  errorComparisonResult.dif,
-                  moduleInfo);
-              injector.removeFixes(fixes);
-            });
+    List<Node> nodes = graph.getNodes().collect(Collectors.toList());
+    if (context.budget.isLimited()) {
+      // evaluate nodes with the best expected payoff first.
+      nodes.forEach(
+          node -> node.reCollectPotentiallyImpactedRegions(moduleInfo.getRegionRegistry()));
+      nodes.sort(byExpectedPayoff());
+    }
+    System.out.println("Scheduling for: " + nodes.size() + " runs.");
+    ProgressBar pb = Utility.createProgressBar("Processing", nodes.size());
+    int groupId = 0;
+    for (Node node : nodes) {
+      if (context.budget.isExhausted()) {
+        System.out.println("\nBudget exhausted, skipping remaining nodes.");
+        break;
+      }
+      pb.step();
+      Set<Fix> fixes = node.tree;
+      evaluateGroup(
+          groupId++,
+          Set.of(node),
+          fixes,
+          () -> {
+            Result errorComparisonResult = errorStore.compare();
+            node.effect = errorComparisonResult.size;
+            node.updateStatus(
+                errorComparisonResult.size,
+                fixes,
+                getTriggeredFixesFromDownstreamErrors(node),
+                errorComparisonResult.dif,
+                moduleInfo);
+          });
+    }
     pb.close();
   }
 }
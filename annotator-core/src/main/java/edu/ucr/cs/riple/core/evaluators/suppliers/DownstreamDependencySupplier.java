@@ -74,7 +74,7 @@ public class DownstreamDependencySupplier extends AbstractSupplier {
 
   @Override
   public AbstractConflictGraphProcessor getGraphProcessor() {
-    CompilerRunner runner = () -> Utility.buildDownstreamDependencies(context);
+    CompilerRunner runner = fixes -> Utility.buildDownstreamDependencies(context, fixes);
     return context.config.useParallelGraphProcessor
         ? new ParallelConflictGraphProcessor(context, runner, this)
         : new SequentialConflictGraphProcessor(context, runner, this);
@@ -25,6 +25,7 @@
 package edu.ucr.cs.riple.core.injectors;
 
 import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.metrics.Phase;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import edu.ucr.cs.riple.injector.changes.AddAnnotation;
 import edu.ucr.cs.riple.injector.changes.RemoveAnnotation;
@@ -49,11 +50,14 @@ public abstract class AnnotationInjector {
     if (fixes == null || fixes.size() == 0) {
       return;
     }
+    long timer = context.metrics.startTimer();
     Set<RemoveAnnotation> toRemove =
         fixes.stream()
             .flatMap(fix -> fix.changes.stream().map(AddAnnotation::getReverse))
             .collect(Collectors.toSet());
     removeAnnotations(toRemove);
+    context.metrics.stopTimer(Phase.REMOVAL, timer);
+    context.metrics.counter("removed_annotations").add(toRemove.size());
   }
 
   /**
@@ -65,8 +69,12 @@ public abstract class AnnotationInjector {
     if (fixes == null || fixes.size() == 0) {
       return;
     }
-    injectAnnotations(
-        fixes.stream().flatMap(fix -> fix.changes.stream()).collect(Collectors.toSet()));
+    long timer = context.metrics.startTimer();
+    Set<AddAnnotation> toInject =
+        fixes.stream().flatMap(fix -> fix.changes.stream()).collect(Collectors.toSet());
+    injectAnnotations(toInject);
+    context.metrics.stopTimer(Phase.INJECTION, timer);
+    context.metrics.counter("injected_annotations").add(toInject.size());
   }
 
   /**
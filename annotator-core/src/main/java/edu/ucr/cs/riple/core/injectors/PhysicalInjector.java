@@ -26,10 +26,13 @@ package edu.ucr.cs.riple.core.injectors;
 
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.injector.Injector;
+import edu.ucr.cs.riple.injector.changes.ASTChange;
 import edu.ucr.cs.riple.injector.changes.AddAnnotation;
 import edu.ucr.cs.riple.injector.changes.RemoveAnnotation;
 import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /** Wrapper tool used to inject annotations Physically to the source code. */
 public class PhysicalInjector extends AnnotationInjector {
@@ -44,18 +47,39 @@ public class PhysicalInjector extends AnnotationInjector {
    */
   public PhysicalInjector(Context context) {
     super(context);
-    this.injector = new Injector(context.config.languageLevel);
+    this.injector =
+        new Injector(
+            context.config.languageLevel, context.config.sourceCharset, context.config.syncWrites);
   }
 
   @Override
   public void removeAnnotations(Set<RemoveAnnotation> changes) {
     Set<FileOffsetStore> offsetStores = injector.removeAnnotations(changes);
     context.offsetHandler.updateStateWithRecentChanges(offsetStores);
+    updateFingerprints(changes);
   }
 
   @Override
   public void injectAnnotations(Set<AddAnnotation> changes) {
     Set<FileOffsetStore> offsetStores = injector.addAnnotations(changes);
     context.offsetHandler.updateStateWithRecentChanges(offsetStores);
+    updateFingerprints(changes);
+  }
+
+  /**
+   * Updates fingerprints of regions of the target module within files rewritten by the given
+   * changes.
+   *
+   * @param changes Applied changes.
+   */
+  private void updateFingerprints(Set<? extends ASTChange> changes) {
+    context
+        .targetModuleInfo
+        .getRegionFingerprints()
+        .onFilesWritten(
+            changes.stream()
+                .map(change -> change.getLocation().path)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
   }
 }
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.log;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Cost of evaluating fixes, in number of builds and time spent in each step of the evaluation.
+ * Costs of a group of fixes evaluated together in a single build are shared among the nodes of the
+ * group, therefore the number of builds can be fractional.
+ */
+public class Cost {
+
+  /** Number of builds. */
+  private double builds;
+
+  /** Time spent in builds in milliseconds. */
+  private double buildMillis;
+
+  /** Time spent injecting fixes in milliseconds. */
+  private double injectionMillis;
+
+  /** Time spent removing fixes in milliseconds. */
+  private double removalMillis;
+
+  /** Time spent reading and comparing reported errors in milliseconds. */
+  private double analysisMillis;
+
+  /**
+   * Records a build.
+   *
+   * @param nanos Duration of the build in nanoseconds.
+   */
+  public void recordBuild(long nanos) {
+    builds += 1;
+    buildMillis += nanos / 1e6;
+  }
+
+  /**
+   * Records an injection of fixes.
+   *
+   * @param nanos Duration of the injection in nanoseconds.
+   */
+  public void recordInjection(long nanos) {
+    injectionMillis += nanos / 1e6;
+  }
+
+  /**
+   * Records a removal of fixes.
+   *
+   * @param nanos Duration of the removal in nanoseconds.
+   */
+  public void recordRemoval(long nanos) {
+    removalMillis += nanos / 1e6;
+  }
+
+  /**
+   * Records reading and comparing of reported errors.
+   *
+   * @param nanos Duration of the analysis in nanoseconds.
+   */
+  public void recordAnalysis(long nanos) {
+    analysisMillis += nanos / 1e6;
+  }
+
+  /**
+   * Adds a share of the given cost to this cost.
+   *
+   * @param other Cost to add.
+   * @param share Share of the given cost to add, in range [0, 1].
+   */
+  public void add(Cost other, double share) {
+    builds += other.builds * share;
+    buildMillis += other.buildMillis * share;
+    injectionMillis += other.injectionMillis * share;
+    removalMillis += other.removalMillis * share;
+    analysisMillis += other.analysisMillis * share;
+  }
+
+  /**
+   * Returns the number of builds.
+   *
+   * @return Number of builds, can be fractional.
+   */
+  public double getBuilds() {
+    return builds;
+  }
+
+  /**
+   * Returns the total time spent in all steps in milliseconds.
+   *
+   * @return Total time in milliseconds.
+   */
+  public double getTotalMillis() {
+    return buildMillis + injectionMillis + removalMillis + analysisMillis;
+  }
+
+  /**
+   * Returns the json representation of this cost.
+   *
+   * @return Json object.
+   */
+  public JsonObject getJson() {
+    JsonObject json = new JsonObject();
+    json.addProperty("BUILDS", builds);
+    json.addProperty("BUILD TIME", buildMillis);
+    json.addProperty("INJECTION TIME", injectionMillis);
+    json.addProperty("REMOVAL TIME", removalMillis);
+    json.addProperty("ANALYSIS TIME", analysisMillis);
+    json.addProperty("TOTAL TIME", getTotalMillis());
+    return json;
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.log;
+
+import com.google.gson.JsonObject;
+
+/** Cost of evaluating a group of non-conflicting nodes of a conflict graph in a single build. */
+public class GroupCost {
+
+  /** Sequence number of the group across the whole run, starting from 0. */
+  public final int id;
+
+  /** Ids of the modules the group is evaluated on, separated by comma. */
+  public final String modules;
+
+  /** Number of nodes in the group. */
+  public final int nodes;
+
+  /** Number of fixes injected for the group. */
+  public final int fixes;
+
+  /** Cost of evaluating the group. */
+  public final Cost cost;
+
+  public GroupCost(int id, String modules, int nodes, int fixes, Cost cost) {
+    this.id = id;
+    this.modules = modules;
+    this.nodes = nodes;
+    this.fixes = fixes;
+    this.cost = cost;
+  }
+
+  /**
+   * Returns the json representation of this group cost.
+   *
+   * @return Json object.
+   */
+  public JsonObject getJson() {
+    JsonObject json = cost.getJson();
+    json.addProperty("ID", id);
+    json.addProperty("MODULES", modules);
+    json.addProperty("NODES", nodes);
+    json.addProperty("FIXES", fixes);
+    return json;
+  }
+}
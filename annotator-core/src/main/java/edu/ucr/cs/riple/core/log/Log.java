@@ -51,6 +51,9 @@ public class Log {
    */
   private final List<AddAnnotation> injectedAnnotations = new ArrayList<>();
 
+  /** Costs of all groups of nodes evaluated in a single build, in the order of evaluation. */
+  private final List<GroupCost> groupCosts = new ArrayList<>();
+
   public Log() {
     this.reset();
   }
@@ -62,6 +65,7 @@ public class Log {
     this.totalTime = 0;
     this.buildTime = 0;
     this.injectedAnnotations.clear();
+    this.groupCosts.clear();
   }
 
   @Override
@@ -128,6 +132,66 @@ public class Log {
     this.injectedAnnotations.addAll(annotations);
   }
 
+  /**
+   * Records the cost of evaluating a group of nodes in a single build.
+   *
+   * @param modules Ids of the modules the group is evaluated on, separated by comma.
+   * @param nodes Number of nodes in the group.
+   * @param fixes Number of fixes injected for the group.
+   * @param cost Cost of evaluating the group.
+   * @return Sequence number assigned to the group.
+   */
+  public int recordGroupCost(String modules, int nodes, int fixes, Cost cost) {
+    int id = groupCosts.size();
+    groupCosts.add(new GroupCost(id, modules, nodes, fixes, cost));
+    return id;
+  }
+
+  /**
+   * Returns costs of all groups of nodes evaluated in a single build.
+   *
+   * @return List of group costs in the order of evaluation.
+   */
+  public List<GroupCost> getGroupCosts() {
+    return groupCosts;
+  }
+
+  /**
+   * Returns sum of number of nodes constructed in each {@link ConflictGraph}.
+   *
+   * @return Number of nodes.
+   */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Returns number of build requests.
+   *
+   * @return Number of build requests.
+   */
+  public long getRequestedBuilds() {
+    return requested;
+  }
+
+  /**
+   * Returns total time spent for annotator from start to finish in milliseconds.
+   *
+   * @return Total time in milliseconds.
+   */
+  public long getTotalTime() {
+    return totalTime;
+  }
+
+  /**
+   * Returns total time spent in building targets in milliseconds.
+   *
+   * @return Build time in milliseconds.
+   */
+  public long getBuildTime() {
+    return buildTime;
+  }
+
   /**
    * Returns list of injected annotations.
    *
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.metrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * Flight recording of a run of Annotator. Uses the {@code default} settings of the JDK, which
+ * enables all events emitted by Annotator, and writes the recording to the given path when
+ * stopped. The recording can be analyzed afterwards in JDK Mission Control.
+ */
+public class FlightRecording {
+
+  /** Underlying recording. */
+  private final Recording recording;
+
+  /** Path where the recording is written. */
+  private final Path destination;
+
+  /**
+   * Creates and starts a recording.
+   *
+   * @param destination Path where the recording is written when stopped.
+   */
+  public FlightRecording(Path destination) {
+    this.destination = destination;
+    try {
+      this.recording = new Recording(Configuration.getConfiguration("default"));
+      recording.setName("Annotator");
+      recording.setToDisk(true);
+      recording.setDestination(destination);
+    } catch (IOException | ParseException e) {
+      throw new RuntimeException("Could not create flight recording at: " + destination, e);
+    }
+    recording.start();
+  }
+
+  /** Stops the recording and writes it to the destination. */
+  public void stop() {
+    recording.stop();
+    recording.close();
+    System.out.println("Flight recording written to: " + destination);
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram with fixed bucket upper bounds. Bucket counts are not cumulative, the last bucket
+ * counts observations greater than the last bound. Safe to update and read from multiple threads.
+ */
+public class Histogram {
+
+  /** Upper bounds (inclusive) of buckets in ascending order. */
+  private final double[] bounds;
+
+  /** Number of observations in each bucket, has one more entry than {@link #bounds}. */
+  private final AtomicLongArray buckets;
+
+  /** Number of observations. */
+  private final LongAdder count = new LongAdder();
+
+  /** Sum of all observations. */
+  private final DoubleAdder sum = new DoubleAdder();
+
+  /**
+   * Creates a histogram with the given bucket upper bounds.
+   *
+   * @param bounds Upper bounds (inclusive) of buckets in ascending order.
+   */
+  public Histogram(double[] bounds) {
+    this.bounds = bounds.clone();
+    this.buckets = new AtomicLongArray(bounds.length + 1);
+  }
+
+  /**
+   * Records an observation.
+   *
+   * @param value Observed value.
+   */
+  public void observe(double value) {
+    int index = 0;
+    while (index < bounds.length && value > bounds[index]) {
+      index++;
+    }
+    buckets.incrementAndGet(index);
+    count.increment();
+    sum.add(value);
+  }
+
+  /**
+   * Returns the upper bounds of buckets.
+   *
+   * @return Copy of the upper bounds.
+   */
+  public double[] getBounds() {
+    return bounds.clone();
+  }
+
+  /**
+   * Returns the number of observations in the bucket at the given index. Index {@code
+   * getBounds().length} is the overflow bucket.
+   *
+   * @param index Index of the bucket.
+   * @return Number of observations in the bucket.
+   */
+  public long getBucketCount(int index) {
+    return buckets.get(index);
+  }
+
+  /**
+   * Returns the number of observations.
+   *
+   * @return Number of observations.
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the sum of all observations.
+   *
+   * @return Sum of observations.
+   */
+  public double getSum() {
+    return sum.sum();
+  }
+}
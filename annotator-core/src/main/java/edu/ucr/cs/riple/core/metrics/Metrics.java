@@ -0,0 +1,395 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.metrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of metrics collected during a run of Annotator: a {@link Timer} per {@link Phase},
+ * named {@link Counter}s and {@link Histogram}s, and {@link CacheStatistics} of registered caches.
+ * Metrics can be exported in json and Prometheus text exposition format, either at the end of the
+ * run or periodically during long runs.
+ */
+public class Metrics {
+
+  /** Name of the exported json file. */
+  public static final String JSON_FILE_NAME = "metrics.json";
+
+  /** Name of the exported Prometheus text file. */
+  public static final String PROMETHEUS_FILE_NAME = "metrics.prom";
+
+  /** Prefix of all exported Prometheus metric names. */
+  private static final String PREFIX = "annotator_";
+
+  /** Timers for each phase. */
+  private final Map<Phase, Timer> timers;
+
+  /** Counters by name. */
+  private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+  /** Histograms by name. */
+  private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+  /** Statistics of registered caches by name. */
+  private final Map<String, CacheStatistics> caches = new ConcurrentHashMap<>();
+
+  /** Executor writing periodic snapshots, {@code null} if snapshots are not activated. */
+  private ScheduledExecutorService snapshotExecutor;
+
+  public Metrics() {
+    this.timers = new EnumMap<>(Phase.class);
+    for (Phase phase : Phase.values()) {
+      timers.put(phase, new Timer());
+    }
+  }
+
+  /**
+   * Starts timer and returns the exact time at call site.
+   *
+   * @return The time at executing this function in nanoseconds.
+   */
+  public long startTimer() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Records the time elapsed since the given start time for the given phase.
+   *
+   * @param phase Phase to record the duration for.
+   * @param timer The return result of calling {@link Metrics#startTimer()}.
+   */
+  public void stopTimer(Phase phase, long timer) {
+    timers.get(phase).record(System.nanoTime() - timer);
+  }
+
+  /**
+   * Returns the timer of the given phase.
+   *
+   * @param phase Phase of the timer.
+   * @return Timer instance.
+   */
+  public Timer timer(Phase phase) {
+    return timers.get(phase);
+  }
+
+  /**
+   * Returns the counter with the given name, creating it if not present.
+   *
+   * @param name Name of the counter in snake case.
+   * @return Counter instance.
+   */
+  public Counter counter(String name) {
+    return counters.computeIfAbsent(name, k -> new Counter());
+  }
+
+  /**
+   * Returns the histogram with the given name, creating it with the given bounds if not present.
+   *
+   * @param name Name of the histogram in snake case.
+   * @param bounds Upper bounds of buckets in ascending order, used only on creation.
+   * @return Histogram instance.
+   */
+  public Histogram histogram(String name, double[] bounds) {
+    return histograms.computeIfAbsent(name, k -> new Histogram(bounds));
+  }
+
+  /**
+   * Registers statistics of a cache to be exported under the given name.
+   *
+   * @param name Name of the cache in snake case.
+   * @param statistics Statistics of the cache.
+   */
+  public void registerCache(String name, CacheStatistics statistics) {
+    caches.put(name, statistics);
+  }
+
+  /**
+   * Exports metrics in json format.
+   *
+   * @return Json representation of all metrics.
+   */
+  public JsonObject toJson() {
+    JsonObject result = new JsonObject();
+    JsonObject timersJson = new JsonObject();
+    timers.forEach(
+        (phase, timer) -> {
+          Histogram histogram = timer.getHistogram();
+          JsonObject timerJson = histogramToJson(histogram);
+          timerJson.addProperty("max", timer.getMaxSeconds());
+          timersJson.add(phase.metricName, timerJson);
+        });
+    result.add("timers_seconds", timersJson);
+    JsonObject countersJson = new JsonObject();
+    new TreeMap<>(counters)
+        .forEach((name, counter) -> countersJson.addProperty(name, counter.get()));
+    result.add("counters", countersJson);
+    JsonObject histogramsJson = new JsonObject();
+    new TreeMap<>(histograms)
+        .forEach((name, histogram) -> histogramsJson.add(name, histogramToJson(histogram)));
+    result.add("histograms", histogramsJson);
+    JsonObject cachesJson = new JsonObject();
+    new TreeMap<>(caches)
+        .forEach(
+            (name, statistics) -> {
+              JsonObject cacheJson = new JsonObject();
+              cacheJson.addProperty("hits", statistics.getHits());
+              cacheJson.addProperty("misses", statistics.getMisses());
+              cacheJson.addProperty("hit_rate", statistics.getHitRate());
+              cachesJson.add(name, cacheJson);
+            });
+    result.add("caches", cachesJson);
+    return result;
+  }
+
+  /**
+   * Exports metrics in Prometheus text exposition format.
+   *
+   * @return Prometheus text representation of all metrics.
+   */
+  public String toPrometheus() {
+    StringBuilder builder = new StringBuilder();
+    String phaseMetric = PREFIX + "phase_duration_seconds";
+    builder.append("# TYPE ").append(phaseMetric).append(" histogram\n");
+    timers.forEach(
+        (phase, timer) ->
+            appendHistogram(
+                builder, phaseMetric, "phase=\"" + phase.metricName + "\"", timer.getHistogram()));
+    String maxMetric = PREFIX + "phase_duration_max_seconds";
+    builder.append("# TYPE ").append(maxMetric).append(" gauge\n");
+    timers.forEach(
+        (phase, timer) ->
+            builder
+                .append(maxMetric)
+                .append("{phase=\"")
+                .append(phase.metricName)
+                .append("\"} ")
+                .append(format(timer.getMaxSeconds()))
+                .append('\n'));
+    new TreeMap<>(counters)
+        .forEach(
+            (name, counter) -> {
+              String metric = PREFIX + name + "_total";
+              builder.append("# TYPE ").append(metric).append(" counter\n");
+              builder.append(metric).append(' ').append(counter.get()).append('\n');
+            });
+    new TreeMap<>(histograms)
+        .forEach(
+            (name, histogram) -> {
+              String metric = PREFIX + name;
+              builder.append("# TYPE ").append(metric).append(" histogram\n");
+              appendHistogram(builder, metric, "", histogram);
+            });
+    if (!caches.isEmpty()) {
+      Map<String, CacheStatistics> sorted = new TreeMap<>(caches);
+      String hits = PREFIX + "cache_hits_total";
+      builder.append("# TYPE ").append(hits).append(" counter\n");
+      sorted.forEach((name, s) -> appendCacheLine(builder, hits, name, s.getHits()));
+      String misses = PREFIX + "cache_misses_total";
+      builder.append("# TYPE ").append(misses).append(" counter\n");
+      sorted.forEach((name, s) -> appendCacheLine(builder, misses, name, s.getMisses()));
+      String rate = PREFIX + "cache_hit_rate";
+      builder.append("# TYPE ").append(rate).append(" gauge\n");
+      sorted.forEach(
+          (name, s) ->
+              builder
+                  .append(rate)
+                  .append("{cache=\"")
+                  .append(name)
+                  .append("\"} ")
+                  .append(format(s.getHitRate()))
+                  .append('\n'));
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Writes metrics in json and Prometheus text format in the given directory. Files are replaced
+   * atomically where supported, so readers never observe a partially written snapshot.
+   *
+   * @param dir Directory to write the files in.
+   */
+  public void write(Path dir) {
+    writeAtomically(dir.resolve(JSON_FILE_NAME), toJson().toString());
+    writeAtomically(dir.resolve(PROMETHEUS_FILE_NAME), toPrometheus());
+  }
+
+  /**
+   * Starts writing snapshots of metrics in the given directory periodically until {@link
+   * #stopPeriodicSnapshots()} is called. Does nothing if the interval is not positive.
+   *
+   * @param dir Directory to write the snapshots in.
+   * @param intervalSeconds Interval between two snapshots in seconds.
+   */
+  public synchronized void startPeriodicSnapshots(Path dir, int intervalSeconds) {
+    if (intervalSeconds <= 0 || snapshotExecutor != null) {
+      return;
+    }
+    snapshotExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "annotator-metrics-snapshot");
+              thread.setDaemon(true);
+              return thread;
+            });
+    snapshotExecutor.scheduleAtFixedRate(
+        () -> {
+          try {
+            write(dir);
+          } catch (RuntimeException e) {
+            System.err.println("Could not write metrics snapshot: " + e.getMessage());
+          }
+        },
+        intervalSeconds,
+        intervalSeconds,
+        TimeUnit.SECONDS);
+  }
+
+  /** Stops writing periodic snapshots and waits for an in-progress snapshot to finish. */
+  public synchronized void stopPeriodicSnapshots() {
+    if (snapshotExecutor == null) {
+      return;
+    }
+    snapshotExecutor.shutdownNow();
+    try {
+      snapshotExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    snapshotExecutor = null;
+  }
+
+  /**
+   * Creates the json representation of a histogram.
+   *
+   * @param histogram Histogram to represent.
+   * @return Json representation with count, sum and per bucket counts.
+   */
+  private static JsonObject histogramToJson(Histogram histogram) {
+    JsonObject json = new JsonObject();
+    json.addProperty("count", histogram.getCount());
+    json.addProperty("sum", histogram.getSum());
+    JsonArray buckets = new JsonArray();
+    double[] bounds = histogram.getBounds();
+    for (int i = 0; i <= bounds.length; i++) {
+      JsonObject bucket = new JsonObject();
+      bucket.addProperty("le", i < bounds.length ? format(bounds[i]) : "+Inf");
+      bucket.addProperty("count", histogram.getBucketCount(i));
+      buckets.add(bucket);
+    }
+    json.add("buckets", buckets);
+    return json;
+  }
+
+  /**
+   * Appends a histogram in Prometheus text format with cumulative buckets.
+   *
+   * @param builder Builder to append to.
+   * @param metric Name of the metric.
+   * @param labels Labels of the metric without braces, may be empty.
+   * @param histogram Histogram to append.
+   */
+  private static void appendHistogram(
+      StringBuilder builder, String metric, String labels, Histogram histogram) {
+    String prefix = labels.isEmpty() ? "" : labels + ",";
+    String suffix = labels.isEmpty() ? " " : "{" + labels + "} ";
+    double[] bounds = histogram.getBounds();
+    long cumulative = 0;
+    for (int i = 0; i <= bounds.length; i++) {
+      cumulative += histogram.getBucketCount(i);
+      String le = i < bounds.length ? format(bounds[i]) : "+Inf";
+      builder
+          .append(metric)
+          .append("_bucket{")
+          .append(prefix)
+          .append("le=\"")
+          .append(le)
+          .append("\"} ")
+          .append(cumulative)
+          .append('\n');
+    }
+    builder.append(metric).append("_sum").append(suffix);
+    builder.append(format(histogram.getSum())).append('\n');
+    builder.append(metric).append("_count").append(suffix);
+    builder.append(histogram.getCount()).append('\n');
+  }
+
+  /**
+   * Appends a single cache sample in Prometheus text format.
+   *
+   * @param builder Builder to append to.
+   * @param metric Name of the metric.
+   * @param cache Name of the cache.
+   * @param value Value of the sample.
+   */
+  private static void appendCacheLine(
+      StringBuilder builder, String metric, String cache, long value) {
+    builder.append(metric).append("{cache=\"").append(cache).append("\"} ");
+    builder.append(value).append('\n');
+  }
+
+  /**
+   * Formats a floating point value.
+   *
+   * @param value Value to format.
+   * @return String representation of the value.
+   */
+  private static String format(double value) {
+    return Double.toString(value);
+  }
+
+  /**
+   * Writes the content to a temporary file in the same directory and moves it to the given path.
+   *
+   * @param path Path to the file.
+   * @param content Content to write.
+   */
+  private static void writeAtomically(Path path, String content) {
+    Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try {
+      Files.writeString(temp, content, StandardCharsets.UTF_8);
+      try {
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not write metrics to: " + path, e);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.metrics;
+
+/** Phases of Annotator whose durations are measured by {@link Metrics}. */
+public enum Phase {
+  /** Builds with the scanner checker activated to collect code structure information. */
+  SCANNER_BUILD("scanner_build"),
+  /** Loading of field, method and region registries from scanner outputs. */
+  REGISTRY_LOAD("registry_load"),
+  /** Construction of conflict graphs from fix trees. */
+  GRAPH_CONSTRUCTION("graph_construction"),
+  /** Coloring of conflict graphs to find non-conflicting groups. */
+  COLORING("coloring"),
+  /** Injection of annotations to the source code. */
+  INJECTION("injection"),
+  /** Removal of annotations from the source code. */
+  REMOVAL("removal"),
+  /** All builds of modules, including builds with the scanner checker activated. */
+  BUILD("build"),
+  /** Deserialization of errors reported by the checker. */
+  ERROR_DESERIALIZATION("error_deserialization"),
+  /** Computation of differences in reported errors before and after injections. */
+  DIFFING("diffing"),
+  /** Writing of the final reports. */
+  REPORT_WRITING("report_writing");
+
+  /** Name of the phase in exported metrics. */
+  public final String metricName;
+
+  Phase(String metricName) {
+    this.metricName = metricName;
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Timer recording durations of a phase in seconds, along with the longest duration observed. */
+public class Timer {
+
+  /** Bucket upper bounds in seconds. */
+  private static final double[] BOUNDS = {
+    0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 10, 30, 60, 300, 1800
+  };
+
+  /** Distribution of durations in seconds. */
+  private final Histogram histogram = new Histogram(BOUNDS);
+
+  /** Longest duration observed in nanoseconds. */
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos Duration in nanoseconds.
+   */
+  public void record(long nanos) {
+    histogram.observe(nanos / 1e9);
+    maxNanos.accumulateAndGet(nanos, Math::max);
+  }
+
+  /**
+   * Returns the distribution of durations in seconds.
+   *
+   * @return Histogram of durations.
+   */
+  public Histogram getHistogram() {
+    return histogram;
+  }
+
+  /**
+   * Returns the longest duration observed in seconds.
+   *
+   * @return Longest duration in seconds.
+   */
+  public double getMaxSeconds() {
+    return maxNanos.get() / 1e9;
+  }
+}
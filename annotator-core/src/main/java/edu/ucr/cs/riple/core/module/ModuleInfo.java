@@ -24,19 +24,25 @@
 
 package edu.ucr.cs.riple.core.module;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.metrics.Phase;
 import edu.ucr.cs.riple.core.registries.field.FieldRegistry;
+import edu.ucr.cs.riple.core.registries.index.ErrorSnapshot;
 import edu.ucr.cs.riple.core.registries.index.Fix;
 import edu.ucr.cs.riple.core.registries.index.NonnullStore;
 import edu.ucr.cs.riple.core.registries.method.MethodRegistry;
 import edu.ucr.cs.riple.core.registries.region.CompoundRegionRegistry;
+import edu.ucr.cs.riple.core.registries.region.RegionFingerprints;
 import edu.ucr.cs.riple.core.registries.region.RegionRegistry;
 import edu.ucr.cs.riple.core.registries.region.generatedcode.AnnotationProcessorHandler;
 import edu.ucr.cs.riple.core.registries.region.generatedcode.LombokHandler;
 import edu.ucr.cs.riple.core.util.Utility;
 import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.location.OnClass;
+import edu.ucr.cs.riple.scanner.BinaryTable;
+import edu.ucr.cs.riple.scanner.ScannerShards;
 import edu.ucr.cs.riple.scanner.Serializer;
 import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
 import java.nio.file.Path;
@@ -62,12 +68,18 @@ public class ModuleInfo {
    */
   private final CompoundRegionRegistry regionRegistry;
 
+  /** Fingerprints of source text of regions, used to validate cached information on regions. */
+  private final RegionFingerprints regionFingerprints;
+
   /**
    * The set of annotation processor handlers that are used to process the generated code in this
    * module.
    */
   private final ImmutableSet<AnnotationProcessorHandler> annotationProcessorHandlers;
 
+  /** Latest snapshot of errors reported by the checker on this module, created on first use. */
+  private ErrorSnapshot errorSnapshot;
+
   private final Context context;
 
   /**
@@ -96,10 +108,13 @@ public class ModuleInfo {
     context.checker.prepareConfigFilesForBuild(configurations);
     Utility.runScannerChecker(context, configurations, buildCommand);
     checkScannerConfiguration();
+    long timer = context.metrics.startTimer();
     this.nonnullStore = new NonnullStore(configurations, context);
     this.fieldRegistry = new FieldRegistry(configurations, context);
     this.methodRegistry = new MethodRegistry(context);
     this.regionRegistry = new CompoundRegionRegistry(this, context);
+    this.regionFingerprints = new RegionFingerprints(this, context);
+    context.metrics.stopTimer(Phase.REGISTRY_LOAD, timer);
     ImmutableSet.Builder<AnnotationProcessorHandler> builder = new ImmutableSet.Builder<>();
     if (context.config.generatedCodeDetectors.contains(SourceType.LOMBOK)) {
       builder.add(new LombokHandler(this));
@@ -212,6 +227,35 @@ public class ModuleInfo {
     return regionRegistry;
   }
 
+  /**
+   * Getter for the created {@link RegionFingerprints} instance.
+   *
+   * @return The created {@link RegionFingerprints} instance.
+   */
+  public RegionFingerprints getRegionFingerprints() {
+    return regionFingerprints;
+  }
+
+  /**
+   * Returns the snapshot of errors reported by the checker on this module in the latest build.
+   * Checker output is parsed only if a build is requested or an output file is changed since the
+   * previous snapshot, otherwise the previous snapshot is shared.
+   *
+   * @return Snapshot of the reported errors.
+   */
+  public ErrorSnapshot getErrorSnapshot() {
+    ImmutableMap<Path, String> stamps =
+        ErrorSnapshot.computeStamps(
+            configurations.stream()
+                .map(configuration -> configuration.dir.resolve("errors.tsv"))
+                .collect(ImmutableSet.toImmutableSet()));
+    long version = context.log.getRequestedBuilds();
+    if (errorSnapshot == null || !errorSnapshot.isUpToDate(version, stamps)) {
+      errorSnapshot = new ErrorSnapshot(version, stamps, context.checker.deserializeErrors(this));
+    }
+    return errorSnapshot;
+  }
+
   /**
    * Getter for the set of annotation processor handlers that are used to process the generated
    * code.
@@ -233,7 +277,11 @@ public class ModuleInfo {
       // check for existence of one of the serialized files from Scanner. In this case we chose
       // NON_NULL_ELEMENTS_FILE_NAME but any other file would work.
       Path pathToNonnull = config.dir.resolve(Serializer.NON_NULL_ELEMENTS_FILE_NAME);
-      if (!pathToNonnull.toFile().exists()) {
+      boolean serialized =
+          ScannerShards.resolve(pathToNonnull).stream()
+              .anyMatch(
+                  path -> path.toFile().exists() || BinaryTable.pathOf(path).toFile().exists());
+      if (!serialized) {
         String moduleName = config.id == 0 ? "target" : "dependency " + config.id;
         throw new IllegalArgumentException(
             "AnnotatorScanner is not correctly configured for the module: "
@@ -27,9 +27,12 @@ package edu.ucr.cs.riple.core.registries;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Context;
-import java.io.BufferedReader;
+import edu.ucr.cs.riple.core.metrics.RegistryLoadEvent;
+import edu.ucr.cs.riple.core.util.TsvReader;
+import edu.ucr.cs.riple.scanner.BinaryTable;
+import edu.ucr.cs.riple.scanner.BinaryTableReader;
+import edu.ucr.cs.riple.scanner.ScannerShards;
 import java.io.IOException;
-import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.function.Predicate;
@@ -64,15 +67,14 @@ public abstract class Registry<T> {
    * @param path Path to the file containing the data.
    */
   public Registry(Path path, Context context) {
+    RegistryLoadEvent event = new RegistryLoadEvent();
+    event.begin();
     ImmutableMultimap.Builder<Integer, T> builder = ImmutableMultimap.builder();
     this.context = context;
     setup();
-    try {
-      populateContent(path, builder);
-    } catch (IOException e) {
-      throw new RuntimeException("Error happened while loading content of file: " + path, e);
-    }
+    populateShards(path, builder);
     this.contents = builder.build();
+    commitLoadEvent(event, 1);
   }
 
   /**
@@ -82,18 +84,46 @@ public abstract class Registry<T> {
    * @param paths Paths to all files containing data.
    */
   public Registry(ImmutableSet<Path> paths, Context context) {
+    RegistryLoadEvent event = new RegistryLoadEvent();
+    event.begin();
     ImmutableMultimap.Builder<Integer, T> builder = ImmutableMultimap.builder();
     this.context = context;
     setup();
-    paths.forEach(
-        path -> {
-          try {
-            populateContent(path, builder);
-          } catch (IOException e) {
-            throw new RuntimeException("Error happened while loading content of file: " + path, e);
-          }
-        });
+    paths.forEach(path -> populateShards(path, builder));
     this.contents = builder.build();
+    commitLoadEvent(event, paths.size());
+  }
+
+  /**
+   * Commits the given load event with the loaded content of this registry.
+   *
+   * @param event Event started at the beginning of the load.
+   * @param files Number of loaded files.
+   */
+  private void commitLoadEvent(RegistryLoadEvent event, int files) {
+    if (event.shouldCommit()) {
+      event.registry = getClass().getSimpleName();
+      event.files = files;
+      event.records = contents.size();
+      event.commit();
+    }
+  }
+
+  /**
+   * Loads data of the given output to the given builder. If the output is sharded by the scanner,
+   * files of all shards are loaded, see {@link ScannerShards}.
+   *
+   * @param path Path to the output.
+   * @param builder Builder of the contents.
+   */
+  private void populateShards(Path path, ImmutableMultimap.Builder<Integer, T> builder) {
+    for (Path shard : ScannerShards.resolve(path)) {
+      try {
+        populateContent(shard, builder);
+      } catch (IOException e) {
+        throw new RuntimeException("Error happened while loading content of file: " + shard, e);
+      }
+    }
   }
 
   /**
@@ -103,28 +133,45 @@ public abstract class Registry<T> {
   protected void setup() {}
 
   /**
-   * Loads data existing in the given path, to the given builder.
+   * Loads data existing in the given path, to the given builder. If a binary table serialized by
+   * the scanner exists next to the given path, it is loaded instead.
    *
    * @param path Path to the file containing data.
    * @throws IOException if file not is found.
    */
   protected void populateContent(Path path, ImmutableMultimap.Builder<Integer, T> builder)
       throws IOException {
-    try (BufferedReader reader =
-        Files.newBufferedReader(path.toFile().toPath(), Charset.defaultCharset())) {
-      Builder<T> recordBuilder = getBuilder();
-      String line = reader.readLine();
-      if (line != null) {
+    Builder<T> recordBuilder = getBuilder();
+    Path binary = BinaryTable.pathOf(path);
+    if (Files.exists(binary)) {
+      // Outputs serialized in binary format by the scanner.
+      try (BinaryTableReader reader = new BinaryTableReader(binary)) {
         // Skip header
-        line = reader.readLine();
-      }
-      while (line != null) {
-        T record = recordBuilder.build(line.split("\t"));
-        if (record != null) {
-          builder.put(record.hashCode(), record);
+        reader.next();
+        while (reader.next()) {
+          addRecord(recordBuilder.build(reader.fields()), builder);
         }
-        line = reader.readLine();
       }
+      return;
+    }
+    try (TsvReader reader = new TsvReader(path)) {
+      // Skip header
+      reader.skip();
+      while (reader.next()) {
+        addRecord(recordBuilder.build(reader.fields()), builder);
+      }
+    }
+  }
+
+  /**
+   * Adds the given record to the given builder mapped to its hash.
+   *
+   * @param record Record to add, ignored if {@code null}.
+   * @param builder Builder of the contents.
+   */
+  private void addRecord(@Nullable T record, ImmutableMultimap.Builder<Integer, T> builder) {
+    if (record != null) {
+      builder.put(record.hashCode(), record);
     }
   }
 
@@ -183,7 +230,8 @@ public abstract class Registry<T> {
    */
   public interface Builder<T> {
     /**
-     * Builds a registry record of type {@link T} from a row of a TSV file.
+     * Builds a registry record of type {@link T} from a row of a TSV file. The given array is
+     * reused for subsequent rows and must not be retained.
      *
      * @param values Row of a TSV file.
      * @return Registry record of type {@link T}.
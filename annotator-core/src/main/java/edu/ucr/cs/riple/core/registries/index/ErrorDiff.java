@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.index;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Multiset;
+import java.util.Collection;
+
+/**
+ * Stores the difference between two snapshots of errors, errors are compared as multisets so that
+ * repeated occurrences of equal errors are accounted for.
+ */
+public class ErrorDiff {
+
+  /** Errors present in the current snapshot but not in the previous one. */
+  public final ImmutableList<Error> added;
+
+  /** Errors present in the previous snapshot but not in the current one. */
+  public final ImmutableList<Error> removed;
+
+  private ErrorDiff(ImmutableList<Error> added, ImmutableList<Error> removed) {
+    this.added = added;
+    this.removed = removed;
+  }
+
+  /**
+   * Computes the difference between two snapshots of errors using hashed multisets. Runs in time
+   * linear in the size of both snapshots, and preserves the order of errors in each snapshot.
+   *
+   * @param previous Errors in the previous snapshot.
+   * @param current Errors in the current snapshot.
+   * @return Difference between the snapshots.
+   */
+  public static ErrorDiff of(Collection<Error> previous, Collection<Error> current) {
+    Multiset<Error> unmatched = HashMultiset.create(previous);
+    ImmutableList.Builder<Error> added = ImmutableList.builder();
+    for (Error error : current) {
+      if (unmatched.remove(error, 1) == 0) {
+        added.add(error);
+      }
+    }
+    ImmutableList.Builder<Error> removed = ImmutableList.builder();
+    for (Error error : previous) {
+      if (unmatched.remove(error, 1) > 0) {
+        removed.add(error);
+      }
+    }
+    return new ErrorDiff(added.build(), removed.build());
+  }
+
+  /**
+   * Returns the change in number of errors from the previous snapshot to the current one.
+   *
+   * @return Number of added errors minus number of removed errors.
+   */
+  public int size() {
+    return added.size() - removed.size();
+  }
+
+  /**
+   * Converts this difference to a {@link Result} of (current - previous).
+   *
+   * @return Corresponding {@link Result} instance.
+   */
+  public Result toResult() {
+    return new Result(size(), added);
+  }
+}
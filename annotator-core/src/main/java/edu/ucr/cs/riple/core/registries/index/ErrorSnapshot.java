@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.index;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Immutable snapshot of errors reported by the checker in a single build. Each checker output is
+ * parsed once into a snapshot which is shared by all consumers (error stores, fix extraction,
+ * suppression and reporting). Snapshots are identified by the build sequence number they are
+ * taken at and the stamps of the checker output files, and can be compared cheaply with each
+ * other.
+ */
+public class ErrorSnapshot {
+
+  /** Build sequence number (number of requested builds) at the time of the snapshot. */
+  public final long version;
+
+  /** Stamps of the checker output files the snapshot is parsed from. */
+  private final ImmutableMap<Path, String> stamps;
+
+  /** Reported errors. */
+  private final ImmutableSet<Error> errors;
+
+  /** Reported errors grouped by their enclosing region, created on first use. */
+  private ImmutableListMultimap<Region, Error> errorsByRegion;
+
+  /** Resolving fixes of reported errors, created on first use. */
+  private ImmutableSet<Fix> resolvingFixes;
+
+  /**
+   * Creates a snapshot of the given errors.
+   *
+   * @param version Build sequence number the errors are reported at.
+   * @param stamps Stamps of the checker output files the errors are parsed from.
+   * @param errors Reported errors.
+   */
+  public ErrorSnapshot(
+      long version, ImmutableMap<Path, String> stamps, Collection<? extends Error> errors) {
+    this.version = version;
+    this.stamps = stamps;
+    this.errors = ImmutableSet.copyOf(errors);
+  }
+
+  /**
+   * Computes the stamps of the given checker output files. A stamp consists of the size and the
+   * last modification time of the file, missing files are stamped as well.
+   *
+   * @param paths Paths to checker output files.
+   * @return Immutable map of paths to their stamps.
+   */
+  public static ImmutableMap<Path, String> computeStamps(Collection<Path> paths) {
+    ImmutableMap.Builder<Path, String> builder = ImmutableMap.builder();
+    paths.forEach(
+        path -> {
+          String stamp;
+          try {
+            stamp = Files.size(path) + ":" + Files.getLastModifiedTime(path);
+          } catch (IOException e) {
+            stamp = "missing";
+          }
+          builder.put(path, stamp);
+        });
+    return builder.build();
+  }
+
+  /**
+   * Checks if this snapshot still reflects the checker output.
+   *
+   * @param version Current build sequence number.
+   * @param stamps Current stamps of the checker output files.
+   * @return true, if no build is requested and no output file is changed since the snapshot.
+   */
+  public boolean isUpToDate(long version, ImmutableMap<Path, String> stamps) {
+    return this.version == version && this.stamps.equals(stamps);
+  }
+
+  /**
+   * Returns reported errors.
+   *
+   * @return Immutable set of errors.
+   */
+  public ImmutableSet<Error> getErrors() {
+    return errors;
+  }
+
+  /**
+   * Returns reported errors cast to the given type.
+   *
+   * @param klass Class of the errors.
+   * @return Immutable set of errors.
+   * @param <T> Type of the errors.
+   */
+  public <T extends Error> ImmutableSet<T> getErrors(Class<T> klass) {
+    return errors.stream().map(klass::cast).collect(ImmutableSet.toImmutableSet());
+  }
+
+  /**
+   * Returns reported errors grouped by their enclosing region.
+   *
+   * @return Immutable multimap of regions to errors.
+   */
+  public ImmutableListMultimap<Region, Error> getErrorsByRegion() {
+    if (errorsByRegion == null) {
+      errorsByRegion =
+          errors.stream()
+              .collect(
+                  ImmutableListMultimap.toImmutableListMultimap(Error::getRegion, error -> error));
+    }
+    return errorsByRegion;
+  }
+
+  /**
+   * Returns resolving fixes of reported errors.
+   *
+   * @return Immutable set of fixes.
+   */
+  public ImmutableSet<Fix> getResolvingFixes() {
+    if (resolvingFixes == null) {
+      resolvingFixes = Error.getResolvingFixesOfErrors(errors);
+    }
+    return resolvingFixes;
+  }
+
+  /**
+   * Computes the difference from the given previous snapshot to this snapshot.
+   *
+   * @param previous Previous snapshot.
+   * @return Difference between the snapshots.
+   */
+  public ErrorDiff diff(ErrorSnapshot previous) {
+    return ErrorDiff.of(previous.errors, errors);
+  }
+
+  /**
+   * Computes the difference of errors enclosed by the given region from the given previous
+   * snapshot to this snapshot.
+   *
+   * @param previous Previous snapshot.
+   * @param region Enclosing region.
+   * @return Difference between the snapshots within the region.
+   */
+  public ErrorDiff diff(ErrorSnapshot previous, Region region) {
+    return ErrorDiff.of(previous.getErrorsByRegion().get(region), getErrorsByRegion().get(region));
+  }
+}
@@ -24,12 +24,13 @@
 
 package edu.ucr.cs.riple.core.registries.index;
 
+import com.google.common.collect.ImmutableMap;
 import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.metrics.Phase;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.region.Region;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -51,6 +52,9 @@ public class ErrorStore {
   /** Annotator context. */
   private final Context context;
 
+  /** Index from fixes to errors of the initial state they participate in resolving. */
+  private FixErrorIndex fixErrorIndex;
+
   public ErrorStore(Context context, ModuleInfo moduleInfo) {
     this.moduleInfo = moduleInfo;
     this.context = context;
@@ -72,10 +76,29 @@ public class ErrorStore {
    * @return Corresponding {@link Result} instance storing result of (A - B).
    */
   private Result compareByList(Collection<Error> previousItems, Collection<Error> currentItems) {
-    int size = currentItems.size() - previousItems.size();
-    List<Error> temp = new ArrayList<>(currentItems);
-    previousItems.forEach(temp::remove);
-    return new Result(size, temp);
+    return ErrorDiff.of(previousItems, currentItems).toResult();
+  }
+
+  /**
+   * Computes added and removed errors of each region between the root state and current state in
+   * a single pass over both states. Regions with no change are not included.
+   *
+   * @return Immutable map of regions to their differences.
+   */
+  public ImmutableMap<Region, ErrorDiff> diffByRegion() {
+    long timer = context.metrics.startTimer();
+    ImmutableMap.Builder<Region, ErrorDiff> builder = ImmutableMap.builder();
+    Set<Region> regions = new HashSet<>(root.getRegions());
+    regions.addAll(current.getRegions());
+    regions.forEach(
+        region -> {
+          ErrorDiff diff = ErrorDiff.of(root.get(region), current.get(region));
+          if (!diff.added.isEmpty() || !diff.removed.isEmpty()) {
+            builder.put(region, diff);
+          }
+        });
+    context.metrics.stopTimer(Phase.DIFFING, timer);
+    return builder.build();
   }
 
   /**
@@ -86,7 +109,10 @@ public class ErrorStore {
    * @return Corresponding {@link Result}.
    */
   public Result compareByRegion(Region region) {
-    return compareByList(root.get(region), current.get(region));
+    long timer = context.metrics.startTimer();
+    Result result = compareByList(root.get(region), current.get(region));
+    context.metrics.stopTimer(Phase.DIFFING, timer);
+    return result;
   }
 
   /**
@@ -95,7 +121,10 @@ public class ErrorStore {
    * @return Corresponding {@link Result} instance.
    */
   public Result compare() {
-    return compareByList(root.values(), current.values());
+    long timer = context.metrics.startTimer();
+    Result result = compareByList(root.values(), current.values());
+    context.metrics.stopTimer(Phase.DIFFING, timer);
+    return result;
   }
 
   /**
@@ -115,6 +144,30 @@ public class ErrorStore {
    * @return Number of resolved errors.
    */
   public int getNumberOfErrorsResolvedByAllFixesWithinCollection(Collection<Fix> fixes) {
-    return (int) root.values().stream().filter(error -> error.isResolvableWith(fixes)).count();
+    return getFixErrorIndex().getNumberOfErrorsResolvedByAllFixesWithinCollection(fixes);
+  }
+
+  /**
+   * Returns regions of errors in base (initial set of errors) containing the given fix in their
+   * resolving fixes.
+   *
+   * @param fix The given fix.
+   * @return Set of regions.
+   */
+  public Set<Region> getRegionsOfErrorsResolvableWith(Fix fix) {
+    return getFixErrorIndex().getRegionsOfErrorsResolvableWith(fix);
+  }
+
+  /**
+   * Returns the index from fixes to errors of the initial state, the index is created on first
+   * use as the initial state does not change afterward.
+   *
+   * @return Index of errors in the initial state.
+   */
+  private FixErrorIndex getFixErrorIndex() {
+    if (fixErrorIndex == null) {
+      fixErrorIndex = new FixErrorIndex(root.values());
+    }
+    return fixErrorIndex;
   }
 }
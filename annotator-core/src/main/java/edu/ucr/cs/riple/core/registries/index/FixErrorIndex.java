@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.index;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MultimapBuilder;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from fixes to the errors they participate in resolving. An error is resolved by
+ * a collection of fixes once the collection contains all of its resolving fixes, counting the
+ * resolving fixes of each error found in the collection makes resolution queries linear in the
+ * size of the collection rather than in the number of errors.
+ */
+public class FixErrorIndex {
+
+  /** Indexed errors, an error occurring multiple times is stored once per occurrence. */
+  private final ImmutableList<Error> errors;
+
+  /** Map of fixes to positions of errors in {@link #errors} containing them in resolving fixes. */
+  private final ListMultimap<Fix, Integer> errorsByFix;
+
+  public FixErrorIndex(Collection<Error> errors) {
+    this.errors = ImmutableList.copyOf(errors);
+    this.errorsByFix = MultimapBuilder.hashKeys().arrayListValues().build();
+    for (int i = 0; i < this.errors.size(); i++) {
+      // Errors with no resolving fixes can never be resolved and are not indexed.
+      for (Fix fix : this.errors.get(i).getResolvingFixes()) {
+        errorsByFix.put(fix, i);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of errors resolved by the given fixes, errors are counted per occurrence.
+   *
+   * @param fixes The given fixes.
+   * @return Number of resolved errors.
+   */
+  public int getNumberOfErrorsResolvedByAllFixesWithinCollection(Collection<Fix> fixes) {
+    Set<Fix> distinct = fixes instanceof Set ? (Set<Fix>) fixes : ImmutableSet.copyOf(fixes);
+    // Number of resolving fixes of each error occurrence present in the collection.
+    Map<Integer, Integer> found = new HashMap<>();
+    int resolved = 0;
+    for (Fix fix : distinct) {
+      for (int position : errorsByFix.get(fix)) {
+        int count = found.merge(position, 1, Integer::sum);
+        if (count == errors.get(position).getResolvingFixes().size()) {
+          resolved++;
+        }
+      }
+    }
+    return resolved;
+  }
+
+  /**
+   * Returns regions of errors containing the given fix in their resolving fixes.
+   *
+   * @param fix The given fix.
+   * @return Set of regions.
+   */
+  public ImmutableSet<Region> getRegionsOfErrorsResolvableWith(Fix fix) {
+    return errorsByFix.get(fix).stream()
+        .map(position -> errors.get(position).getRegion())
+        .collect(ImmutableSet.toImmutableSet());
+  }
+}
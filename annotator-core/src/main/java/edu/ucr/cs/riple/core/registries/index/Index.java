@@ -27,9 +27,9 @@ package edu.ucr.cs.riple.core.registries.index;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
 import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.metrics.IndexEvent;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.region.Region;
-import edu.ucr.cs.riple.core.util.Utility;
 import java.util.Collection;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -59,9 +59,25 @@ public class Index {
 
   /** Starts the reading and index process. */
   public void index() {
+    IndexEvent event = new IndexEvent();
+    event.begin();
     items.clear();
-    Utility.readErrorsFromOutputDirectory(context, moduleInfo, Error.class)
-        .forEach(error -> items.put(error.getRegion(), error));
+    items.putAll(moduleInfo.getErrorSnapshot().getErrorsByRegion());
+    if (event.shouldCommit()) {
+      event.errors = items.size();
+      event.regions = items.keySet().size();
+      event.commit();
+    }
+  }
+
+  /**
+   * Replaces contents of the index with the given errors.
+   *
+   * @param errors Errors to index.
+   */
+  public void index(Collection<? extends Error> errors) {
+    items.clear();
+    errors.forEach(error -> items.put(error.getRegion(), error));
   }
 
   /**
@@ -83,6 +99,15 @@ public class Index {
     return items.values();
   }
 
+  /**
+   * Returns all regions enclosing at least one item.
+   *
+   * @return Set of regions.
+   */
+  public Set<Region> getRegions() {
+    return items.keySet();
+  }
+
   /**
    * Returns all items regions that holds the given predicate.
    *
@@ -26,6 +26,7 @@ package edu.ucr.cs.riple.core.registries.method;
 
 import static edu.ucr.cs.riple.scanner.out.MethodRecord.ANNOTATION_DELIMITER;
 
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
@@ -37,6 +38,8 @@ import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.location.OnMethod;
 import edu.ucr.cs.riple.injector.util.ASTUtils;
 import edu.ucr.cs.riple.scanner.Serializer;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Objects;
@@ -58,6 +61,15 @@ public class MethodRegistry extends Registry<MethodRecord> {
   /** Set of all classes flat name declared in module. */
   private Set<String> declaredClasses;
 
+  /**
+   * Offset added to ids of records in the file being loaded. Ids are assigned by each scanner
+   * instance independently, therefore they are only unique within a single file (module or shard).
+   */
+  private int idOffset;
+
+  /** Largest id of loaded records, ids of the next file are shifted after this id. */
+  private int maxId;
+
   public MethodRegistry(Context context) {
     this(ImmutableSet.of(context.targetConfiguration), context);
   }
@@ -78,13 +90,22 @@ public class MethodRegistry extends Registry<MethodRecord> {
     this.nodes = new HashMap<>();
     // The root node of this tree with id: 0.
     nodes.put(MethodRecord.TOP.id, MethodRecord.TOP);
+    this.idOffset = 0;
+    this.maxId = 0;
+  }
+
+  @Override
+  protected void populateContent(
+      Path path, ImmutableMultimap.Builder<Integer, MethodRecord> builder) throws IOException {
+    idOffset = maxId;
+    super.populateContent(path, builder);
   }
 
   @Override
   protected Builder<MethodRecord> getBuilder() {
     return values -> {
       // Nodes unique id.
-      Integer id = Integer.parseInt(values[0]);
+      Integer id = idOffset + Integer.parseInt(values[0]);
       MethodRecord node;
       if (nodes.containsKey(id)) {
         node = nodes.get(id);
@@ -93,7 +114,10 @@ public class MethodRegistry extends Registry<MethodRecord> {
         nodes.put(id, node);
       }
       // Fill nodes information.
-      Integer parentId = Integer.parseInt(values[3]);
+      int serializedParentId = Integer.parseInt(values[3]);
+      Integer parentId =
+          serializedParentId > 0 ? idOffset + serializedParentId : serializedParentId;
+      maxId = Math.max(maxId, Math.max(id, parentId));
       OnMethod location = new OnMethod(Printer.deserializePath(values[8]), values[1], values[2]);
       boolean isConstructor =
           ASTUtils.extractCallableName(location.method).equals(ASTUtils.simpleName(location.clazz));
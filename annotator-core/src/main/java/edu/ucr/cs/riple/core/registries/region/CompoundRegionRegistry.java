@@ -27,8 +27,10 @@ package edu.ucr.cs.riple.core.registries.region;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.registries.index.Fix;
 import edu.ucr.cs.riple.core.registries.region.generatedcode.AnnotationProcessorHandler;
 import edu.ucr.cs.riple.injector.location.Location;
+import java.util.Collection;
 
 /**
  * Container class for all region registries. This region registry can identify impacted regions for
@@ -84,6 +86,21 @@ public class CompoundRegionRegistry implements RegionRegistry {
     return fromRegistriesBuilder.build();
   }
 
+  /**
+   * Returns the set of regions where any of the given fixes can introduce new errors if injected.
+   * This set is the footprint of the fixes, a change in any region outside of this set cannot
+   * alter the impact of the fixes.
+   *
+   * @param fixes Collection of fixes.
+   * @return Immutable set of regions.
+   */
+  public ImmutableSet<Region> getImpactedRegions(Collection<Fix> fixes) {
+    return fixes.stream()
+        .flatMap(fix -> fix.toLocations().stream())
+        .flatMap(location -> getImpactedRegions(location).stream())
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
   /**
    * Returns the method region registry created by this instance.
    *
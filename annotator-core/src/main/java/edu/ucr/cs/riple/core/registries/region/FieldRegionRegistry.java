@@ -33,6 +33,7 @@ import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.location.OnField;
 import edu.ucr.cs.riple.scanner.Serializer;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * Region registry for Fields. This region registry can identify impacted regions for fixes on
@@ -43,6 +44,13 @@ public class FieldRegionRegistry extends Registry<RegionRecord> implements Regio
   /** ModuleInfo of the module which usages of fields are stored. */
   private final ModuleInfo moduleInfo;
 
+  /**
+   * Off-heap store of records, used instead of the on-heap contents if {@link
+   * edu.ucr.cs.riple.core.Config#offHeapRegions} is activated. Initialized in {@link #setup()}
+   * before the contents are loaded, therefore it must not have an initializer.
+   */
+  @Nullable private RegionRecordStore store;
+
   public FieldRegionRegistry(ModuleInfo moduleInfo, Context context) {
     super(
         moduleInfo.getModuleConfigurations().stream()
@@ -52,10 +60,26 @@ public class FieldRegionRegistry extends Registry<RegionRecord> implements Regio
             .collect(ImmutableSet.toImmutableSet()),
         context);
     this.moduleInfo = moduleInfo;
+    if (store != null) {
+      store.seal();
+    }
+  }
+
+  @Override
+  protected void setup() {
+    if (context.config.offHeapRegions) {
+      store = new RegionRecordStore(context.config.globalDir);
+    }
   }
 
   @Override
   protected Builder<RegionRecord> getBuilder() {
+    if (store != null) {
+      return values -> {
+        store.append(values);
+        return null;
+      };
+    }
     return Utility::deserializeImpactedRegionRecord;
   }
 
@@ -90,6 +114,11 @@ public class FieldRegionRegistry extends Registry<RegionRecord> implements Regio
       return ImmutableSet.of();
     }
     OnField field = location.toField();
+    if (store != null) {
+      ImmutableSet.Builder<Region> builder = ImmutableSet.builder();
+      field.variables.forEach(variable -> builder.addAll(store.getRegions(field.clazz, variable)));
+      return builder.build();
+    }
     return findRecordsWithHashHint(
             candidate ->
                 candidate.encClass.equals(field.clazz) && field.isOnFieldWithName(candidate.member),
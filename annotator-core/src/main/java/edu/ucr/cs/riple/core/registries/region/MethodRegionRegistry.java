@@ -33,6 +33,7 @@ import edu.ucr.cs.riple.core.util.Utility;
 import edu.ucr.cs.riple.injector.location.Location;
 import edu.ucr.cs.riple.injector.location.OnMethod;
 import edu.ucr.cs.riple.scanner.Serializer;
+import javax.annotation.Nullable;
 
 /**
  * Region registry for Methods. This region registry can identify impacted regions for fixes on
@@ -43,6 +44,13 @@ public class MethodRegionRegistry extends Registry<RegionRecord> implements Regi
   /** ModuleInfo of the module which usage of methods are stored. */
   private final ModuleInfo moduleInfo;
 
+  /**
+   * Off-heap store of records, used instead of the on-heap contents if {@link
+   * edu.ucr.cs.riple.core.Config#offHeapRegions} is activated. Initialized in {@link #setup()}
+   * before the contents are loaded, therefore it must not have an initializer.
+   */
+  @Nullable private RegionRecordStore store;
+
   public MethodRegionRegistry(ModuleInfo moduleInfo, Context context) {
     super(
         moduleInfo.getModuleConfigurations().stream()
@@ -50,10 +58,26 @@ public class MethodRegionRegistry extends Registry<RegionRecord> implements Regi
             .collect(ImmutableSet.toImmutableSet()),
         context);
     this.moduleInfo = moduleInfo;
+    if (store != null) {
+      store.seal();
+    }
+  }
+
+  @Override
+  protected void setup() {
+    if (context.config.offHeapRegions) {
+      store = new RegionRecordStore(context.config.globalDir);
+    }
   }
 
   @Override
   protected Builder<RegionRecord> getBuilder() {
+    if (store != null) {
+      return values -> {
+        store.append(values);
+        return null;
+      };
+    }
     return Utility::deserializeImpactedRegionRecord;
   }
 
@@ -82,6 +106,9 @@ public class MethodRegionRegistry extends Registry<RegionRecord> implements Regi
       return ImmutableSet.of();
     }
     OnMethod onMethod = location.toMethod();
+    if (store != null) {
+      return store.getRegions(onMethod.clazz, onMethod.method);
+    }
     // Add callers of method.
     return findRecordsWithHashHint(
             candidate ->
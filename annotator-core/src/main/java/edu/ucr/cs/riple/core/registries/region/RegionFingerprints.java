@@ -0,0 +1,262 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.region;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import com.google.common.hash.Hashing;
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.injector.Injector;
+import edu.ucr.cs.riple.injector.SignatureMatcher;
+import edu.ucr.cs.riple.injector.exceptions.TargetClassNotFound;
+import edu.ucr.cs.riple.injector.location.OnClass;
+import edu.ucr.cs.riple.injector.util.ASTUtils;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Computes fingerprints of the source text of regions. A fingerprint is a stable hash of the
+ * declarations enclosed by the region (the method or constructor declaration, the field
+ * declaration, or all field initializers and initializer blocks of the class for initialization
+ * regions) with comments and annotations injected by Annotator normalized away. Caches can store
+ * the fingerprints of regions an entry depends on and validate the entry cheaply by comparing
+ * them with the current fingerprints.
+ *
+ * <p>Fingerprints are computed lazily and kept until the file containing the region is rewritten,
+ * at which point only the fingerprints of regions within that file are recomputed on demand.
+ */
+public class RegionFingerprints {
+
+  /** Fingerprint of regions whose source text cannot be located, e.g. regions in generated code. */
+  public static final long UNKNOWN = 0L;
+
+  /** Module containing the regions. */
+  private final ModuleInfo moduleInfo;
+
+  /** Annotator context. */
+  private final Context context;
+
+  /** Simple names of annotations injected by Annotator, ignored in fingerprints. */
+  private final ImmutableSet<String> normalizedAnnotations;
+
+  /** Parsed source files, dropped once the file is rewritten. */
+  private final Map<Path, Optional<CompilationUnit>> trees;
+
+  /** Computed fingerprints of regions. */
+  private final Map<Region, Long> fingerprints;
+
+  /** Regions with a computed fingerprint, grouped by the path to their source file. */
+  private final Multimap<Path, Region> regionsByPath;
+
+  public RegionFingerprints(ModuleInfo moduleInfo, Context context) {
+    this.moduleInfo = moduleInfo;
+    this.context = context;
+    this.normalizedAnnotations =
+        Stream.of(
+                context.config.nullableAnnot,
+                context.config.initializerAnnot,
+                context.config.nullUnMarkedAnnotation,
+                "SuppressWarnings")
+            .filter(name -> name != null)
+            .map(ASTUtils::simpleName)
+            .collect(ImmutableSet.toImmutableSet());
+    this.trees = new HashMap<>();
+    this.fingerprints = new HashMap<>();
+    this.regionsByPath = HashMultimap.create();
+  }
+
+  /**
+   * Returns the fingerprint of the given region.
+   *
+   * @param region Region to compute its fingerprint.
+   * @return Fingerprint of the region, or {@link #UNKNOWN} if its source text cannot be located.
+   */
+  public long getFingerprint(Region region) {
+    Long fingerprint = fingerprints.get(region);
+    return fingerprint == null ? computeFingerprint(region) : fingerprint;
+  }
+
+  /**
+   * Returns the fingerprints of the given regions.
+   *
+   * @param regions Regions to compute their fingerprints.
+   * @return Immutable map of regions to their fingerprints.
+   */
+  public ImmutableMap<Region, Long> getFingerprints(Collection<Region> regions) {
+    ImmutableMap.Builder<Region, Long> builder = ImmutableMap.builder();
+    regions.stream().distinct().forEach(region -> builder.put(region, getFingerprint(region)));
+    return builder.build();
+  }
+
+  /**
+   * Checks if the source text of all regions in the given snapshot is unchanged. A region whose
+   * source text could not be located is unchanged as long as it still cannot be located, e.g. an
+   * initialization region of a class without initializers.
+   *
+   * @param snapshot Fingerprints of regions computed earlier.
+   * @return true, if all fingerprints match the current fingerprints.
+   */
+  public boolean isUnchanged(Map<Region, Long> snapshot) {
+    return snapshot.entrySet().stream()
+        .allMatch(entry -> entry.getValue() == getFingerprint(entry.getKey()));
+  }
+
+  /**
+   * Updates the state after source files are rewritten. Fingerprints of regions within the given
+   * files are recomputed once requested, the rest are kept.
+   *
+   * @param paths Paths to rewritten source files.
+   */
+  public void onFilesWritten(Collection<Path> paths) {
+    paths.forEach(
+        path -> {
+          trees.remove(path);
+          regionsByPath.removeAll(path).forEach(fingerprints::remove);
+        });
+  }
+
+  /**
+   * Computes the fingerprint of the given region and caches it until its source file is rewritten.
+   * Regions without a source file are not cached, as no rewrite can invalidate them and their class
+   * may be located in a later build.
+   *
+   * @param region Region to compute its fingerprint.
+   * @return Fingerprint of the region, or {@link #UNKNOWN} if its source text cannot be located.
+   */
+  private long computeFingerprint(Region region) {
+    OnClass onClass = moduleInfo.getLocationOnClass(region.clazz);
+    if (onClass == null || onClass.path == null) {
+      return UNKNOWN;
+    }
+    Path path = onClass.path;
+    long fingerprint = computeFingerprintFromSource(region, path);
+    regionsByPath.put(path, region);
+    fingerprints.put(region, fingerprint);
+    return fingerprint;
+  }
+
+  /**
+   * Computes the fingerprint of the given region from its source file.
+   *
+   * @param region Region to compute its fingerprint.
+   * @param path Path to the source file containing the region.
+   * @return Fingerprint of the region, or {@link #UNKNOWN} if its source text cannot be located.
+   */
+  private long computeFingerprintFromSource(Region region, Path path) {
+    Optional<CompilationUnit> tree =
+        trees.computeIfAbsent(
+            path, p -> Optional.ofNullable(Injector.parse(p, context.config.languageLevel)));
+    if (tree.isEmpty()) {
+      return UNKNOWN;
+    }
+    NodeList<BodyDeclaration<?>> members;
+    try {
+      members = ASTUtils.getTypeDeclarationMembersByFlatName(tree.get(), region.clazz);
+    } catch (TargetClassNotFound notFound) {
+      return UNKNOWN;
+    }
+    List<BodyDeclaration<?>> declarations = getDeclarationsOfRegion(region, members);
+    if (declarations.isEmpty()) {
+      return UNKNOWN;
+    }
+    String text = declarations.stream().map(this::normalize).collect(Collectors.joining("\n"));
+    long fingerprint = Hashing.murmur3_128().hashString(text, StandardCharsets.UTF_8).asLong();
+    // avoid colliding with the reserved value for unknown regions.
+    return fingerprint == UNKNOWN ? 1L : fingerprint;
+  }
+
+  /**
+   * Returns the declarations enclosed by the given region among members of its class.
+   *
+   * @param region Region to locate.
+   * @param members Members of the enclosing class of the region.
+   * @return List of enclosed declarations in order of appearance.
+   */
+  private static List<BodyDeclaration<?>> getDeclarationsOfRegion(
+      Region region, NodeList<BodyDeclaration<?>> members) {
+    switch (region.type) {
+      case METHOD:
+      case CONSTRUCTOR:
+        SignatureMatcher matcher = new SignatureMatcher(region.member);
+        return members.stream()
+            .filter(
+                member ->
+                    member.isCallableDeclaration()
+                        && matcher.matchesCallableDeclaration(member.asCallableDeclaration()))
+            .collect(Collectors.toList());
+      case FIELD:
+        return members.stream()
+            .filter(
+                member ->
+                    member.isFieldDeclaration()
+                        && member.asFieldDeclaration().getVariables().stream()
+                            .anyMatch(var -> var.getNameAsString().equals(region.member)))
+            .collect(Collectors.toList());
+      default:
+        // Initialization region of the class.
+        return members.stream()
+            .filter(
+                member ->
+                    member.isInitializerDeclaration()
+                        || (member.isFieldDeclaration()
+                            && member.asFieldDeclaration().getVariables().stream()
+                                .anyMatch(var -> var.getInitializer().isPresent())))
+            .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * Returns the source text of the given declaration with comments and annotations injected by
+   * Annotator removed.
+   *
+   * @param declaration Declaration to normalize.
+   * @return Normalized source text.
+   */
+  private String normalize(BodyDeclaration<?> declaration) {
+    Node copy = declaration.clone();
+    copy.getAllContainedComments().forEach(Comment::remove);
+    copy.removeComment();
+    copy.findAll(AnnotationExpr.class).stream()
+        .filter(annotation -> normalizedAnnotations.contains(annotation.getName().getIdentifier()))
+        .forEach(Node::remove);
+    return copy.toString();
+  }
+}
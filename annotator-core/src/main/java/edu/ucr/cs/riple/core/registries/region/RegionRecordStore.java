@@ -0,0 +1,474 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.registries.region;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import javax.annotation.Nullable;
+
+/**
+ * Off-heap store of {@link RegionRecord}s backed by a memory-mapped file. Records are collected in
+ * bounded runs on heap, each run is sorted by the id of the used class and member and appended to
+ * the backing file. Once {@link #seal()} is called, sorted runs are merged into a single sorted
+ * file which is mapped, afterwards regions where a member is used are found by binary search.
+ * Only the table of distinct symbols and a single run are kept on heap, therefore heap usage does
+ * not grow with the number of records.
+ *
+ * <p>Each entry consists of a key combining the ids of the used class and member (8 bytes), the ids
+ * of the class and member of the region (4 bytes each) and the ordinal of the region {@link
+ * SourceType} (4 bytes).
+ */
+public class RegionRecordStore {
+
+  /** Size of each entry in bytes. */
+  private static final int ENTRY_SIZE = 20;
+
+  /** Number of entries in each mapped segment, mappings are limited to 2GB. */
+  private static final int ENTRIES_PER_SEGMENT = Integer.MAX_VALUE / ENTRY_SIZE;
+
+  /** Maximum number of entries in a run sorted on heap. */
+  private static final int RUN_SIZE = 1 << 18;
+
+  /** Number of entries read at once from each run while merging. */
+  private static final int MERGE_CHUNK_SIZE = 1 << 8;
+
+  /** Directory of the backing files. */
+  private final Path dir;
+
+  /** Path to the backing file, replaced by the file of merged runs once the store is sealed. */
+  private Path path;
+
+  /** Ids of symbols. */
+  private final Map<String, Integer> ids;
+
+  /** Symbols indexed by their id. */
+  private final List<String> symbols;
+
+  /** Index of the first entry of each run written to the backing file. */
+  private final List<Long> runs;
+
+  /** Channel of the backing file, {@code null} once the store is sealed. */
+  @Nullable private FileChannel channel;
+
+  /** Buffer for entries written to the backing file, {@code null} once the store is sealed. */
+  @Nullable private ByteBuffer buffer;
+
+  /** Keys of entries in the current run, {@code null} once the store is sealed. */
+  @Nullable private long[] keys;
+
+  /**
+   * Ids of the class and member of the region and ordinal of the region source type of entries in
+   * the current run, three values per entry, {@code null} once the store is sealed.
+   */
+  @Nullable private int[] regions;
+
+  /** Number of entries in the current run. */
+  private int pending;
+
+  /** Mapped segments of the backing file, {@code null} until the store is sealed. */
+  @Nullable private MappedByteBuffer[] segments;
+
+  /** Number of entries. */
+  private long size;
+
+  /**
+   * Creates an empty store backed by a new file in the given directory. The file is deleted on
+   * exit.
+   *
+   * @param dir Directory to create the backing file in.
+   */
+  public RegionRecordStore(Path dir) {
+    this.dir = dir;
+    this.ids = new HashMap<>();
+    this.symbols = new ArrayList<>();
+    this.runs = new ArrayList<>();
+    this.buffer = ByteBuffer.allocateDirect(ENTRY_SIZE * 4096);
+    this.keys = new long[1024];
+    this.regions = new int[keys.length * 3];
+    this.path = createBackingFile(dir);
+    try {
+      this.channel = FileChannel.open(path, StandardOpenOption.WRITE);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not create region record store in: " + dir, e);
+    }
+  }
+
+  /**
+   * Appends a record in the serialized format of impacted regions: [region class, region member,
+   * used member, used class, region source type].
+   *
+   * @param values Values of the serialized record.
+   */
+  public void append(String[] values) {
+    Preconditions.checkState(segments == null, "Cannot append to a sealed store: " + path);
+    Preconditions.checkArgument(
+        values.length == 5,
+        "Expected 5 values to create Impacted Region Record instance in this version of Annotator but found: "
+            + values.length);
+    if (pending == RUN_SIZE) {
+      writeRun();
+    }
+    if (pending == keys.length) {
+      keys = Arrays.copyOf(keys, keys.length * 2);
+      regions = Arrays.copyOf(regions, keys.length * 3);
+    }
+    keys[pending] = key(idOf(values[3]), idOf(values[2]));
+    regions[pending * 3] = idOf(values[0]);
+    regions[pending * 3 + 1] = idOf(values[1]);
+    regions[pending * 3 + 2] = SourceType.valueOf(values[4]).ordinal();
+    pending++;
+    size++;
+  }
+
+  /** Merges the sorted runs and maps the result, no record can be appended afterwards. */
+  public void seal() {
+    Preconditions.checkState(segments == null, "Store is already sealed: " + path);
+    writeRun();
+    try {
+      channel.close();
+    } catch (IOException e) {
+      throw new RuntimeException("Could not close region record store at: " + path, e);
+    }
+    channel = null;
+    buffer = null;
+    keys = null;
+    regions = null;
+    if (runs.size() > 1) {
+      merge();
+    }
+    int count = (int) ((size + ENTRIES_PER_SEGMENT - 1) / ENTRIES_PER_SEGMENT);
+    MappedByteBuffer[] mapped = new MappedByteBuffer[count];
+    try (FileChannel mapping = FileChannel.open(path, StandardOpenOption.READ)) {
+      for (int i = 0; i < count; i++) {
+        long start = (long) i * ENTRIES_PER_SEGMENT;
+        long entries = Math.min(ENTRIES_PER_SEGMENT, size - start);
+        mapped[i] =
+            mapping.map(FileChannel.MapMode.READ_ONLY, start * ENTRY_SIZE, entries * ENTRY_SIZE);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not map region record store at: " + path, e);
+    }
+    segments = mapped;
+  }
+
+  /**
+   * Returns regions where the member of the given class is used.
+   *
+   * @param clazz Fully qualified name of the class of the member.
+   * @param member Member of the class.
+   * @return Immutable set of regions.
+   */
+  public ImmutableSet<Region> getRegions(String clazz, String member) {
+    Preconditions.checkState(segments != null, "Store is not sealed: " + path);
+    Integer classId = ids.get(clazz);
+    Integer memberId = ids.get(member);
+    if (classId == null || memberId == null) {
+      return ImmutableSet.of();
+    }
+    long target = key(classId, memberId);
+    // Find the first entry with the key.
+    long low = 0;
+    long high = size;
+    while (low < high) {
+      long mid = (low + high) >>> 1;
+      if (keyAt(mid) < target) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    ImmutableSet.Builder<Region> builder = ImmutableSet.builder();
+    SourceType[] sourceTypes = SourceType.values();
+    for (long i = low; i < size && keyAt(i) == target; i++) {
+      ByteBuffer segment = segmentOf(i);
+      int offset = offsetOf(i);
+      builder.add(
+          new Region(
+              symbols.get(segment.getInt(offset + 8)),
+              symbols.get(segment.getInt(offset + 12)),
+              sourceTypes[segment.getInt(offset + 16)]));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the number of records in this store.
+   *
+   * @return Number of records.
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns the id of the given symbol, a new id is assigned if the symbol is not seen before.
+   *
+   * @param symbol Symbol.
+   * @return Id of the symbol.
+   */
+  private int idOf(String symbol) {
+    Integer id = ids.get(symbol);
+    if (id == null) {
+      id = symbols.size();
+      ids.put(symbol, id);
+      symbols.add(symbol);
+    }
+    return id;
+  }
+
+  /** Sorts the entries of the current run by their key and writes them to the backing file. */
+  private void writeRun() {
+    if (pending == 0) {
+      return;
+    }
+    Integer[] order = new Integer[pending];
+    for (int i = 0; i < pending; i++) {
+      order[i] = i;
+    }
+    long[] runKeys = keys;
+    Arrays.sort(order, Comparator.comparingLong(i -> runKeys[i]));
+    runs.add(size - pending);
+    for (int i : order) {
+      if (!buffer.hasRemaining()) {
+        write(channel, buffer);
+      }
+      buffer.putLong(keys[i]);
+      buffer.putInt(regions[i * 3]);
+      buffer.putInt(regions[i * 3 + 1]);
+      buffer.putInt(regions[i * 3 + 2]);
+    }
+    write(channel, buffer);
+    pending = 0;
+  }
+
+  /**
+   * Merges the sorted runs of the backing file into a new backing file. Runs are read in bounded
+   * chunks, therefore memory use is bounded by the number of runs rather than the number of
+   * entries.
+   */
+  private void merge() {
+    Path merged = createBackingFile(dir);
+    try (FileChannel input = FileChannel.open(path, StandardOpenOption.READ);
+        FileChannel output = FileChannel.open(merged, StandardOpenOption.WRITE)) {
+      PriorityQueue<Run> queue =
+          new PriorityQueue<>(runs.size(), Comparator.comparingLong(Run::key));
+      for (int i = 0; i < runs.size(); i++) {
+        long end = i + 1 < runs.size() ? runs.get(i + 1) : size;
+        Run run = new Run(input, runs.get(i) * ENTRY_SIZE, end * ENTRY_SIZE);
+        if (run.load()) {
+          queue.add(run);
+        }
+      }
+      ByteBuffer out = ByteBuffer.allocateDirect(ENTRY_SIZE * 4096);
+      while (!queue.isEmpty()) {
+        Run run = queue.poll();
+        if (!out.hasRemaining()) {
+          write(output, out);
+        }
+        run.transferTo(out);
+        if (run.load()) {
+          queue.add(run);
+        }
+      }
+      write(output, out);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not merge region record store at: " + path, e);
+    }
+    try {
+      Files.delete(path);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not delete file at: " + path, e);
+    }
+    path = merged;
+  }
+
+  /**
+   * Writes the entries in the given buffer to the given channel and clears the buffer.
+   *
+   * @param channel Channel to write to.
+   * @param buffer Buffer of entries.
+   */
+  private void write(FileChannel channel, ByteBuffer buffer) {
+    buffer.flip();
+    try {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened for writing at file: " + path, e);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * Returns the key of the entry at the given index.
+   *
+   * @param index Index of the entry.
+   * @return Key of the entry.
+   */
+  private long keyAt(long index) {
+    return segmentOf(index).getLong(offsetOf(index));
+  }
+
+  /**
+   * Returns the mapped segment containing the entry at the given index.
+   *
+   * @param index Index of the entry.
+   * @return Mapped segment.
+   */
+  private ByteBuffer segmentOf(long index) {
+    return segments[(int) (index / ENTRIES_PER_SEGMENT)];
+  }
+
+  /**
+   * Returns the offset of the entry at the given index within its segment.
+   *
+   * @param index Index of the entry.
+   * @return Offset in bytes.
+   */
+  private static int offsetOf(long index) {
+    return (int) (index % ENTRIES_PER_SEGMENT) * ENTRY_SIZE;
+  }
+
+  /**
+   * Combines ids of a class and its member into a key, entries are ordered by the class first.
+   *
+   * @param classId Id of the class.
+   * @param memberId Id of the member.
+   * @return Combined key.
+   */
+  private static long key(int classId, int memberId) {
+    return ((long) classId << 32) | (memberId & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Creates a new backing file in the given directory which is deleted on exit.
+   *
+   * @param dir Directory to create the file in.
+   * @return Path to the created file.
+   */
+  private static Path createBackingFile(Path dir) {
+    try {
+      Path path = Files.createTempFile(dir, "impacted_regions", ".store");
+      path.toFile().deleteOnExit();
+      return path;
+    } catch (IOException e) {
+      throw new RuntimeException("Could not create region record store in: " + dir, e);
+    }
+  }
+
+  /** Cursor over a sorted run of entries in the backing file, read in bounded chunks. */
+  private static final class Run {
+
+    /** Channel of the backing file. */
+    private final FileChannel channel;
+
+    /** Position of the first entry not read from the file yet, in bytes. */
+    private long position;
+
+    /** End of the run (exclusive), in bytes. */
+    private final long end;
+
+    /** Chunk of entries read from the file, the current entry starts at its position. */
+    private final ByteBuffer chunk;
+
+    /**
+     * Creates a cursor over the run between the given positions.
+     *
+     * @param channel Channel of the backing file.
+     * @param start Start of the run, in bytes.
+     * @param end End of the run (exclusive), in bytes.
+     */
+    private Run(FileChannel channel, long start, long end) {
+      this.channel = channel;
+      this.position = start;
+      this.end = end;
+      this.chunk = ByteBuffer.allocate(ENTRY_SIZE * MERGE_CHUNK_SIZE);
+      this.chunk.limit(0);
+    }
+
+    /**
+     * Makes the next entry of the run available, reading the next chunk if needed.
+     *
+     * @return true, if an entry is available, false if the run is exhausted.
+     * @throws IOException if the file cannot be read.
+     */
+    private boolean load() throws IOException {
+      if (chunk.hasRemaining()) {
+        return true;
+      }
+      if (position == end) {
+        return false;
+      }
+      chunk.clear();
+      chunk.limit((int) Math.min(chunk.capacity(), end - position));
+      while (chunk.hasRemaining()) {
+        int read = channel.read(chunk, position);
+        if (read < 0) {
+          throw new IOException("Unexpected end of region record store");
+        }
+        position += read;
+      }
+      chunk.flip();
+      return true;
+    }
+
+    /**
+     * Returns the key of the current entry.
+     *
+     * @return Key of the current entry.
+     */
+    private long key() {
+      return chunk.getLong(chunk.position());
+    }
+
+    /**
+     * Moves the current entry to the given buffer.
+     *
+     * @param buffer Buffer to put the entry in.
+     */
+    private void transferTo(ByteBuffer buffer) {
+      int limit = chunk.limit();
+      chunk.limit(chunk.position() + ENTRY_SIZE);
+      buffer.put(chunk);
+      chunk.limit(limit);
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.util;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import edu.ucr.cs.riple.core.Context;
+import edu.ucr.cs.riple.core.module.ModuleConfiguration;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Store of build outputs recorded on disk. Outputs of each build are stored under a directory
+ * identified by a key computed from the kind of the build, the annotations permanently injected so
+ * far and the fixes injected for that build, which is all the state that determines the checker
+ * and scanner outputs of a build on the same program. For each module configuration, every file
+ * under its {@link ModuleConfiguration#dir} is stored in a subdirectory named after the module id.
+ */
+public class BuildTrace {
+
+  /** Name of the file storing the human-readable key of a recorded build. */
+  private static final String KEY_FILE_NAME = "key.txt";
+
+  /** Annotator context. */
+  private final Context context;
+
+  /** Configurations of the modules whose outputs are recorded / replayed. */
+  private final ImmutableSet<ModuleConfiguration> configurations;
+
+  /** Root directory of the trace. */
+  private final Path root;
+
+  /**
+   * Kind of the builds, separating builds of the same modules with the same injected annotations
+   * which produce different outputs (e.g. checker and scanner builds).
+   */
+  private final String kind;
+
+  /**
+   * Creates a build trace for the given modules.
+   *
+   * @param context Annotator context.
+   * @param configurations Configurations of the modules whose outputs are recorded / replayed.
+   * @param root Root directory of the trace.
+   * @param kind Kind of the builds.
+   */
+  public BuildTrace(
+      Context context, ImmutableSet<ModuleConfiguration> configurations, Path root, String kind) {
+    this.context = context;
+    this.configurations = configurations;
+    this.root = root;
+    this.kind = kind;
+  }
+
+  /**
+   * Stores the current outputs of all modules as the outputs of a build with the given fixes
+   * injected.
+   *
+   * @param fixes Set of fixes injected for the build.
+   */
+  public void record(Set<Fix> fixes) {
+    String key = computeKey(fixes);
+    Path entry = entryDirectory(key);
+    try {
+      Files.createDirectories(entry);
+      Files.writeString(entry.resolve(KEY_FILE_NAME), key, StandardCharsets.UTF_8);
+      for (ModuleConfiguration configuration : configurations) {
+        Path moduleEntry = entry.resolve(String.valueOf(configuration.id));
+        Files.createDirectories(moduleEntry);
+        copyDirectory(configuration.dir, moduleEntry);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not record build outputs at: " + entry, e);
+    }
+  }
+
+  /**
+   * Restores the outputs of all modules recorded for a build with the given fixes injected.
+   *
+   * @param fixes Set of fixes injected for the build.
+   */
+  public void replay(Set<Fix> fixes) {
+    String key = computeKey(fixes);
+    Path entry = entryDirectory(key);
+    try {
+      for (ModuleConfiguration configuration : configurations) {
+        Path moduleEntry = entry.resolve(String.valueOf(configuration.id));
+        if (!Files.isDirectory(moduleEntry)) {
+          throw new IllegalStateException(
+              "No recorded build outputs at: " + moduleEntry + " for build with key:\n" + key);
+        }
+        copyDirectory(moduleEntry, configuration.dir);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not replay build outputs from: " + entry, e);
+    }
+  }
+
+  /**
+   * Computes the key of a build with the given fixes injected. Annotations are sorted by their
+   * string representation which does not contain absolute paths, hence traces can be replayed on
+   * another checkout of the same program.
+   *
+   * @param fixes Set of fixes injected for the build.
+   * @return Human-readable key of the build.
+   */
+  private String computeKey(Set<Fix> fixes) {
+    String injected =
+        context.log.getInjectedAnnotations().stream()
+            .map(Object::toString)
+            .sorted()
+            .collect(Collectors.joining("\n"));
+    String evaluated = fixes.stream().map(Fix::toString).sorted().collect(Collectors.joining("\n"));
+    return "kind: " + kind + "\ninjected:\n" + injected + "\nevaluated:\n" + evaluated + "\n";
+  }
+
+  /**
+   * Returns the directory storing the outputs of the build with the given key.
+   *
+   * @param key Key of the build.
+   * @return Path to the directory.
+   */
+  private Path entryDirectory(String key) {
+    return root.resolve(Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString());
+  }
+
+  /**
+   * Copies all regular files under the source directory to the target directory, replacing
+   * existing files.
+   *
+   * @param source Source directory.
+   * @param target Target directory.
+   * @throws IOException if an I/O error occurs.
+   */
+  private static void copyDirectory(Path source, Path target) throws IOException {
+    List<Path> files;
+    try (Stream<Path> stream = Files.walk(source)) {
+      files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+    }
+    for (Path file : files) {
+      Path destination = target.resolve(source.relativize(file).toString());
+      Files.createDirectories(destination.getParent());
+      Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+}
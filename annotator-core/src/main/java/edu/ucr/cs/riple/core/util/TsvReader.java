@@ -0,0 +1,401 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Streaming reader for files in TSV format. The file is decoded chunk by chunk into a bounded
+ * window, and rows are tokenized in place without regular expressions or intermediate line
+ * strings. A row spanning two chunks is carried over to the beginning of the window, hence memory
+ * use is bounded by the chunk size and the longest row rather than the size of the file. Field
+ * values are interned during tokenization, therefore repeated values such as class names, paths
+ * and enum names are shared among all rows and are created only once.
+ *
+ * <p>The array returned by {@link #fields()} is reused among rows of the same width and is only
+ * valid until the next call to {@link #next()}. Consumers retaining rows must copy the array.
+ * Similar to {@code line.split("\t")}, trailing empty fields of a non-empty row are dropped. Rows
+ * can be terminated with {@code \n}, {@code \r\n} or {@code \r}, and the last row does not
+ * require a terminator.
+ */
+public class TsvReader implements Closeable {
+
+  /** Default number of bytes read from the file at once. */
+  private static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+  /** Path to the file. */
+  private final Path path;
+
+  /** Channel of the file. */
+  private final FileChannel channel;
+
+  /** Decoder of the file content. */
+  private final CharsetDecoder decoder;
+
+  /** Bytes read from the file and not decoded yet. */
+  private final ByteBuffer bytes;
+
+  /** Window of decoded content, grows only if a single row does not fit in it. */
+  private char[] content;
+
+  /** End (exclusive) of the decoded content in {@link #content}. */
+  private int limit;
+
+  /** Position of the beginning of the next row in {@link #content}. */
+  private int position;
+
+  /** Whether the end of the file is reached. */
+  private boolean endOfInput;
+
+  /** Whether the decoder is flushed, after which no more content is decoded. */
+  private boolean flushed;
+
+  /** Start offsets of fields in the current row. */
+  private int[] starts = new int[16];
+
+  /** End offsets (exclusive) of fields in the current row. */
+  private int[] ends = new int[16];
+
+  /** Reusable arrays of fields, indexed by the number of fields in a row. */
+  private String[][] rowsByWidth = new String[16][];
+
+  /** Fields of the current row. */
+  private String[] fields;
+
+  /** Open addressing table of interned values, size is always a power of two. */
+  private String[] table = new String[1024];
+
+  /** Number of interned values. */
+  private int interned;
+
+  /**
+   * Creates a reader for the given file.
+   *
+   * @param path Path to the file in TSV format.
+   * @throws IOException if the file cannot be opened.
+   */
+  public TsvReader(Path path) throws IOException {
+    this(path, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates a reader for the given file which reads the given number of bytes at once.
+   *
+   * @param path Path to the file in TSV format.
+   * @param chunkSize Number of bytes read from the file at once.
+   * @throws IOException if the file cannot be opened.
+   */
+  public TsvReader(Path path, int chunkSize) throws IOException {
+    this.path = path;
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    // Match the behavior of readers previously used, malformed input is replaced.
+    this.decoder =
+        Charset.defaultCharset()
+            .newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.bytes = ByteBuffer.allocate(Math.max(chunkSize, 4));
+    this.content = new char[Math.max(chunkSize, 4)];
+    this.limit = 0;
+    this.position = 0;
+  }
+
+  /**
+   * Skips the next row, used to skip headers.
+   *
+   * @return true, if a row is skipped.
+   */
+  public boolean skip() {
+    int end = findRowEnd();
+    if (end < 0) {
+      return false;
+    }
+    position = skipTerminator(end);
+    return true;
+  }
+
+  /**
+   * Advances to the next row.
+   *
+   * @return true, if a row is read, false if the end of the file is reached.
+   */
+  public boolean next() {
+    int end = findRowEnd();
+    if (end < 0) {
+      fields = null;
+      return false;
+    }
+    int count = 0;
+    int start = position;
+    for (int index = position; index < end; index++) {
+      if (content[index] == '\t') {
+        count = addField(count, start, index);
+        start = index + 1;
+      }
+    }
+    count = addField(count, start, end);
+    // Match the behavior of String#split, trailing empty fields are removed unless the row is
+    // empty.
+    if (!(count == 1 && starts[0] == ends[0])) {
+      while (count > 0 && starts[count - 1] == ends[count - 1]) {
+        count--;
+      }
+    }
+    fields = rowOfWidth(count);
+    for (int i = 0; i < count; i++) {
+      fields[i] = intern(starts[i], ends[i]);
+    }
+    position = skipTerminator(end);
+    return true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Locates the end of the row starting at {@link #position}, decoding more content if the row is
+   * not entirely decoded yet. If the row is terminated with {@code \r}, the following character is
+   * decoded as well to detect {@code \r\n} terminators.
+   *
+   * @return Index of the terminator of the row, {@link #limit} if the last row has no terminator,
+   *     or -1 if no row is left.
+   */
+  private int findRowEnd() {
+    int offset = 0;
+    while (true) {
+      int index = position + offset;
+      while (index < limit) {
+        char c = content[index];
+        if (c == '\n' || (c == '\r' && index + 1 < limit)) {
+          return index;
+        }
+        if (c == '\r') {
+          break;
+        }
+        index++;
+      }
+      offset = index - position;
+      if (!fill()) {
+        return position >= limit ? -1 : position + offset;
+      }
+    }
+  }
+
+  /**
+   * Returns the position after the terminator at the given index.
+   *
+   * @param end Index of the terminator located by {@link #findRowEnd()}.
+   * @return Position of the beginning of the next row.
+   */
+  private int skipTerminator(int end) {
+    if (end < limit && content[end] == '\r') {
+      end++;
+    }
+    if (end < limit && content[end] == '\n') {
+      end++;
+    }
+    return end;
+  }
+
+  /**
+   * Decodes the next chunk of the file. The unread content is moved to the beginning of the window
+   * beforehand, and the window is only grown if it is entirely occupied by a single row.
+   *
+   * @return true, if any content is decoded, false if the end of the file is reached.
+   */
+  private boolean fill() {
+    if (flushed) {
+      return false;
+    }
+    if (position > 0) {
+      System.arraycopy(content, position, content, 0, limit - position);
+      limit -= position;
+      position = 0;
+    }
+    // Keep room for at least a surrogate pair.
+    if (content.length - limit < 2) {
+      content = Arrays.copyOf(content, content.length * 2);
+    }
+    CharBuffer out = CharBuffer.wrap(content, limit, content.length - limit);
+    try {
+      while (out.position() == limit) {
+        if (!endOfInput && channel.read(bytes) < 0) {
+          endOfInput = true;
+        }
+        bytes.flip();
+        CoderResult result = decoder.decode(bytes, out, endOfInput);
+        bytes.compact();
+        if (result.isOverflow()) {
+          break;
+        }
+        if (endOfInput) {
+          decoder.flush(out);
+          flushed = true;
+          break;
+        }
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not read file at: " + path, e);
+    }
+    boolean decoded = out.position() > limit;
+    limit = out.position();
+    return decoded;
+  }
+
+  /**
+   * Returns fields of the current row. The returned array is reused for subsequent rows.
+   *
+   * @return Fields of the current row.
+   */
+  public String[] fields() {
+    if (fields == null) {
+      throw new IllegalStateException("No row is read");
+    }
+    return fields;
+  }
+
+  /**
+   * Records boundaries of a field of the current row.
+   *
+   * @param count Number of recorded fields.
+   * @param start Start offset of the field.
+   * @param end End offset (exclusive) of the field.
+   * @return Number of recorded fields including the given field.
+   */
+  private int addField(int count, int start, int end) {
+    if (count == starts.length) {
+      starts = Arrays.copyOf(starts, count * 2);
+      ends = Arrays.copyOf(ends, count * 2);
+    }
+    starts[count] = start;
+    ends[count] = end;
+    return count + 1;
+  }
+
+  /**
+   * Returns the reusable array of fields for rows with the given width.
+   *
+   * @param width Number of fields.
+   * @return Array of fields with the given length.
+   */
+  private String[] rowOfWidth(int width) {
+    if (width >= rowsByWidth.length) {
+      rowsByWidth = Arrays.copyOf(rowsByWidth, width * 2);
+    }
+    if (rowsByWidth[width] == null) {
+      rowsByWidth[width] = new String[width];
+    }
+    return rowsByWidth[width];
+  }
+
+  /**
+   * Returns the interned string for the given range of the content. A string is only created if
+   * the value is not seen before.
+   *
+   * @param start Start offset of the value.
+   * @param end End offset (exclusive) of the value.
+   * @return Interned string.
+   */
+  private String intern(int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + content[i];
+    }
+    int mask = table.length - 1;
+    int slot = spread(hash) & mask;
+    String candidate;
+    while ((candidate = table[slot]) != null) {
+      if (candidate.hashCode() == hash && matches(candidate, start, end)) {
+        return candidate;
+      }
+      slot = (slot + 1) & mask;
+    }
+    String value = new String(content, start, end - start);
+    table[slot] = value;
+    if (++interned * 2 > table.length) {
+      rehash();
+    }
+    return value;
+  }
+
+  /**
+   * Checks if the given string is equal to the given range of the content.
+   *
+   * @param value String to compare.
+   * @param start Start offset of the range.
+   * @param end End offset (exclusive) of the range.
+   * @return true, if the string and the range have identical characters.
+   */
+  private boolean matches(String value, int start, int end) {
+    if (value.length() != end - start) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) != content[start + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Doubles the size of the intern table. */
+  private void rehash() {
+    String[] previous = table;
+    table = new String[previous.length * 2];
+    int mask = table.length - 1;
+    for (String value : previous) {
+      if (value != null) {
+        int slot = spread(value.hashCode()) & mask;
+        while (table[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+      }
+    }
+  }
+
+  /**
+   * Spreads higher bits of the hash to lower bits, as slots are selected by the lower bits.
+   *
+   * @param hash Hash of the value.
+   * @return Spread hash.
+   */
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -31,6 +31,8 @@ import com.google.gson.JsonObject;
 import edu.ucr.cs.riple.core.Config;
 import edu.ucr.cs.riple.core.Context;
 import edu.ucr.cs.riple.core.Report;
+import edu.ucr.cs.riple.core.metrics.BuildEvent;
+import edu.ucr.cs.riple.core.metrics.Phase;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.core.module.ModuleInfo;
 import edu.ucr.cs.riple.core.registries.index.Error;
@@ -39,6 +41,8 @@ import edu.ucr.cs.riple.core.registries.region.Region;
 import edu.ucr.cs.riple.core.registries.region.RegionRecord;
 import edu.ucr.cs.riple.scanner.AnnotatorScanner;
 import edu.ucr.cs.riple.scanner.ScannerConfigWriter;
+import edu.ucr.cs.riple.scanner.ScannerShards;
+import edu.ucr.cs.riple.scanner.Serializer;
 import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -58,14 +62,21 @@ import me.tongfei.progressbar.ProgressBarStyle;
 /** Utility class. */
 public class Utility {
 
+  /** Kind of builds producing checker outputs in build traces. */
+  private static final String CHECKER_BUILD = "checker";
+
+  /** Kind of builds producing scanner outputs in build traces. */
+  private static final String SCANNER_BUILD = "scanner";
+
   /**
    * Executes a shell command in a subprocess. If {@link Config#redirectBuildOutputToStdErr} is
    * activated, it will write the command's output in std error.
    *
    * @param config Annotator configuration.
    * @param command The shell command to run.
+   * @return Exit status of the command.
    */
-  public static void executeCommand(Config config, String command) {
+  public static int executeCommand(Config config, String command) {
     try {
       ProcessBuilder pb = new ProcessBuilder("/bin/sh", "-c", command);
       if (config.redirectBuildOutputToStdErr) {
@@ -76,7 +87,7 @@ public class Utility {
         pb.redirectError(ProcessBuilder.Redirect.DISCARD);
         pb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
       }
-      pb.start().waitFor();
+      return pb.start().waitFor();
     } catch (Exception e) {
       throw new RuntimeException("Exception happened in executing command: " + command, e);
     }
@@ -89,6 +100,7 @@ public class Utility {
    * @param reports Immutable set of reports.
    */
   public static void writeReports(Context context, ImmutableSet<Report> reports) {
+    long timer = context.metrics.startTimer();
     Path reportsPath = context.config.globalDir.resolve("reports.json");
     JsonObject result = new JsonObject();
     JsonArray reportsJson = new JsonArray();
@@ -109,6 +121,7 @@ public class Utility {
       reportJson.addProperty(
           "Lower Bound EFFECT", report.getLowerBoundEffectOnDownstreamDependencies());
       reportJson.addProperty("FINISHED", !report.requiresFurtherProcess(context.config));
+      reportJson.addProperty("EVALUATED", report.hasBeenProcessedOnce);
       JsonArray followUps = new JsonArray();
       if (context.config.chain && report.localEffect < 1) {
         report.tree.stream().map(Fix::getJson).forEach(followUps::add);
@@ -125,6 +138,73 @@ public class Utility {
       throw new RuntimeException(
           "Could not create the Annotator report json file: " + reportsPath, e);
     }
+    context.metrics.stopTimer(Phase.REPORT_WRITING, timer);
+  }
+
+  /**
+   * Writes the cost of evaluating each report and each group of nodes evaluated in a single build
+   * in json format in costs.json file in the output directory. Reports are sorted by their total
+   * time in descending order to spot expensive fix trees.
+   *
+   * @param context Annotator context.
+   * @param reports Immutable set of reports.
+   */
+  public static void writeCosts(Context context, ImmutableSet<Report> reports) {
+    Path costsPath = context.config.globalDir.resolve("costs.json");
+    JsonObject result = new JsonObject();
+    JsonArray reportsJson = new JsonArray();
+    reports.stream()
+        .sorted((r1, r2) -> Double.compare(r2.cost.getTotalMillis(), r1.cost.getTotalMillis()))
+        .forEach(
+            report -> {
+              JsonObject reportJson = report.cost.getJson();
+              reportJson.add("ROOT", report.root.getJson());
+              reportJson.addProperty("TREE SIZE", report.tree.size());
+              reportsJson.add(reportJson);
+            });
+    result.add("REPORTS", reportsJson);
+    JsonArray groupsJson = new JsonArray();
+    context.log.getGroupCosts().forEach(group -> groupsJson.add(group.getJson()));
+    result.add("GROUPS", groupsJson);
+    try (BufferedWriter writer = Files.newBufferedWriter(costsPath, Charset.defaultCharset())) {
+      writer.write(result.toString().replace("\\/", "/").replace("\\\\\\", "\\"));
+      writer.flush();
+    } catch (IOException e) {
+      throw new RuntimeException("Could not create the Annotator costs json file: " + costsPath, e);
+    }
+  }
+
+  /**
+   * Writes a summary of the budget of the run in json format in budget.json file in the output
+   * directory. The summary contains the configured limits, the consumed resources, root of reports
+   * which has not been evaluated at all and root of reports whose evaluation stopped before
+   * reaching the configured depth.
+   *
+   * @param context Annotator context.
+   * @param reports Immutable set of reports.
+   */
+  public static void writeBudgetSummary(Context context, ImmutableSet<Report> reports) {
+    Path budgetPath = context.config.globalDir.resolve("budget.json");
+    JsonObject result = context.budget.getJson();
+    JsonArray unevaluated = new JsonArray();
+    JsonArray unfinished = new JsonArray();
+    reports.forEach(
+        report -> {
+          if (report.skippedByBudget) {
+            unevaluated.add(report.root.getJson());
+          } else if (report.requiresFurtherProcess(context.config)) {
+            unfinished.add(report.root.getJson());
+          }
+        });
+    result.add("UNEVALUATED", unevaluated);
+    result.add("UNFINISHED", unfinished);
+    try (BufferedWriter writer = Files.newBufferedWriter(budgetPath, Charset.defaultCharset())) {
+      writer.write(result.toString().replace("\\/", "/").replace("\\\\\\", "\\"));
+      writer.flush();
+    } catch (IOException e) {
+      throw new RuntimeException(
+          "Could not create the Annotator budget json file: " + budgetPath, e);
+    }
   }
 
   /**
@@ -136,7 +216,7 @@ public class Utility {
    * @return Set of collected fixes.
    */
   public static Set<Fix> readFixesFromOutputDirectory(Context context, ModuleInfo moduleInfo) {
-    return Error.getResolvingFixesOfErrors(context.checker.deserializeErrors(moduleInfo));
+    return moduleInfo.getErrorSnapshot().getResolvingFixes();
   }
 
   /**
@@ -148,9 +228,7 @@ public class Utility {
    */
   public static <T extends Error> Set<T> readErrorsFromOutputDirectory(
       Context context, ModuleInfo moduleInfo, Class<T> klass) {
-    return context.checker.deserializeErrors(moduleInfo).stream()
-        .map(klass::cast)
-        .collect(Collectors.toSet());
+    return moduleInfo.getErrorSnapshot().getErrors(klass);
   }
 
   /**
@@ -166,6 +244,8 @@ public class Utility {
     ScannerConfigWriter writer = new ScannerConfigWriter();
     writer
         .setSerializationActivation(activation)
+        .setBinaryOutput(config.binaryScannerOutput)
+        .setShardedOutput(config.shardedScannerOutput)
         .addGeneratedCodeDetectors(config.generatedCodeDetectors)
         .setOutput(info.dir)
         .setNonnullAnnotations(config.getNonnullAnnotations())
@@ -195,9 +275,64 @@ public class Utility {
    */
   public static void runScannerChecker(
       Context context, ImmutableSet<ModuleConfiguration> configurations, String buildCommand) {
+    long timer = context.metrics.startTimer();
+    // Shards of previous scanner builds must not be merged with the outputs of this build.
+    configurations.forEach(configuration -> ScannerShards.clear(configuration.dir));
+    // Modules not compiled by this build must not report times of previous builds.
+    configurations.forEach(
+        configuration -> {
+          try {
+            Files.deleteIfExists(configuration.dir.resolve(Serializer.SCANNER_TIME_FILE_NAME));
+          } catch (IOException e) {
+            throw new RuntimeException("Could not clear scanner time at: " + configuration.dir, e);
+          }
+        });
     Utility.setScannerCheckerActivation(context.config, configurations, true);
-    Utility.build(context, buildCommand);
+    buildWithTrace(
+        context, configurations, SCANNER_BUILD, Set.of(), () -> build(context, buildCommand));
     Utility.setScannerCheckerActivation(context.config, configurations, false);
+    context.metrics.stopTimer(Phase.SCANNER_BUILD, timer);
+    recordScannerTime(context, configurations);
+  }
+
+  /**
+   * Adds the time spent in the scanner during the latest scanner build of the given modules to the
+   * metrics and reports its share of the compilation time. Times are serialized by the scanner in
+   * {@link Serializer#SCANNER_TIME_FILE_NAME}, one row per compilation.
+   *
+   * @param context Annotator context.
+   * @param configurations Immutable set of modules built with the scanner.
+   */
+  private static void recordScannerTime(
+      Context context, ImmutableSet<ModuleConfiguration> configurations) {
+    long scannerTime = 0;
+    long compilationTime = 0;
+    for (ModuleConfiguration configuration : configurations) {
+      Path output = configuration.dir.resolve(Serializer.SCANNER_TIME_FILE_NAME);
+      for (Path path : ScannerShards.resolve(output)) {
+        if (!Files.exists(path)) {
+          continue;
+        }
+        try (TsvReader reader = new TsvReader(path)) {
+          // Skip header
+          reader.skip();
+          while (reader.next()) {
+            String[] values = reader.fields();
+            scannerTime += Long.parseLong(values[0]);
+            compilationTime += Long.parseLong(values[1]);
+          }
+        } catch (IOException e) {
+          throw new RuntimeException("Error happened while reading file: " + path, e);
+        }
+      }
+    }
+    context.metrics.counter("scanner_time_ms").add(scannerTime);
+    context.metrics.counter("scanner_compilation_time_ms").add(compilationTime);
+    System.out.printf(
+        "Scanner: %d ms spent in scanner out of %d ms of compilation (%.1f%%)%n",
+        scannerTime,
+        compilationTime,
+        compilationTime == 0 ? 0.0 : 100.0 * scannerTime / compilationTime);
   }
 
   /**
@@ -221,8 +356,23 @@ public class Utility {
    * @param context Annotator context.
    */
   public static void buildDownstreamDependencies(Context context) {
+    buildDownstreamDependencies(context, Set.of());
+  }
+
+  /**
+   * Builds all downstream dependencies while the given fixes are injected.
+   *
+   * @param context Annotator context.
+   * @param fixes Set of fixes injected for this build.
+   */
+  public static void buildDownstreamDependencies(Context context, Set<Fix> fixes) {
     context.checker.prepareConfigFilesForBuild(context.downstreamConfigurations);
-    build(context, context.config.downstreamDependenciesBuildCommand);
+    buildWithTrace(
+        context,
+        context.downstreamConfigurations,
+        CHECKER_BUILD,
+        fixes,
+        () -> build(context, context.config.downstreamDependenciesBuildCommand));
   }
 
   /**
@@ -231,8 +381,57 @@ public class Utility {
    * @param context Annotator context.
    */
   public static void buildTarget(Context context) {
-    context.checker.prepareConfigFilesForBuild(context.targetModuleInfo.getModuleConfigurations());
-    build(context, context.config.buildCommand);
+    buildTarget(context, Set.of());
+  }
+
+  /**
+   * Builds target with control on field initialization serialization while the given fixes are
+   * injected.
+   *
+   * @param context Annotator context.
+   * @param fixes Set of fixes injected for this build.
+   */
+  public static void buildTarget(Context context, Set<Fix> fixes) {
+    ImmutableSet<ModuleConfiguration> configurations =
+        context.targetModuleInfo.getModuleConfigurations();
+    context.checker.prepareConfigFilesForBuild(configurations);
+    buildWithTrace(
+        context,
+        configurations,
+        CHECKER_BUILD,
+        fixes,
+        () -> build(context, context.config.buildCommand));
+  }
+
+  /**
+   * Runs the given build, unless outputs are replayed from a trace. If {@link
+   * Config#replayBuildTraceDir} is set, the outputs of the given modules recorded for the same
+   * build are restored instead and the build is only counted as requested in the log, no build time
+   * is captured. Otherwise, the build runs and if {@link Config#recordBuildTraceDir} is set, its
+   * outputs are recorded.
+   *
+   * @param context Annotator context.
+   * @param configurations Configurations of the modules producing outputs in this build.
+   * @param kind Kind of the build, see {@link BuildTrace}.
+   * @param fixes Set of fixes injected for this build.
+   * @param build Runs the build.
+   */
+  private static void buildWithTrace(
+      Context context,
+      ImmutableSet<ModuleConfiguration> configurations,
+      String kind,
+      Set<Fix> fixes,
+      Runnable build) {
+    Config config = context.config;
+    if (config.replayBuildTraceDir != null) {
+      new BuildTrace(context, configurations, config.replayBuildTraceDir, kind).replay(fixes);
+      context.log.incrementBuildRequest();
+      return;
+    }
+    build.run();
+    if (config.recordBuildTraceDir != null) {
+      new BuildTrace(context, configurations, config.recordBuildTraceDir, kind).record(fixes);
+    }
   }
 
   /**
@@ -244,7 +443,14 @@ public class Utility {
   public static void build(Context context, String command) {
     try {
       long timer = context.log.startTimer();
-      Utility.executeCommand(context.config, command);
+      long metricsTimer = context.metrics.startTimer();
+      BuildEvent event = new BuildEvent();
+      event.begin();
+      int exitStatus = Utility.executeCommand(context.config, command);
+      event.command = command;
+      event.exitStatus = exitStatus;
+      event.commit();
+      context.metrics.stopTimer(Phase.BUILD, metricsTimer);
       context.log.stopTimerAndCaptureBuildTime(timer);
       context.log.incrementBuildRequest();
     } catch (Exception e) {
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.module.ModuleConfiguration;
+import edu.ucr.cs.riple.core.registries.method.MethodRecord;
+import edu.ucr.cs.riple.core.registries.method.MethodRegistry;
+import edu.ucr.cs.riple.core.tools.CoreTestHelper;
+import edu.ucr.cs.riple.core.tools.Utility;
+import edu.ucr.cs.riple.scanner.BinaryTable;
+import edu.ucr.cs.riple.scanner.Serializer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BinaryScannerOutputTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Root of tests. */
+  private Path root;
+
+  private Context context;
+
+  /** Rows of the method records output, each row is a method record serialized by the scanner. */
+  private ImmutableList<String> rows;
+
+  @Before
+  public void init() {
+    root = temporaryFolder.getRoot().toPath();
+    CoreTestHelper helper = new CoreTestHelper(root, root).onEmptyProject();
+    Path configPath = root.resolve("context.json");
+    helper.makeAnnotatorConfigFile(configPath);
+    Utility.runTestWithMockedBuild(root, () -> context = new Context(new Config(configPath)));
+    rows =
+        ImmutableList.of(
+            row("1", "test.A", "A()", "0", "[]", "", "public", "false"),
+            row("2", "test.A", "foo()", "0", "[]", "", "public", "true"),
+            row("3", "test.B", "foo()", "2", "[]", "javax.annotation.Nullable", "private", "true"),
+            row("4", "test.C", "foo()", "2", "[]", "", "protected", "false"));
+  }
+
+  @Test
+  public void methodRegistryLoadsSameRecordsFromBinaryTable() throws IOException {
+    ModuleConfiguration tsvModule = moduleAt(root.resolve("tsv"));
+    ModuleConfiguration binaryModule = moduleAt(root.resolve("bin"));
+    Path tsv = tsvModule.dir.resolve(Serializer.METHOD_RECORD_FILE_NAME);
+    StringBuilder content = new StringBuilder(edu.ucr.cs.riple.scanner.out.MethodRecord.header());
+    rows.forEach(row -> content.append("\n").append(row));
+    Files.writeString(tsv, content.append("\n").toString());
+    BinaryTable.toBinary(
+        tsv, BinaryTable.pathOf(binaryModule.dir.resolve(Serializer.METHOD_RECORD_FILE_NAME)));
+    assertFalse(Files.exists(binaryModule.dir.resolve(Serializer.METHOD_RECORD_FILE_NAME)));
+    MethodRegistry fromTsv = new MethodRegistry(ImmutableSet.of(tsvModule), context);
+    MethodRegistry fromBinary = new MethodRegistry(ImmutableSet.of(binaryModule), context);
+    for (String row : rows) {
+      String[] values = row.split("\t");
+      MethodRecord expected = fromTsv.findMethodByName(values[1], values[2]);
+      MethodRecord actual = fromBinary.findMethodByName(values[1], values[2]);
+      assertNotNull(expected);
+      assertNotNull(actual);
+      assertEquals(expected.id, actual.id);
+      assertEquals(expected.parent, actual.parent);
+      assertEquals(expected.children, actual.children);
+      assertEquals(expected.location, actual.location);
+      assertEquals(expected.annotations, actual.annotations);
+      assertEquals(expected.visibility, actual.visibility);
+      assertEquals(expected.hasNonPrimitiveReturn, actual.hasNonPrimitiveReturn);
+      assertEquals(expected.isConstructor, actual.isConstructor);
+    }
+    assertEquals(
+        fromTsv.getPublicMethodsWithNonPrimitivesReturn(),
+        fromBinary.getPublicMethodsWithNonPrimitivesReturn());
+    assertEquals(
+        fromTsv.getConstructorsForClass("test.A"), fromBinary.getConstructorsForClass("test.A"));
+  }
+
+  /**
+   * Returns a row of the method records output with the given values followed by the path of the
+   * enclosing file.
+   *
+   * @param values Values of the row except the path.
+   * @return Row of the method records output.
+   */
+  private String row(String... values) {
+    return String.join("\t", values) + "\t" + root.resolve("Main.java");
+  }
+
+  private ModuleConfiguration moduleAt(Path dir) {
+    return new ModuleConfiguration(1, dir, dir.resolve("checker.xml"), dir.resolve("s.xml"));
+  }
+}
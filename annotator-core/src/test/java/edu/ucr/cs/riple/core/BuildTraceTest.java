@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ucr.cs.riple.core.tools.CoreTestHelper;
+import edu.ucr.cs.riple.core.tools.Utility;
+import edu.ucr.cs.riple.scanner.Serializer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BuildTraceTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Root of tests. */
+  private Path root;
+
+  @Before
+  public void init() {
+    root = temporaryFolder.getRoot().toPath();
+  }
+
+  @Test
+  public void replayRestoresRecordedBaselineOutputsWithoutBuilding() throws IOException {
+    Path trace = root.resolve("trace");
+    Path project = root.resolve("project");
+    Path moduleDir = project.resolve("0");
+    Path errors = moduleDir.resolve("errors.tsv");
+    Path configPath = root.resolve("context.json");
+    Files.createDirectories(project);
+    AtomicInteger builds = new AtomicInteger();
+    // Each build writes different errors, so that outputs restored for each build can be told
+    // apart.
+    Runnable writeErrors =
+        () -> Utility.createAFileWithContent(errors, "errors of build " + builds.incrementAndGet());
+
+    new CoreTestHelper(project, project)
+        .onEmptyProject()
+        .recordBuildTrace(trace)
+        .makeAnnotatorConfigFile(configPath);
+    List<String> recorded = new ArrayList<>();
+    long[] recordedBuildRequests = new long[1];
+    Utility.runTestWithMockedBuild(
+        project,
+        writeErrors,
+        () -> {
+          // Scanner build of the target module.
+          Context context = new Context(new Config(configPath));
+          recorded.add(readString(errors));
+          // Baseline build of the target module.
+          edu.ucr.cs.riple.core.util.Utility.buildTarget(context);
+          recorded.add(readString(errors));
+          recordedBuildRequests[0] = context.log.getRequestedBuilds();
+        });
+    assertEquals(2, builds.get());
+    assertEquals(List.of("errors of build 1", "errors of build 2"), recorded);
+
+    deleteDirectory(moduleDir);
+    new CoreTestHelper(project, project)
+        .onEmptyProject()
+        .replayBuildTrace(trace)
+        .makeAnnotatorConfigFile(configPath);
+    List<String> replayed = new ArrayList<>();
+    long[] replayedBuildRequests = new long[1];
+    Utility.runTestWithMockedBuild(
+        project,
+        writeErrors,
+        () -> {
+          Context context = new Context(new Config(configPath));
+          replayed.add(readString(errors));
+          edu.ucr.cs.riple.core.util.Utility.buildTarget(context);
+          replayed.add(readString(errors));
+          replayedBuildRequests[0] = context.log.getRequestedBuilds();
+        });
+    // No build command runs while replaying.
+    assertEquals(2, builds.get());
+    assertEquals(recorded, replayed);
+    assertEquals(recordedBuildRequests[0], replayedBuildRequests[0]);
+    assertTrue(Files.exists(moduleDir.resolve(Serializer.METHOD_RECORD_FILE_NAME)));
+    assertTrue(Files.exists(moduleDir.resolve(Serializer.FIELD_IMPACTED_REGION_FILE_NAME)));
+  }
+
+  /**
+   * Reads the content of the given file.
+   *
+   * @param path Path to the file.
+   * @return Content of the file.
+   */
+  private static String readString(Path path) {
+    try {
+      return Files.readString(path);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not read file: " + path, e);
+    }
+  }
+
+  /**
+   * Deletes the given directory and all its content.
+   *
+   * @param dir Directory to delete.
+   * @throws IOException if an I/O error occurs.
+   */
+  private static void deleteDirectory(Path dir) throws IOException {
+    List<Path> paths;
+    try (Stream<Path> stream = Files.walk(dir)) {
+      paths = stream.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+    }
+    for (Path path : paths) {
+      Files.delete(path);
+    }
+  }
+}
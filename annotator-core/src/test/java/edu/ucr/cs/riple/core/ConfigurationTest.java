@@ -27,18 +27,22 @@ package edu.ucr.cs.riple.core;
 import static edu.ucr.cs.riple.core.tools.Utility.runTestWithMockedBuild;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.github.javaparser.ParserConfiguration;
 import com.github.javaparser.utils.Pair;
 import com.google.common.collect.ImmutableSet;
 import edu.ucr.cs.riple.core.checkers.nullaway.FixSerializationConfig;
 import edu.ucr.cs.riple.core.checkers.nullaway.NullAway;
+import edu.ucr.cs.riple.core.module.ModuleConfiguration;
 import edu.ucr.cs.riple.scanner.ScannerConfigWriter;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -276,6 +280,54 @@ public class ConfigurationTest {
         });
   }
 
+  @Test
+  public void testOptionalPathsMissingJson() {
+    Config.Builder builder = makeBuilderWithRequiredValues();
+    // Optional paths are not set, hence their keys are omitted from the json config.
+    Path configPath = testDir.resolve("config.json");
+    builder.write(configPath);
+    Config config = new Config(configPath);
+    assertNull(config.recordBuildTraceDir);
+    assertNull(config.replayBuildTraceDir);
+    assertNull(config.flightRecordingPath);
+  }
+
+  @Test
+  public void testInjectionOptionsJson() {
+    Config.Builder builder = makeBuilderWithRequiredValues();
+    Path configPath = testDir.resolve("config.json");
+    builder.write(configPath);
+    Config config = new Config(configPath);
+    assertEquals(Charset.defaultCharset(), config.sourceCharset);
+    assertFalse(config.syncWrites);
+    builder.sourceCharset = StandardCharsets.UTF_16;
+    builder.syncWrites = true;
+    builder.write(configPath);
+    config = new Config(configPath);
+    assertEquals(StandardCharsets.UTF_16, config.sourceCharset);
+    assertTrue(config.syncWrites);
+  }
+
+  /**
+   * Helper method for creating a {@link Config.Builder} with only the required values set.
+   *
+   * @return Config builder instance.
+   */
+  private Config.Builder makeBuilderWithRequiredValues() {
+    Config.Builder builder = new Config.Builder();
+    builder.buildCommand = "./gradlew compileJava";
+    builder.initializerAnnotation = "edu.ucr.Initializer";
+    builder.nullableAnnotation = "javax.annotation.Nullable";
+    builder.outputDir = testDir.toString();
+    builder.checker = NullAway.NAME;
+    builder.languageLevel = ParserConfiguration.LanguageLevel.JAVA_17;
+    builder.configPaths =
+        List.of(
+            new ModuleConfiguration(
+                0, testDir, Paths.get("0nullaway.xml"), Paths.get("0scanner.xml")));
+    return builder;
+  }
+
   /**
    * Helper method for creating a {@link Config} object with the given flags. Before creating the
    * config file, it cleans up the existing module output directories.
@@ -69,6 +69,18 @@ public class CoreTest extends AnnotatorBaseCoreTest {
         .start();
   }
 
+  @Test
+  public void exhaustiveSearchInjectsAllFixes() {
+    coreTestHelper
+        .onTarget()
+        .withSourceLines("Main.java", "package test;", "public class Main {", "Object field;", "}")
+        .withExpectedReports(
+            new TReport(new OnField("Main.java", "test.Main", singleton("field")), -1))
+        .enableExhaustiveSearch()
+        .checkExpectedOutput("exhaustiveSearchInjectsAllFixes/expected")
+        .start();
+  }
+
   @Test
   public void param() {
     coreTestHelper
@@ -597,4 +609,49 @@ public class CoreTest extends AnnotatorBaseCoreTest {
         .enableJSpecifyMode()
         .start();
   }
+
+  @Test
+  public void verifiedFinalIterationReevaluatesOnlyChangedReports() {
+    TReport run = new TReport(new OnMethod("Main.java", "test.Main", "run()"), 0);
+    TReport use =
+        new TReport(new OnParameter("Main.java", "test.Main", "use(java.lang.Object)", 0), 1);
+    TReport other =
+        new TReport(new OnParameter("Main.java", "test.Main", "other(java.lang.Object)", 0), 1);
+    coreTestHelper
+        .onTarget()
+        .withSourceLines(
+            "Main.java",
+            "package test;",
+            "public class Main {",
+            "   Object run() {",
+            "     return null;",
+            "   }",
+            "   void use(Object p) {",
+            "     p.hashCode();",
+            "     p.toString();",
+            "     run().hashCode();",
+            "   }",
+            "   void other(Object q) {",
+            "     q.hashCode();",
+            "     q.toString();",
+            "   }",
+            "   void pass() {",
+            "     use(null);",
+            "     other(null);",
+            "   }",
+            "}")
+        .withExpectedReports(run, use, other)
+        .toDepth(1)
+        .activateOuterLoop()
+        .verifyFinalIteration()
+        .start();
+    ReportCache cache = coreTestHelper.getReportCache();
+    // Approved in the first iteration and never invalidated.
+    Assert.assertEquals(0, cache.getVersion(run.root));
+    // Rejected in the first iteration, but @Nullable on run() changes use(java.lang.Object),
+    // hence evaluated again in the final iteration.
+    Assert.assertTrue(cache.getVersion(use.root) > 0);
+    // Rejected in the first iteration and no injected fix changes its regions, hence kept.
+    Assert.assertEquals(0, cache.getVersion(other.root));
+  }
 }
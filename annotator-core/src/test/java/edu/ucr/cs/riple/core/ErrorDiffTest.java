@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import edu.ucr.cs.riple.core.checkers.nullaway.NullAwayError;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.ErrorDiff;
+import edu.ucr.cs.riple.core.registries.index.Result;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnField;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.Test;
+
+public class ErrorDiffTest {
+
+  @Test
+  public void duplicatesAreMatchedPerOccurrence() {
+    Error a = error("DEREFERENCE", "a", 1);
+    Error b = error("DEREFERENCE", "b", 2);
+    List<Error> previous = List.of(a, a, b);
+    List<Error> current = List.of(a, a, a, b, b);
+    ErrorDiff diff = ErrorDiff.of(previous, current);
+    assertEquals(List.of(a, b), diff.added);
+    assertEquals(List.of(), diff.removed);
+    assertEquals(2, diff.size());
+    assertSameAsListRemoval(previous, current);
+    assertSameAsListRemoval(current, previous);
+  }
+
+  @Test
+  public void initializerErrorsWithDifferentMessagesAreEqual() {
+    Error first = error(NullAwayError.METHOD_INITIALIZER_ERROR, "initializer leaves f1", 1);
+    Error second = error(NullAwayError.METHOD_INITIALIZER_ERROR, "initializer leaves f2", 5);
+    Error other = error(NullAwayError.METHOD_INITIALIZER_ERROR, "other", 1, "otherMethod()");
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+    ErrorDiff diff = ErrorDiff.of(List.of(first), List.of(second, other));
+    assertEquals(List.of("other"), messages(diff.added));
+    assertEquals(List.of(), diff.removed);
+    assertSameAsListRemoval(List.of(first), List.of(second, second, other));
+  }
+
+  @Test
+  public void orderOfCurrentErrorsIsPreserved() {
+    Error a = error("DEREFERENCE", "a", 1);
+    Error b = error("DEREFERENCE", "b", 2);
+    Error c = error("RETURN", "c", 3);
+    Error d = error("PASS", "d", 4);
+    ErrorDiff diff = ErrorDiff.of(List.of(b, d), List.of(c, b, a, d, c));
+    assertEquals(List.of(c, a, c), diff.added);
+    assertSameAsListRemoval(List.of(b, d), List.of(c, b, a, d, c));
+  }
+
+  @Test
+  public void randomSnapshotsMatchListRemoval() {
+    List<Error> pool = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      pool.add(error("DEREFERENCE", "m" + i, i));
+      // Equal initializer errors with different messages.
+      pool.add(error(NullAwayError.METHOD_INITIALIZER_ERROR, "init" + i, i));
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      assertSameAsListRemoval(randomSnapshot(pool, random), randomSnapshot(pool, random));
+    }
+  }
+
+  /**
+   * Checks that the result of {@link ErrorDiff} is identical to the result of the previous
+   * implementation, which removed every previous error from a copy of the current errors.
+   *
+   * @param previous Errors in the previous snapshot.
+   * @param current Errors in the current snapshot.
+   */
+  private static void assertSameAsListRemoval(
+      Collection<Error> previous, Collection<Error> current) {
+    List<Error> expected = new ArrayList<>(current);
+    previous.forEach(expected::remove);
+    Result result = ErrorDiff.of(previous, current).toResult();
+    assertEquals(current.size() - previous.size(), result.size);
+    assertEquals(expected, new ArrayList<>(result.dif));
+    // Equal errors can differ in messages, the same occurrences must be kept.
+    assertEquals(messages(expected), messages(result.dif));
+  }
+
+  private static List<Error> randomSnapshot(List<Error> pool, Random random) {
+    List<Error> snapshot = new ArrayList<>();
+    int size = random.nextInt(8);
+    for (int i = 0; i < size; i++) {
+      snapshot.add(pool.get(random.nextInt(pool.size())));
+    }
+    return snapshot;
+  }
+
+  private static List<String> messages(Collection<Error> errors) {
+    return errors.stream().map(error -> error.message).collect(Collectors.toList());
+  }
+
+  private static Error error(String type, String message, int offset) {
+    return error(type, message, offset, "run()");
+  }
+
+  private static Error error(String type, String message, int offset, String member) {
+    return new NullAwayError(
+        type,
+        message,
+        new Region("test.Main", member),
+        offset,
+        Set.of(
+            new AddMarkerAnnotation(
+                new OnField(Paths.get("Main.java"), "test.Main", Set.of("f" + offset)),
+                "javax.annotation.Nullable")));
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.checkers.nullaway.NullAwayError;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.index.FixErrorIndex;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnField;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class FixErrorIndexTest {
+
+  @Test
+  public void errorIsResolvedOnlyByAllOfItsFixes() {
+    Error error = error("m0", 0, 1);
+    Fix first = fix(0);
+    Fix second = fix(1);
+    FixErrorIndex index = new FixErrorIndex(List.of(error, error("m1", 2)));
+    assertEquals(0, index.getNumberOfErrorsResolvedByAllFixesWithinCollection(List.of(first)));
+    assertEquals(
+        1, index.getNumberOfErrorsResolvedByAllFixesWithinCollection(List.of(first, second)));
+    assertEquals(
+        2,
+        index.getNumberOfErrorsResolvedByAllFixesWithinCollection(
+            List.of(first, second, fix(2), fix(2))));
+    assertEquals(ImmutableSet.of(), index.getRegionsOfErrorsResolvableWith(fix(3)));
+  }
+
+  @Test
+  public void repeatedErrorsAreCountedPerOccurrence() {
+    Error error = error("m0", 0, 1);
+    FixErrorIndex index = new FixErrorIndex(List.of(error, error));
+    // Both occurrences need both fixes.
+    assertEquals(0, index.getNumberOfErrorsResolvedByAllFixesWithinCollection(List.of(fix(0))));
+    assertEquals(
+        2, index.getNumberOfErrorsResolvedByAllFixesWithinCollection(List.of(fix(0), fix(1))));
+  }
+
+  @Test
+  public void randomQueriesMatchScanOverErrors() {
+    List<Error> pool = new ArrayList<>();
+    pool.add(error("m0"));
+    for (int i = 0; i < 4; i++) {
+      pool.add(error("m" + i, i));
+      pool.add(error("m" + i, i, (i + 1) % 4));
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      List<Error> errors = new ArrayList<>();
+      int size = random.nextInt(10);
+      for (int j = 0; j < size; j++) {
+        errors.add(pool.get(random.nextInt(pool.size())));
+      }
+      List<Fix> fixes = new ArrayList<>();
+      int count = random.nextInt(5);
+      for (int j = 0; j < count; j++) {
+        fixes.add(fix(random.nextInt(5)));
+      }
+      FixErrorIndex index = new FixErrorIndex(errors);
+      assertEquals(
+          errors.stream().filter(error -> error.isResolvableWith(fixes)).count(),
+          (long) index.getNumberOfErrorsResolvedByAllFixesWithinCollection(fixes));
+      for (int j = 0; j < 5; j++) {
+        Fix fix = fix(j);
+        Set<Region> expected = new HashSet<>();
+        errors.stream()
+            .filter(error -> error.getResolvingFixes().contains(fix))
+            .forEach(error -> expected.add(error.getRegion()));
+        assertEquals(expected, index.getRegionsOfErrorsResolvableWith(fix));
+      }
+    }
+  }
+
+  private static Fix fix(int field) {
+    return new Fix(annotation(field));
+  }
+
+  private static AddMarkerAnnotation annotation(int field) {
+    return new AddMarkerAnnotation(
+        new OnField(Paths.get("Main.java"), "test.Main", Set.of("f" + field)),
+        "javax.annotation.Nullable");
+  }
+
+  private static Error error(String member, int... fields) {
+    Set<AddAnnotation> annotations = new HashSet<>();
+    for (int field : fields) {
+      annotations.add(annotation(field));
+    }
+    return new NullAwayError(
+        "DEREFERENCE", "error", new Region("test.Main", member), fields.length, annotations);
+  }
+}
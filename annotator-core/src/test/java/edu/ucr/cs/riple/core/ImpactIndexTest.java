@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import edu.ucr.cs.riple.core.cache.Impact;
+import edu.ucr.cs.riple.core.cache.ImpactIndex;
+import edu.ucr.cs.riple.core.checkers.nullaway.NullAwayError;
+import edu.ucr.cs.riple.core.registries.index.Error;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.injector.changes.AddAnnotation;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnField;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Test;
+
+public class ImpactIndexTest {
+
+  @Test
+  public void impactsAreReferencedByOwnFixAndResolvingFixes() {
+    ImpactIndex<Impact> index = new ImpactIndex<>();
+    Impact impact = new Impact(fix(0), Set.of(error(1, 2)), Set.of());
+    index.add(impact);
+    assertEquals(Set.of(impact), index.getImpactsReferencing(List.of(fix(0))));
+    assertEquals(Set.of(impact), index.getImpactsReferencing(List.of(fix(2))));
+    assertEquals(Set.of(), index.getImpactsReferencing(List.of(fix(3))));
+    index.remove(impact);
+    assertEquals(Set.of(), index.getImpactsReferencing(List.of(fix(0), fix(1), fix(2))));
+  }
+
+  @Test
+  public void replacedImpactIsReferencedByNewErrorsOnly() {
+    ImpactIndex<Impact> index = new ImpactIndex<>();
+    Impact previous = new Impact(fix(0), Set.of(error(1)), Set.of());
+    index.add(previous);
+    index.remove(previous);
+    Impact impact = new Impact(fix(0), Set.of(error(2)), Set.of());
+    index.add(impact);
+    assertEquals(Set.of(), index.getImpactsReferencing(List.of(fix(1))));
+    assertEquals(Set.of(impact), index.getImpactsReferencing(List.of(fix(2))));
+  }
+
+  @Test
+  public void updatingReferencedImpactsMatchesUpdatingAllImpacts() {
+    Random random = new Random(42);
+    for (int round = 0; round < 200; round++) {
+      ImpactIndex<Impact> index = new ImpactIndex<>();
+      Map<Fix, Impact> indexed = new HashMap<>();
+      Map<Fix, Impact> all = new HashMap<>();
+      for (int step = 0; step < 20; step++) {
+        if (random.nextInt(3) == 0) {
+          // Replace the impact of a fix, as caches do when a fix is re-evaluated.
+          Fix fix = fix(random.nextInt(8));
+          Set<Error> errors = randomErrors(random);
+          Impact previous = indexed.remove(fix);
+          if (previous != null) {
+            index.remove(previous);
+          }
+          Impact impact = new Impact(fix, errors, Set.of());
+          indexed.put(fix, impact);
+          index.add(impact);
+          all.put(fix, new Impact(fix, errors, Set.of()));
+        } else {
+          List<Fix> injected = new ArrayList<>();
+          int count = random.nextInt(3) + 1;
+          for (int i = 0; i < count; i++) {
+            injected.add(fix(random.nextInt(8)));
+          }
+          index
+              .getImpactsReferencing(injected)
+              .forEach(impact -> impact.updateStatusAfterInjection(injected));
+          all.values().forEach(impact -> impact.updateStatusAfterInjection(injected));
+        }
+        assertEquals(all.keySet(), indexed.keySet());
+        all.forEach(
+            (fix, impact) ->
+                assertEquals(impact.getTriggeredErrors(), indexed.get(fix).getTriggeredErrors()));
+      }
+    }
+  }
+
+  private static Set<Error> randomErrors(Random random) {
+    Set<Error> errors = new HashSet<>();
+    int count = random.nextInt(4);
+    for (int i = 0; i < count; i++) {
+      errors.add(
+          random.nextBoolean()
+              ? error(random.nextInt(8))
+              : error(random.nextInt(8), random.nextInt(8)));
+    }
+    return errors;
+  }
+
+  private static Fix fix(int field) {
+    return new Fix(annotation(field));
+  }
+
+  private static AddMarkerAnnotation annotation(int field) {
+    return new AddMarkerAnnotation(
+        new OnField(Paths.get("Main.java"), "test.Main", Set.of("f" + field)),
+        "javax.annotation.Nullable");
+  }
+
+  private static Error error(int... fields) {
+    Set<AddAnnotation> annotations = new HashSet<>();
+    StringBuilder member = new StringBuilder("m");
+    for (int field : fields) {
+      annotations.add(annotation(field));
+      member.append(field);
+    }
+    return new NullAwayError(
+        "DEREFERENCE", "error", new Region("test.Main", member.toString()), 0, annotations);
+  }
+}
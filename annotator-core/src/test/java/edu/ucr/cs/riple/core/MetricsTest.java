@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import edu.ucr.cs.riple.core.metrics.CacheStatistics;
+import edu.ucr.cs.riple.core.metrics.Metrics;
+import edu.ucr.cs.riple.core.metrics.Phase;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MetricsTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void exportsTimersCountersAndCaches() throws IOException {
+    Metrics metrics = new Metrics();
+    metrics.timer(Phase.BUILD).record(2_000_000_000L);
+    metrics.timer(Phase.BUILD).record(20_000_000L);
+    metrics.counter("injected_annotations").add(3);
+    metrics.histogram("build_group_size", new double[] {1, 10}).observe(4);
+    CacheStatistics statistics = new CacheStatistics();
+    statistics.record(true);
+    statistics.record(true);
+    statistics.record(false);
+    metrics.registerCache("report", statistics);
+
+    Path dir = temporaryFolder.getRoot().toPath();
+    metrics.write(dir);
+    JsonObject json =
+        JsonParser.parseString(
+                Files.readString(dir.resolve(Metrics.JSON_FILE_NAME), StandardCharsets.UTF_8))
+            .getAsJsonObject();
+    JsonObject build = json.getAsJsonObject("timers_seconds").getAsJsonObject("build");
+    assertEquals(2, build.get("count").getAsLong());
+    assertEquals(2.0, build.get("max").getAsDouble());
+    assertEquals(3, json.getAsJsonObject("counters").get("injected_annotations").getAsLong());
+    JsonObject report = json.getAsJsonObject("caches").getAsJsonObject("report");
+    assertEquals(2, report.get("hits").getAsLong());
+    assertEquals(1, report.get("misses").getAsLong());
+
+    String prometheus =
+        Files.readString(dir.resolve(Metrics.PROMETHEUS_FILE_NAME), StandardCharsets.UTF_8);
+    assertTrue(
+        prometheus.contains("annotator_phase_duration_seconds_bucket{phase=\"build\",le=\"0.05\"} 1"));
+    assertTrue(
+        prometheus.contains("annotator_phase_duration_seconds_bucket{phase=\"build\",le=\"+Inf\"} 2"));
+    assertTrue(prometheus.contains("annotator_phase_duration_seconds_count{phase=\"build\"} 2"));
+    assertTrue(prometheus.contains("annotator_injected_annotations_total 3"));
+    assertTrue(prometheus.contains("annotator_build_group_size_bucket{le=\"10.0\"} 1"));
+    assertTrue(prometheus.contains("annotator_cache_hits_total{cache=\"report\"} 2"));
+  }
+}
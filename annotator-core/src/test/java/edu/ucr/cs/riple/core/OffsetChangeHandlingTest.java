@@ -226,6 +226,13 @@ public class OffsetChangeHandlingTest {
                           context.offsetHandler.getOriginalOffset(
                               root.resolve("benchmark.java"), content.indexOf(s))));
       Assert.assertEquals(calculatedOffsetMap, originalFieldOffsetMap);
+      // translating all offsets in a single batch must produce the same results.
+      int[] offsets = IntStream.range(0, 20).map(value -> content.indexOf("f" + value)).toArray();
+      int[] batch =
+          context.offsetHandler.getOriginalOffsets(root.resolve("benchmark.java"), offsets);
+      for (int i = 0; i < 20; i++) {
+        Assert.assertEquals((int) originalFieldOffsetMap.get("f" + i), batch[i]);
+      }
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
@@ -0,0 +1,250 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.cache.Impact;
+import edu.ucr.cs.riple.core.cache.InjectionHistory;
+import edu.ucr.cs.riple.core.cache.TargetModuleCache;
+import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.registries.index.Fix;
+import edu.ucr.cs.riple.core.registries.region.CompoundRegionRegistry;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.core.registries.region.RegionFingerprints;
+import edu.ucr.cs.riple.core.tools.CoreTestHelper;
+import edu.ucr.cs.riple.core.tools.Utility;
+import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
+import edu.ucr.cs.riple.injector.location.OnClass;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class RegionFingerprintsTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Path to the source file containing the regions. */
+  private Path path;
+
+  /** Module containing the regions. */
+  private ModuleInfo moduleInfo;
+
+  private RegionFingerprints fingerprints;
+
+  /** Method region. */
+  private final Region method = new Region("test.Main", "foo(java.lang.Object)");
+
+  /** Field region. */
+  private final Region field = new Region("test.Main", "f");
+
+  /** Initialization region of the class. */
+  private final Region init = new Region("test.Main", "null");
+
+  @Before
+  public void init() throws IOException {
+    Path root = temporaryFolder.getRoot().toPath();
+    CoreTestHelper helper = new CoreTestHelper(root, root).onEmptyProject();
+    Path configPath = root.resolve("context.json");
+    helper.makeAnnotatorConfigFile(configPath);
+    Context[] context = new Context[1];
+    Utility.runTestWithMockedBuild(root, () -> context[0] = new Context(new Config(configPath)));
+    path = root.resolve("src").resolve("Main.java");
+    Files.createDirectories(path.getParent());
+    moduleInfo = Mockito.mock(ModuleInfo.class);
+    Mockito.when(moduleInfo.getLocationOnClass("test.Main"))
+        .thenReturn(new OnClass(path, "test.Main"));
+    fingerprints = new RegionFingerprints(moduleInfo, context[0]);
+    Mockito.when(moduleInfo.getRegionFingerprints()).thenReturn(fingerprints);
+    writeSource(
+        "package test;",
+        "public class Main {",
+        "  Object f = new Object();",
+        "  Object g;",
+        "  static {",
+        "    init();",
+        "  }",
+        "  Object foo(Object o) {",
+        "    // returns the argument",
+        "    return o;",
+        "  }",
+        "  static void init() {}",
+        "}");
+  }
+
+  @Test
+  public void injectedAnnotationsAndCommentsDoNotChangeFingerprints() throws IOException {
+    ImmutableMap<Region, Long> snapshot =
+        fingerprints.getFingerprints(ImmutableSet.of(method, field, init));
+    snapshot.values().forEach(value -> assertNotEquals(RegionFingerprints.UNKNOWN, value));
+    writeSource(
+        "package test;",
+        "import javax.annotation.Nullable;",
+        "public class Main {",
+        "  // field comment",
+        "  @javax.annotation.Nullable Object f = new Object();",
+        "  @Nullable Object g;",
+        "  static {",
+        "    init();",
+        "  }",
+        "  /** Javadoc of the method. */",
+        "  @Nullable",
+        "  @SuppressWarnings(\"NullAway\")",
+        "  Object foo(@Nullable Object o) {",
+        "    // another comment",
+        "    return o;",
+        "  }",
+        "  static void init() {}",
+        "}");
+    assertTrue(fingerprints.isUnchanged(snapshot));
+  }
+
+  @Test
+  public void bodyEditsChangeFingerprints() throws IOException {
+    ImmutableMap<Region, Long> snapshot =
+        fingerprints.getFingerprints(ImmutableSet.of(method, field, init));
+    writeSource(
+        "package test;",
+        "public class Main {",
+        "  Object f = new Object();",
+        "  Object g;",
+        "  static {",
+        "    init();",
+        "  }",
+        "  Object foo(Object o) {",
+        "    return null;",
+        "  }",
+        "  static void init() {}",
+        "}");
+    assertFalse(fingerprints.isUnchanged(snapshot));
+    assertNotEquals((long) snapshot.get(method), fingerprints.getFingerprint(method));
+    assertEquals((long) snapshot.get(field), fingerprints.getFingerprint(field));
+    assertEquals((long) snapshot.get(init), fingerprints.getFingerprint(init));
+    // Changing a field initializer changes both the field and initialization regions.
+    writeSource(
+        "package test;",
+        "public class Main {",
+        "  Object f = null;",
+        "  Object g;",
+        "  static {",
+        "    init();",
+        "  }",
+        "  Object foo(Object o) {",
+        "    return o;",
+        "  }",
+        "  static void init() {}",
+        "}");
+    assertEquals((long) snapshot.get(method), fingerprints.getFingerprint(method));
+    assertNotEquals((long) snapshot.get(field), fingerprints.getFingerprint(field));
+    assertNotEquals((long) snapshot.get(init), fingerprints.getFingerprint(init));
+  }
+
+  @Test
+  public void annotationsNotInjectedByAnnotatorChangeFingerprints() throws IOException {
+    long before = fingerprints.getFingerprint(method);
+    writeSource(
+        "package test;",
+        "public class Main {",
+        "  Object f = new Object();",
+        "  Object g;",
+        "  static {",
+        "    init();",
+        "  }",
+        "  @Deprecated",
+        "  Object foo(Object o) {",
+        "    // returns the argument",
+        "    return o;",
+        "  }",
+        "  static void init() {}",
+        "}");
+    assertNotEquals(before, fingerprints.getFingerprint(method));
+  }
+
+  @Test
+  public void fingerprintsAreKeptUntilFileIsWritten() throws IOException {
+    ImmutableMap<Region, Long> snapshot = fingerprints.getFingerprints(ImmutableSet.of(method));
+    Files.writeString(path, Files.readString(path).replace("return o;", "return null;"));
+    // The change is not reported yet.
+    assertTrue(fingerprints.isUnchanged(snapshot));
+    fingerprints.onFilesWritten(Set.of(path));
+    assertFalse(fingerprints.isUnchanged(snapshot));
+  }
+
+  @Test
+  public void regionsWithoutSourceAreUnknown() {
+    Region unknown = new Region("test.Other", "bar()");
+    assertEquals(RegionFingerprints.UNKNOWN, fingerprints.getFingerprint(unknown));
+    // Missing regions stay unchanged until they can be located.
+    assertTrue(fingerprints.isUnchanged(fingerprints.getFingerprints(ImmutableSet.of(unknown))));
+  }
+
+  @Test
+  public void targetModuleCacheDropsImpactsWithChangedSource() throws IOException {
+    CompoundRegionRegistry regionRegistry = Mockito.mock(CompoundRegionRegistry.class);
+    Mockito.when(regionRegistry.getImpactedRegions(Mockito.anyCollection()))
+        .thenReturn(ImmutableSet.of(method));
+    Mockito.when(moduleInfo.getRegionRegistry()).thenReturn(regionRegistry);
+    TargetModuleCache cache = new TargetModuleCache(new InjectionHistory(), moduleInfo);
+    Fix fix =
+        new Fix(
+            new AddMarkerAnnotation(
+                new OnMethod(path, "test.Main", "foo(java.lang.Object)"),
+                "javax.annotation.Nullable"));
+    cache.updateCacheState(Set.of(new Impact(fix, Set.of(), Set.of())));
+    // Injected annotations do not invalidate the impact.
+    Files.writeString(path, Files.readString(path).replace("Object foo(", "@Nullable Object foo("));
+    fingerprints.onFilesWritten(Set.of(path));
+    assertEquals(0, cache.invalidateImpactsChangedSinceComputation(regionRegistry));
+    assertFalse(cache.isUnknown(fix));
+    Files.writeString(path, Files.readString(path).replace("return o;", "return null;"));
+    fingerprints.onFilesWritten(Set.of(path));
+    assertEquals(1, cache.invalidateImpactsChangedSinceComputation(regionRegistry));
+    assertTrue(cache.isUnknown(fix));
+  }
+
+  /**
+   * Writes the given lines to the source file and reports the rewrite to the fingerprints.
+   *
+   * @param lines Lines of the source file.
+   * @throws IOException if the file cannot be written.
+   */
+  private void writeSource(String... lines) throws IOException {
+    Files.write(path, List.of(lines));
+    fingerprints.onFilesWritten(Set.of(path));
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.module.ModuleConfiguration;
+import edu.ucr.cs.riple.core.module.ModuleInfo;
+import edu.ucr.cs.riple.core.registries.region.FieldRegionRegistry;
+import edu.ucr.cs.riple.core.registries.region.MethodRegionRegistry;
+import edu.ucr.cs.riple.core.registries.region.Region;
+import edu.ucr.cs.riple.core.registries.region.RegionRecordStore;
+import edu.ucr.cs.riple.core.tools.CoreTestHelper;
+import edu.ucr.cs.riple.core.tools.Utility;
+import edu.ucr.cs.riple.injector.location.Location;
+import edu.ucr.cs.riple.injector.location.OnField;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import edu.ucr.cs.riple.scanner.Serializer;
+import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class RegionRecordStoreTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Root of tests. */
+  private Path root;
+
+  @Before
+  public void init() {
+    root = temporaryFolder.getRoot().toPath();
+  }
+
+  @Test
+  public void emptyStoreHasNoRegions() {
+    RegionRecordStore store = new RegionRecordStore(root);
+    store.seal();
+    assertEquals(0, store.size());
+    assertEquals(ImmutableSet.of(), store.getRegions("test.A", "foo()"));
+  }
+
+  @Test
+  public void duplicateRecordsAreMergedAndDistinctRegionsAreKept() {
+    RegionRecordStore store = new RegionRecordStore(root);
+    store.append(record("test.B", "bar()", "foo()", "test.A", "SOURCE"));
+    store.append(record("test.B", "bar()", "foo()", "test.A", "SOURCE"));
+    store.append(record("test.C", "baz()", "foo()", "test.A", "LOMBOK"));
+    store.seal();
+    assertEquals(3, store.size());
+    assertEquals(
+        ImmutableSet.of(
+            new Region("test.B", "bar()", SourceType.SOURCE),
+            new Region("test.C", "baz()", SourceType.LOMBOK)),
+        store.getRegions("test.A", "foo()"));
+  }
+
+  @Test
+  public void membersOfTheSameClassAreDistinguished() {
+    RegionRecordStore store = new RegionRecordStore(root);
+    store.append(record("test.B", "bar()", "foo()", "test.A", "SOURCE"));
+    store.append(record("test.C", "baz()", "f", "test.A", "SOURCE"));
+    // Same member name in another class.
+    store.append(record("test.D", "qux()", "foo()", "test.E", "SOURCE"));
+    store.seal();
+    assertEquals(
+        ImmutableSet.of(new Region("test.B", "bar()")), store.getRegions("test.A", "foo()"));
+    assertEquals(ImmutableSet.of(new Region("test.C", "baz()")), store.getRegions("test.A", "f"));
+    assertEquals(
+        ImmutableSet.of(new Region("test.D", "qux()")), store.getRegions("test.E", "foo()"));
+  }
+
+  @Test
+  public void unknownSymbolsHaveNoRegions() {
+    RegionRecordStore store = new RegionRecordStore(root);
+    store.append(record("test.B", "bar()", "foo()", "test.A", "SOURCE"));
+    store.seal();
+    assertEquals(ImmutableSet.of(), store.getRegions("test.Unknown", "foo()"));
+    assertEquals(ImmutableSet.of(), store.getRegions("test.A", "unknown()"));
+    // Both symbols are known, but no record uses the member of the class.
+    assertEquals(ImmutableSet.of(), store.getRegions("test.B", "foo()"));
+    assertEquals(ImmutableSet.of(), store.getRegions("test.A", "bar()"));
+  }
+
+  @Test
+  public void recordsSpanningMultipleSortedRunsAreMerged() {
+    RegionRecordStore store = new RegionRecordStore(root);
+    Map<String, Set<Region>> expected = new HashMap<>();
+    Random random = new Random(42);
+    // More records than a single run holds.
+    int count = 600_000;
+    for (int i = 0; i < count; i++) {
+      String clazz = "test.C" + random.nextInt(50);
+      String member = "m" + random.nextInt(20) + "()";
+      Region region = new Region("test.R" + random.nextInt(10), "r" + random.nextInt(10) + "()");
+      store.append(record(region.clazz, region.member, member, clazz, "SOURCE"));
+      expected.computeIfAbsent(clazz + "#" + member, key -> new HashSet<>()).add(region);
+    }
+    store.seal();
+    assertEquals(count, store.size());
+    for (int c = 0; c < 50; c++) {
+      for (int m = 0; m < 20; m++) {
+        String clazz = "test.C" + c;
+        String member = "m" + m + "()";
+        assertEquals(
+            expected.getOrDefault(clazz + "#" + member, Set.of()),
+            store.getRegions(clazz, member));
+      }
+    }
+  }
+
+  @Test
+  public void offHeapRegistriesMatchOnHeapRegistries() throws IOException {
+    ModuleConfiguration module =
+        new ModuleConfiguration(
+            1, root.resolve("regions"), root.resolve("checker.xml"), root.resolve("s.xml"));
+    Random random = new Random(42);
+    writeRegions(module.dir.resolve(Serializer.METHOD_IMPACTED_REGION_FILE_NAME), random, "m%d()");
+    writeRegions(module.dir.resolve(Serializer.FIELD_IMPACTED_REGION_FILE_NAME), random, "f%d");
+    ModuleInfo moduleInfo = Mockito.mock(ModuleInfo.class);
+    Mockito.when(moduleInfo.getModuleConfigurations()).thenReturn(ImmutableSet.of(module));
+    Context onHeap = createContext(root.resolve("onheap"), false);
+    Context offHeap = createContext(root.resolve("offheap"), true);
+    MethodRegionRegistry onHeapMethods = new MethodRegionRegistry(moduleInfo, onHeap);
+    MethodRegionRegistry offHeapMethods = new MethodRegionRegistry(moduleInfo, offHeap);
+    FieldRegionRegistry onHeapFields = new FieldRegionRegistry(moduleInfo, onHeap);
+    FieldRegionRegistry offHeapFields = new FieldRegionRegistry(moduleInfo, offHeap);
+    Path path = root.resolve("Main.java");
+    // Includes classes and members which are not used in any record.
+    for (int c = 0; c < 6; c++) {
+      for (int m = 0; m < 6; m++) {
+        String clazz = "test.C" + c;
+        Location method = new OnMethod(path, clazz, "m" + m + "()");
+        assertEquals(
+            onHeapMethods.getImpactedRegionsByUse(method),
+            offHeapMethods.getImpactedRegionsByUse(method));
+        Location field = new OnField(path, clazz, Set.of("f" + m, "f" + (m + 1) % 6));
+        assertEquals(
+            onHeapFields.getImpactedRegionsByUse(field),
+            offHeapFields.getImpactedRegionsByUse(field));
+      }
+    }
+  }
+
+  /**
+   * Creates a context for an empty project in the given directory.
+   *
+   * @param dir Directory of the project.
+   * @param offHeapRegions Whether impacted regions are stored off-heap.
+   * @return Created context.
+   * @throws IOException if the directory cannot be created.
+   */
+  private Context createContext(Path dir, boolean offHeapRegions) throws IOException {
+    Files.createDirectories(dir);
+    CoreTestHelper helper = new CoreTestHelper(dir, dir).onEmptyProject();
+    if (offHeapRegions) {
+      helper.enableOffHeapRegions();
+    }
+    Path configPath = dir.resolve("context.json");
+    helper.makeAnnotatorConfigFile(configPath);
+    Context[] context = new Context[1];
+    Utility.runTestWithMockedBuild(dir, () -> context[0] = new Context(new Config(configPath)));
+    return context[0];
+  }
+
+  /**
+   * Writes an impacted regions output with random records using members of five classes.
+   *
+   * @param path Path to the output.
+   * @param random Source of randomness.
+   * @param memberFormat Format of used member names.
+   * @throws IOException if the output cannot be written.
+   */
+  private static void writeRegions(Path path, Random random, String memberFormat)
+      throws IOException {
+    List<String> lines = new ArrayList<>();
+    lines.add("HEADER");
+    for (int i = 0; i < 200; i++) {
+      lines.add(
+          String.join(
+              "\t",
+              record(
+                  "test.R" + random.nextInt(4),
+                  "r" + random.nextInt(4) + "()",
+                  String.format(memberFormat, random.nextInt(5)),
+                  "test.C" + random.nextInt(5),
+                  random.nextBoolean() ? "SOURCE" : "LOMBOK")));
+    }
+    Files.write(path, lines);
+  }
+
+  /**
+   * Returns a record in the serialized format of impacted regions.
+   *
+   * @param regionClass Class of the region.
+   * @param regionMember Member of the region.
+   * @param member Used member.
+   * @param clazz Class of the used member.
+   * @param sourceType Source type of the region.
+   * @return Values of the record.
+   */
+  private static String[] record(
+      String regionClass, String regionMember, String member, String clazz, String sourceType) {
+    return new String[] {regionClass, regionMember, member, clazz, sourceType};
+  }
+}
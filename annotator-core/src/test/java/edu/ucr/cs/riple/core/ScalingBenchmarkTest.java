@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import com.google.gson.JsonObject;
+import edu.ucr.cs.riple.core.log.Log;
+import edu.ucr.cs.riple.core.tools.SyntheticProjectGenerator;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * End-to-end scaling harness. Runs {@link Annotator#start()} on a project generated by {@link
+ * SyntheticProjectGenerator} and appends the measurements as a single JSON line to a results file.
+ * Skipped unless the {@code ANNOTATOR_SCALING_BENCHMARK} environment variable is {@code true}, as a
+ * single run can take a long time.
+ *
+ * <p>Shape of the generated project is controlled by environment variables {@code
+ * ANNOTATOR_SCALING_CLASSES}, {@code ANNOTATOR_SCALING_INHERITANCE_DEPTH}, {@code
+ * ANNOTATOR_SCALING_FIELDS}, {@code ANNOTATOR_SCALING_METHODS}, {@code ANNOTATOR_SCALING_FAN_IN}
+ * and {@code ANNOTATOR_SCALING_NULL_DENSITY}, defaults are taken from {@link
+ * SyntheticProjectGenerator.Parameters}. Results are appended to the file at {@code
+ * ANNOTATOR_SCALING_RESULTS}, or {@code build/reports/scaling/results.jsonl} if not set. Heap
+ * measurements cover the Annotator process only, builds of the target module run in separate
+ * processes.
+ */
+public class ScalingBenchmarkTest extends AnnotatorBaseCoreTest {
+
+  public ScalingBenchmarkTest() {
+    super("nullable-multi-modular");
+  }
+
+  @Test
+  public void scaling() {
+    Assume.assumeTrue(Boolean.parseBoolean(System.getenv("ANNOTATOR_SCALING_BENCHMARK")));
+    SyntheticProjectGenerator.Parameters parameters = new SyntheticProjectGenerator.Parameters();
+    parameters.classes = intFromEnvironment("ANNOTATOR_SCALING_CLASSES", parameters.classes);
+    parameters.inheritanceDepth =
+        intFromEnvironment("ANNOTATOR_SCALING_INHERITANCE_DEPTH", parameters.inheritanceDepth);
+    parameters.fieldsPerClass =
+        intFromEnvironment("ANNOTATOR_SCALING_FIELDS", parameters.fieldsPerClass);
+    parameters.methodsPerClass =
+        intFromEnvironment("ANNOTATOR_SCALING_METHODS", parameters.methodsPerClass);
+    parameters.fanIn = intFromEnvironment("ANNOTATOR_SCALING_FAN_IN", parameters.fanIn);
+    String density = System.getenv("ANNOTATOR_SCALING_NULL_DENSITY");
+    if (density != null && !density.isEmpty()) {
+      parameters.nullFlowDensity = Double.parseDouble(density);
+    }
+    new SyntheticProjectGenerator(parameters).writeTo(coreTestHelper.onTarget());
+    Path configPath = outDirPath.resolve("config.json");
+    coreTestHelper.activateOuterLoop().makeAnnotatorConfigFile(configPath);
+
+    List<MemoryPoolMXBean> heapPools =
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .collect(Collectors.toList());
+    heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+    long start = System.currentTimeMillis();
+    Annotator annotator = new Annotator(new Config(configPath));
+    long initialized = System.currentTimeMillis();
+    annotator.start();
+    long finished = System.currentTimeMillis();
+    long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+    Log log = annotator.context.log;
+    JsonObject result = new JsonObject();
+    result.addProperty("parameters", parameters.toString());
+    result.addProperty("totalTimeMillis", finished - start);
+    // Initialization includes the first build of the target module with the scanner.
+    result.addProperty("initializationTimeMillis", initialized - start);
+    result.addProperty("annotationTimeMillis", finished - initialized);
+    result.addProperty("buildTimeMillis", log.getBuildTime());
+    result.addProperty("analysisTimeMillis", finished - initialized - log.getBuildTime());
+    result.addProperty("builds", log.getRequestedBuilds());
+    result.addProperty("nodes", log.getNodes());
+    result.addProperty("reports", annotator.cache.reports().size());
+    result.addProperty("injectedAnnotations", log.getInjectedAnnotations().size());
+    result.addProperty("peakHeapBytes", peakHeap);
+    writeResult(result);
+  }
+
+  /**
+   * Appends the given result as a single line to the results file.
+   *
+   * @param result Result to write.
+   */
+  private static void writeResult(JsonObject result) {
+    String value = System.getenv("ANNOTATOR_SCALING_RESULTS");
+    Path path =
+        value == null || value.isEmpty()
+            ? Paths.get("build", "reports", "scaling", "results.jsonl")
+            : Paths.get(value);
+    try {
+      Files.createDirectories(path.toAbsolutePath().getParent());
+      Files.writeString(
+          path,
+          result + "\n",
+          Charset.defaultCharset(),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not write scaling results to: " + path, e);
+    }
+    System.out.println("Scaling result: " + result);
+  }
+
+  /**
+   * Reads an integer from the given environment variable.
+   *
+   * @param name Name of the environment variable.
+   * @param defaultValue Value returned if the variable is not set.
+   * @return Value of the variable, or the default value if not set.
+   */
+  private static int intFromEnvironment(String name, int defaultValue) {
+    String value = System.getenv(name);
+    return value == null || value.isEmpty() ? defaultValue : Integer.parseInt(value);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import edu.ucr.cs.riple.core.module.ModuleConfiguration;
+import edu.ucr.cs.riple.core.registries.method.MethodRecord;
+import edu.ucr.cs.riple.core.registries.method.MethodRegistry;
+import edu.ucr.cs.riple.core.tools.CoreTestHelper;
+import edu.ucr.cs.riple.core.tools.Utility;
+import edu.ucr.cs.riple.injector.location.OnMethod;
+import edu.ucr.cs.riple.scanner.ScannerShards;
+import edu.ucr.cs.riple.scanner.Serializer;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ShardedScannerOutputTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /** Root of tests. */
+  private Path root;
+
+  private Context context;
+
+  /** Module whose scanner outputs are sharded. */
+  private ModuleConfiguration module;
+
+  @Before
+  public void init() {
+    root = temporaryFolder.getRoot().toPath();
+    CoreTestHelper helper = new CoreTestHelper(root, root).onEmptyProject();
+    Path configPath = root.resolve("context.json");
+    helper.makeAnnotatorConfigFile(configPath);
+    Utility.runTestWithMockedBuild(root, () -> context = new Context(new Config(configPath)));
+    module = new ModuleConfiguration(1, root, root.resolve("checker.xml"), root.resolve("s.xml"));
+  }
+
+  @Test
+  public void manifestListsCreatedShards() throws IOException {
+    Path first = ScannerShards.createShard(module.dir);
+    Path second = ScannerShards.createShard(module.dir);
+    Path manifest = module.dir.resolve(ScannerShards.DIRECTORY).resolve(ScannerShards.MANIFEST);
+    assertEquals(
+        ImmutableList.of(first.getFileName().toString(), second.getFileName().toString()),
+        Files.readAllLines(manifest, StandardCharsets.UTF_8));
+    Path output = module.dir.resolve(Serializer.METHOD_RECORD_FILE_NAME);
+    assertEquals(
+        ImmutableList.of(
+            first.resolve(Serializer.METHOD_RECORD_FILE_NAME),
+            second.resolve(Serializer.METHOD_RECORD_FILE_NAME)),
+        ScannerShards.resolve(output));
+    // Files written by the checker are not sharded.
+    Path errors = module.dir.resolve("errors.tsv");
+    assertEquals(ImmutableList.of(errors), ScannerShards.resolve(errors));
+    ScannerShards.clear(module.dir);
+    assertFalse(Files.exists(module.dir.resolve(ScannerShards.DIRECTORY)));
+    assertEquals(ImmutableList.of(output), ScannerShards.resolve(output));
+  }
+
+  @Test
+  public void methodRegistryMergesShardsWithShiftedIds() throws IOException {
+    // Both shards assign ids starting from 1, so ids collide unless shifted while loading.
+    writeMethodRecords(
+        ScannerShards.createShard(module.dir),
+        "1\ttest.A\tfoo()\t0",
+        "2\ttest.B\tfoo()\t1");
+    writeMethodRecords(
+        ScannerShards.createShard(module.dir),
+        "1\ttest.C\tbar()\t0",
+        "2\ttest.D\tbar()\t1");
+    // Stale output of a non-sharded run, must be ignored as long as the manifest exists.
+    writeMethodRecords(module.dir, "1\ttest.E\tbaz()\t0");
+    MethodRegistry registry = new MethodRegistry(ImmutableSet.of(module), context);
+    assertNull(registry.findMethodByName("test.E", "baz()"));
+    MethodRecord a = registry.findMethodByName("test.A", "foo()");
+    MethodRecord c = registry.findMethodByName("test.C", "bar()");
+    assertNotNull(a);
+    assertNotNull(c);
+    assertNotEquals(a.id, c.id);
+    MethodRecord superOfB = registry.getImmediateSuperMethod(onMethod("test.B", "foo()"));
+    MethodRecord superOfD = registry.getImmediateSuperMethod(onMethod("test.D", "bar()"));
+    assertNotNull(superOfB);
+    assertNotNull(superOfD);
+    assertEquals("test.A", superOfB.location.clazz);
+    assertEquals("test.C", superOfD.location.clazz);
+    assertEquals(
+        ImmutableSet.of("test.D"),
+        registry.getImmediateSubMethods(onMethod("test.C", "bar()")).stream()
+            .map(record -> record.location.clazz)
+            .collect(ImmutableSet.toImmutableSet()));
+  }
+
+  private OnMethod onMethod(String clazz, String method) {
+    return new OnMethod(root.resolve("Main.java"), clazz, method);
+  }
+
+  /**
+   * Writes a method records file in the given directory. Each row contains the id, class, method
+   * and parent id of a record, remaining columns are filled with default values.
+   *
+   * @param dir Directory to write the file in.
+   * @param rows Rows of the file.
+   */
+  private void writeMethodRecords(Path dir, String... rows) throws IOException {
+    StringBuilder content = new StringBuilder(edu.ucr.cs.riple.scanner.out.MethodRecord.header());
+    String path = root.resolve("Main.java").toString();
+    for (String row : rows) {
+      content.append("\n").append(String.join("\t", row, "[]", "", "public", "true", path));
+    }
+    Files.writeString(
+        dir.resolve(Serializer.METHOD_RECORD_FILE_NAME), content.append("\n").toString());
+  }
+}
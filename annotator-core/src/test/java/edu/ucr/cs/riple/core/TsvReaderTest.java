@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.ucr.cs.riple.core.util.TsvReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TsvReaderTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void crlfTerminatedRows() throws IOException {
+    List<String[]> rows = readAll("a\tb\r\nc\td\r\n", 3);
+    assertEquals(2, rows.size());
+    assertArrayEquals(new String[] {"a", "b"}, rows.get(0));
+    assertArrayEquals(new String[] {"c", "d"}, rows.get(1));
+  }
+
+  @Test
+  public void trailingEmptyFieldsAreDropped() throws IOException {
+    List<String[]> rows = readAll("a\t\t\nb\tc\t\n\td\n", 4);
+    assertEquals(3, rows.size());
+    assertArrayEquals(new String[] {"a"}, rows.get(0));
+    assertArrayEquals(new String[] {"b", "c"}, rows.get(1));
+    assertArrayEquals(new String[] {"", "d"}, rows.get(2));
+  }
+
+  @Test
+  public void emptyRowsAreRead() throws IOException {
+    List<String[]> rows = readAll("a\n\n\nb\n", 2);
+    assertEquals(4, rows.size());
+    assertArrayEquals(new String[] {"a"}, rows.get(0));
+    assertArrayEquals(new String[] {""}, rows.get(1));
+    assertArrayEquals(new String[] {""}, rows.get(2));
+    assertArrayEquals(new String[] {"b"}, rows.get(3));
+    assertTrue(readAll("", 2).isEmpty());
+  }
+
+  @Test
+  public void lastRowWithoutTrailingNewline() throws IOException {
+    List<String[]> rows = readAll("a\tb\nc\td", 3);
+    assertEquals(2, rows.size());
+    assertArrayEquals(new String[] {"c", "d"}, rows.get(1));
+    rows = readAll("a\tb\r", 3);
+    assertEquals(1, rows.size());
+    assertArrayEquals(new String[] {"a", "b"}, rows.get(0));
+  }
+
+  @Test
+  public void rowsLongerThanChunkAreCarriedOver() throws IOException {
+    String longValue = "x".repeat(100);
+    List<String[]> rows = readAll("header\n" + longValue + "\ty\n" + "z\t" + longValue + "\n", 8);
+    assertEquals(3, rows.size());
+    assertArrayEquals(new String[] {longValue, "y"}, rows.get(1));
+    assertArrayEquals(new String[] {"z", longValue}, rows.get(2));
+    // Repeated values are interned.
+    assertSame(rows.get(1)[0], rows.get(2)[1]);
+  }
+
+  @Test
+  public void skipHeader() throws IOException {
+    Path path = write("h1\th2\r\nv1\tv2");
+    try (TsvReader reader = new TsvReader(path, 2)) {
+      assertTrue(reader.skip());
+      assertTrue(reader.next());
+      assertArrayEquals(new String[] {"v1", "v2"}, reader.fields());
+      assertFalse(reader.next());
+      assertFalse(reader.skip());
+    }
+  }
+
+  /**
+   * Reads all rows of the given content with the given chunk size.
+   *
+   * @param content Content of the file.
+   * @param chunkSize Number of bytes read at once.
+   * @return Copies of all rows.
+   */
+  private List<String[]> readAll(String content, int chunkSize) throws IOException {
+    List<String[]> rows = new ArrayList<>();
+    try (TsvReader reader = new TsvReader(write(content), chunkSize)) {
+      while (reader.next()) {
+        rows.add(reader.fields().clone());
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Writes the given content to a new file.
+   *
+   * @param content Content of the file.
+   * @return Path to the file.
+   */
+  private Path write(String content) throws IOException {
+    Path path = temporaryFolder.newFile().toPath();
+    Files.write(path, content.getBytes(Charset.defaultCharset()));
+    return path;
+  }
+}
@@ -33,6 +33,7 @@ import edu.ucr.cs.riple.core.AnalysisMode;
 import edu.ucr.cs.riple.core.Annotator;
 import edu.ucr.cs.riple.core.Config;
 import edu.ucr.cs.riple.core.Report;
+import edu.ucr.cs.riple.core.ReportCache;
 import edu.ucr.cs.riple.core.checkers.nullaway.NullAway;
 import edu.ucr.cs.riple.core.log.Log;
 import edu.ucr.cs.riple.core.module.ModuleConfiguration;
@@ -90,6 +91,21 @@ public class CoreTestHelper {
   /** Inference activation. Activated by default */
   private boolean deactivateInference = false;
 
+  /** Exhaustive search activation. Deactivated by default */
+  private boolean exhaustiveSearch = false;
+
+  /** Off-heap storage of impacted regions activation. Deactivated by default */
+  private boolean offHeapRegions = false;
+
+  /** Verification of the final iteration activation. Deactivated by default */
+  private boolean verifyFinalIteration = false;
+
+  /** Directory to record build outputs in. If null, outputs are not recorded. */
+  private Path recordBuildTraceDir;
+
+  /** Directory to replay build outputs from. If null, builds are executed. */
+  private Path replayBuildTraceDir;
+
   /** Analysis mode. */
   private AnalysisMode mode = AnalysisMode.LOCAL;
 
@@ -107,6 +123,9 @@ public class CoreTestHelper {
   /** Annotator log instance after the test execution. */
   private Log log;
 
+  /** Annotator report cache instance after the test execution. */
+  private ReportCache reportCache;
+
   private ParserConfiguration.LanguageLevel languageLevel;
 
   /**
@@ -222,6 +241,59 @@ public class CoreTestHelper {
     return this;
   }
 
+  /**
+   * Activates exhaustive search, where all fixes are injected without evaluating their impacts.
+   *
+   * @return This instance of {@link CoreTestHelper}.
+   */
+  public CoreTestHelper enableExhaustiveSearch() {
+    this.exhaustiveSearch = true;
+    return this;
+  }
+
+  /**
+   * Activates off-heap storage of impacted regions.
+   *
+   * @return This instance of {@link CoreTestHelper}.
+   */
+  public CoreTestHelper enableOffHeapRegions() {
+    this.offHeapRegions = true;
+    return this;
+  }
+
+  /**
+   * Activates verification of the final iteration, which evaluates again only the reports
+   * invalidated by fixes injected after their evaluation.
+   *
+   * @return This instance of {@link CoreTestHelper}.
+   */
+  public CoreTestHelper verifyFinalIteration() {
+    this.verifyFinalIteration = true;
+    return this;
+  }
+
+  /**
+   * Records outputs of all builds in the given directory.
+   *
+   * @param dir Directory of the build trace.
+   * @return This instance of {@link CoreTestHelper}.
+   */
+  public CoreTestHelper recordBuildTrace(Path dir) {
+    this.recordBuildTraceDir = dir;
+    return this;
+  }
+
+  /**
+   * Serves outputs of all builds from the build trace in the given directory instead of building.
+   *
+   * @param dir Directory of the build trace.
+   * @return This instance of {@link CoreTestHelper}.
+   */
+  public CoreTestHelper replayBuildTrace(Path dir) {
+    this.replayBuildTraceDir = dir;
+    return this;
+  }
+
   /**
    * Activates downstream dependency analysis with default mode.
    *
@@ -267,6 +339,7 @@ public class CoreTestHelper {
     Annotator annotator = new Annotator(config);
     annotator.start();
     log = annotator.context.log;
+    reportCache = annotator.cache;
     if (predicate == null) {
       predicate = DEFAULT_PREDICATE.create(config);
     }
@@ -463,6 +536,11 @@ public class CoreTestHelper {
     builder.mode = mode;
     builder.inferenceActivated = !deactivateInference;
     builder.suppressRemainingErrors = suppressRemainingErrors;
+    builder.exhaustiveSearch = exhaustiveSearch;
+    builder.offHeapRegions = offHeapRegions;
+    builder.verifyFinalIteration = verifyFinalIteration;
+    builder.recordBuildTraceDir = recordBuildTraceDir;
+    builder.replayBuildTraceDir = replayBuildTraceDir;
     builder.useCacheImpact = true;
     builder.sourceTypes.add(SourceType.LOMBOK);
     builder.cache = true;
@@ -512,6 +590,15 @@ public class CoreTestHelper {
     return log;
   }
 
+  /**
+   * Getter for Annotator's report cache after test execution.
+   *
+   * @return Report cache instance.
+   */
+  public ReportCache getReportCache() {
+    return reportCache;
+  }
+
   /**
    * Getter for Annotator's config instance which was executed on the test input.
    *
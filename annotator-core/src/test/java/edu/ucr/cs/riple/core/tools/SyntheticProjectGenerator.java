@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.core.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic Java projects to measure how Annotator scales with the size and shape of the
+ * target module. The generated code is deterministic for the given {@link Parameters} and compiles
+ * under the project templates used by core tests. Sources are written under the {@code test.gen}
+ * package of the given module.
+ *
+ * <p>Each generated class declares fields and methods taking and returning {@code Object}. Classes
+ * form inheritance chains where methods are overridden along the chain, methods are called from
+ * other classes according to the fan-in and {@code null} flows into fields, parameters and return
+ * values according to the null-flow density, which produces the errors and fixes Annotator works
+ * on.
+ */
+public class SyntheticProjectGenerator {
+
+  /** Parameters of the generated project. */
+  public static class Parameters {
+
+    /** Number of generated classes. */
+    public int classes = 100;
+
+    /** Length of inheritance chains, 1 means no class extends another generated class. */
+    public int inheritanceDepth = 3;
+
+    /** Number of fields declared in each class. */
+    public int fieldsPerClass = 3;
+
+    /** Number of methods declared in each class. */
+    public int methodsPerClass = 5;
+
+    /** Average number of call sites of each method in other classes. */
+    public int fanIn = 2;
+
+    /** Probability of {@code null} flowing into each field, parameter and return value. */
+    public double nullFlowDensity = 0.3;
+
+    /** Seed for all random decisions. */
+    public long seed = 1234L;
+
+    @Override
+    public String toString() {
+      return String.format(
+          "classes=%d, inheritanceDepth=%d, fieldsPerClass=%d, methodsPerClass=%d, fanIn=%d, nullFlowDensity=%.2f, seed=%d",
+          classes, inheritanceDepth, fieldsPerClass, methodsPerClass, fanIn, nullFlowDensity, seed);
+    }
+  }
+
+  /** Parameters of the generated project. */
+  private final Parameters parameters;
+
+  /** Random source, all decisions are made in a fixed order to keep the output deterministic. */
+  private final Random random;
+
+  public SyntheticProjectGenerator(Parameters parameters) {
+    this.parameters = parameters;
+    this.random = new Random(parameters.seed);
+  }
+
+  /**
+   * Writes the generated sources to the given module.
+   *
+   * @param module Module to write sources into.
+   * @return The given module.
+   */
+  public Module writeTo(Module module) {
+    List<List<String>> callSites = computeCallSites();
+    for (int i = 0; i < parameters.classes; i++) {
+      module.withSourceLines("gen/C" + i + ".java", generateClass(i, callSites.get(i)));
+    }
+    return module;
+  }
+
+  /**
+   * Distributes call sites of all methods among classes. Each method is called from {@link
+   * Parameters#fanIn} randomly selected classes.
+   *
+   * @return List of call statements for each class.
+   */
+  private List<List<String>> computeCallSites() {
+    List<List<String>> callSites = new ArrayList<>(parameters.classes);
+    for (int i = 0; i < parameters.classes; i++) {
+      callSites.add(new ArrayList<>());
+    }
+    for (int i = 0; i < parameters.classes; i++) {
+      for (int j = 0; j < parameters.methodsPerClass; j++) {
+        for (int k = 0; k < parameters.fanIn; k++) {
+          int caller = random.nextInt(parameters.classes);
+          callSites
+              .get(caller)
+              .add(
+                  String.format(
+                      "    new C%d().m%d(%s).hashCode();", i, j, nullOr("new Object()")));
+        }
+      }
+    }
+    return callSites;
+  }
+
+  /**
+   * Generates the source code of the class at the given index.
+   *
+   * @param index Index of the class.
+   * @param calls Call statements placed in the class.
+   * @return Lines of the source code.
+   */
+  private String[] generateClass(int index, List<String> calls) {
+    List<String> lines = new ArrayList<>();
+    lines.add("package test.gen;");
+    lines.add("");
+    boolean extendsPrevious = index % Math.max(1, parameters.inheritanceDepth) != 0;
+    lines.add(
+        "public class C" + index + (extendsPrevious ? " extends C" + (index - 1) : "") + " {");
+    for (int f = 0; f < parameters.fieldsPerClass; f++) {
+      lines.add("  Object c" + index + "f" + f + " = new Object();");
+    }
+    for (int f = 0; f < parameters.fieldsPerClass; f++) {
+      lines.add("  public void setC" + index + "f" + f + "() {");
+      lines.add("    c" + index + "f" + f + " = " + nullOr("new Object()") + ";");
+      lines.add("  }");
+    }
+    for (int m = 0; m < parameters.methodsPerClass; m++) {
+      lines.add("  public Object m" + m + "(Object p) {");
+      lines.add("    if (p.hashCode() == " + m + ") {");
+      lines.add("      return " + nullOr("p") + ";");
+      lines.add("    }");
+      String field =
+          parameters.fieldsPerClass > 0
+              ? "c" + index + "f" + random.nextInt(parameters.fieldsPerClass)
+              : "p";
+      lines.add("    return " + field + ";");
+      lines.add("  }");
+    }
+    lines.add("  public void calls() {");
+    lines.addAll(calls);
+    lines.add("  }");
+    lines.add("}");
+    return lines.toArray(new String[0]);
+  }
+
+  /**
+   * Returns {@code null} with the probability of {@link Parameters#nullFlowDensity}, and the given
+   * expression otherwise.
+   *
+   * @param expression Expression used if no null flows.
+   * @return The chosen expression.
+   */
+  private String nullOr(String expression) {
+    return random.nextDouble() < parameters.nullFlowDensity ? "null" : expression;
+  }
+}
@@ -144,6 +144,18 @@ public class Utility {
    * @param runnable Runnable which contains the test logic.
    */
   public static void runTestWithMockedBuild(Path testDir, Runnable runnable) {
+    runTestWithMockedBuild(testDir, () -> {}, runnable);
+  }
+
+  /**
+   * Helper method for running a test with mocked build process, which runs the given callback
+   * after each mocked build.
+   *
+   * @param testDir Path to the test directory.
+   * @param onBuild Callback invoked after each mocked build.
+   * @param runnable Runnable which contains the test logic.
+   */
+  public static void runTestWithMockedBuild(Path testDir, Runnable onBuild, Runnable runnable) {
     try (MockedStatic<edu.ucr.cs.riple.core.util.Utility> utilMock =
         Mockito.mockStatic(edu.ucr.cs.riple.core.util.Utility.class, Mockito.CALLS_REAL_METHODS)) {
       utilMock
@@ -162,6 +174,7 @@ public class Utility {
                                 testDir.resolve("0").resolve(fileName), "HEADER\n"));
                 createAFileWithContent(
                     testDir.resolve("0").resolve("serialization_version.txt"), "3");
+                onBuild.run();
                 return null;
               });
       runnable.run();
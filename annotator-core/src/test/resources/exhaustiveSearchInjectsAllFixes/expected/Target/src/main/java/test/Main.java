@@ -0,0 +1,5 @@
+package test;
+import javax.annotation.Nullable;
+public class Main {
+@Nullable Object field;
+}
\ No newline at end of file
@@ -90,12 +90,20 @@ public class AnnotatorScanner extends BugChecker
     if (!context.getConfig().isActive()) {
       return Description.NO_MATCH;
     }
-    context
-        .getConfig()
-        .getSerializer()
-        .serializeClassRecord(
-            new ClassRecord(
-                ASTHelpers.getSymbol(classTree), visitorState.getPath().getCompilationUnit()));
+    // Caches are reset and outputs are flushed per compilation, classes are visited before their
+    // members.
+    context.enterCompilation(visitorState.context);
+    long startTime = context.startTimer();
+    try {
+      context
+          .getConfig()
+          .getSerializer()
+          .serializeClassRecord(
+              new ClassRecord(
+                  ASTHelpers.getSymbol(classTree), visitorState.getPath().getCompilationUnit()));
+    } finally {
+      context.stopTimer(startTime);
+    }
     return Description.NO_MATCH;
   }
 
@@ -105,10 +113,15 @@ public class AnnotatorScanner extends BugChecker
     if (!config.isActive()) {
       return Description.NO_MATCH;
     }
-    config
-        .getSerializer()
-        .serializeImpactedRegionForMethod(
-            new ImpactedRegion(config, ASTHelpers.getSymbol(tree), state.getPath()));
+    long startTime = context.startTimer();
+    try {
+      config
+          .getSerializer()
+          .serializeImpactedRegionForMethod(
+              new ImpactedRegion(context, ASTHelpers.getSymbol(tree), state.getPath()));
+    } finally {
+      context.stopTimer(startTime);
+    }
     return Description.NO_MATCH;
   }
 
@@ -118,18 +131,24 @@ public class AnnotatorScanner extends BugChecker
     if (!config.isActive()) {
       return Description.NO_MATCH;
     }
-    Symbol.MethodSymbol methodSymbol = ASTHelpers.getSymbol(tree);
-    if (methodSymbol == null) {
-      throw new RuntimeException("not expecting unresolved method here");
-    }
-    if (methodSymbol.owner.enclClass().getSimpleName().isEmpty()) {
-      // An anonymous class cannot declare its own constructors, so we do not need to serialize it.
-      return Description.NO_MATCH;
+    long startTime = context.startTimer();
+    try {
+      Symbol.MethodSymbol methodSymbol = ASTHelpers.getSymbol(tree);
+      if (methodSymbol == null) {
+        throw new RuntimeException("not expecting unresolved method here");
+      }
+      if (methodSymbol.owner.enclClass().getSimpleName().isEmpty()) {
+        // An anonymous class cannot declare its own constructors, so we do not need to serialize
+        // it.
+        return Description.NO_MATCH;
+      }
+      config
+          .getSerializer()
+          .serializeImpactedRegionForMethod(
+              new ImpactedRegion(context, methodSymbol, state.getPath()));
+    } finally {
+      context.stopTimer(startTime);
     }
-    config
-        .getSerializer()
-        .serializeImpactedRegionForMethod(
-            new ImpactedRegion(config, ASTHelpers.getSymbol(tree), state.getPath()));
     return Description.NO_MATCH;
   }
 
@@ -139,18 +158,23 @@ public class AnnotatorScanner extends BugChecker
     if (!context.getConfig().isActive()) {
       return Description.NO_MATCH;
     }
-    Symbol.MethodSymbol methodSymbol = ASTHelpers.getSymbol(tree);
-    serializeSymIfNonnull(methodSymbol);
-    MethodRecord methodRecord = MethodRecord.findOrCreate(methodSymbol, context);
-    methodRecord.findParent(state, context);
-    methodRecord.collectMethodAnnotations();
-    methodRecord.setURI(state);
-    List<Boolean> paramAnnotations = new ArrayList<>();
-    for (int i = 0; i < methodSymbol.getParameters().size(); i++) {
-      paramAnnotations.add(SymbolUtil.paramHasNullableAnnotation(methodSymbol, i, config));
+    long startTime = context.startTimer();
+    try {
+      Symbol.MethodSymbol methodSymbol = ASTHelpers.getSymbol(tree);
+      serializeSymIfNonnull(methodSymbol);
+      MethodRecord methodRecord = MethodRecord.findOrCreate(methodSymbol, context);
+      methodRecord.findParent(state, context);
+      methodRecord.collectMethodAnnotations();
+      methodRecord.setURI(state);
+      List<Boolean> paramAnnotations = new ArrayList<>();
+      for (int i = 0; i < methodSymbol.getParameters().size(); i++) {
+        paramAnnotations.add(SymbolUtil.paramHasNullableAnnotation(methodSymbol, i, config));
+      }
+      methodRecord.setAnnotationParameterFlags(paramAnnotations);
+      config.getSerializer().serializeMethodRecord(methodRecord);
+    } finally {
+      context.stopTimer(startTime);
     }
-    methodRecord.setAnnotationParameterFlags(paramAnnotations);
-    config.getSerializer().serializeMethodRecord(methodRecord);
     return Description.NO_MATCH;
   }
 
@@ -159,8 +183,13 @@ public class AnnotatorScanner extends BugChecker
     if (!context.getConfig().isActive()) {
       return Description.NO_MATCH;
     }
-    serializeSymIfField(ASTHelpers.getSymbol(tree.getInitializer()), state);
-    serializeSymIfNonnull(ASTHelpers.getSymbol(tree));
+    long startTime = context.startTimer();
+    try {
+      serializeSymIfField(ASTHelpers.getSymbol(tree.getInitializer()), state);
+      serializeSymIfNonnull(ASTHelpers.getSymbol(tree));
+    } finally {
+      context.stopTimer(startTime);
+    }
     return Description.NO_MATCH;
   }
 
@@ -169,7 +198,12 @@ public class AnnotatorScanner extends BugChecker
     if (!context.getConfig().isActive()) {
       return Description.NO_MATCH;
     }
-    serializeSymIfField(ASTHelpers.getSymbol(tree), state);
+    long startTime = context.startTimer();
+    try {
+      serializeSymIfField(ASTHelpers.getSymbol(tree), state);
+    } finally {
+      context.stopTimer(startTime);
+    }
     return Description.NO_MATCH;
   }
 
@@ -178,7 +212,12 @@ public class AnnotatorScanner extends BugChecker
     if (!context.getConfig().isActive()) {
       return Description.NO_MATCH;
     }
-    serializeSymIfField(ASTHelpers.getSymbol(tree), state);
+    long startTime = context.startTimer();
+    try {
+      serializeSymIfField(ASTHelpers.getSymbol(tree), state);
+    } finally {
+      context.stopTimer(startTime);
+    }
     return Description.NO_MATCH;
   }
 
@@ -189,10 +228,15 @@ public class AnnotatorScanner extends BugChecker
     if (!config.isActive()) {
       return Description.NO_MATCH;
     }
-    // for e -> Foo.bar(e), assume that method "baz()" has been overridden. Then the containing
-    // method for this lambda is an impacted region for "baz()".  The call to "Foo.bar" is handled
-    // when scanning the body of the lambda.
-    serializeImpactedRegionForFunctionalInterface(config, lambdaExpressionTree, visitorState);
+    long startTime = context.startTimer();
+    try {
+      // for e -> Foo.bar(e), assume that method "baz()" has been overridden. Then the containing
+      // method for this lambda is an impacted region for "baz()".  The call to "Foo.bar" is
+      // handled when scanning the body of the lambda.
+      serializeImpactedRegionForFunctionalInterface(lambdaExpressionTree, visitorState);
+    } finally {
+      context.stopTimer(startTime);
+    }
     return Description.NO_MATCH;
   }
 
@@ -203,21 +247,25 @@ public class AnnotatorScanner extends BugChecker
     if (!config.isActive()) {
       return Description.NO_MATCH;
     }
-    // for Foo::bar, which is shorthand for e -> Foo.bar(e), assume that method "baz()" has been
-    // overridden. We need to serialize the impacted region (leaf of path in visitor state)
-    // for both "baz()" and also the called method "bar()".
-    // serialize the overridden method: "baz()"
-    serializeImpactedRegionForFunctionalInterface(config, memberReferenceTree, visitorState);
-    if (memberReferenceTree instanceof JCTree.JCMemberReference) {
-      Symbol calledMethod = ((JCTree.JCMemberReference) memberReferenceTree).sym;
-      if (calledMethod instanceof Symbol.MethodSymbol) {
-        // serialize the called method: "bar()"
-        context
-            .getConfig()
-            .getSerializer()
-            .serializeImpactedRegionForMethod(
-                new ImpactedRegion(config, calledMethod, visitorState.getPath()));
+    long startTime = context.startTimer();
+    try {
+      // for Foo::bar, which is shorthand for e -> Foo.bar(e), assume that method "baz()" has been
+      // overridden. We need to serialize the impacted region (leaf of path in visitor state)
+      // for both "baz()" and also the called method "bar()".
+      // serialize the overridden method: "baz()"
+      serializeImpactedRegionForFunctionalInterface(memberReferenceTree, visitorState);
+      if (memberReferenceTree instanceof JCTree.JCMemberReference) {
+        Symbol calledMethod = ((JCTree.JCMemberReference) memberReferenceTree).sym;
+        if (calledMethod instanceof Symbol.MethodSymbol) {
+          // serialize the called method: "bar()"
+          config
+              .getSerializer()
+              .serializeImpactedRegionForMethod(
+                  new ImpactedRegion(context, calledMethod, visitorState.getPath()));
+        }
       }
+    } finally {
+      context.stopTimer(startTime);
     }
     return Description.NO_MATCH;
   }
@@ -233,8 +281,7 @@ public class AnnotatorScanner extends BugChecker
       context
           .getConfig()
           .getSerializer()
-          .serializeFieldAccessRecord(
-              new ImpactedRegion(context.getConfig(), symbol, state.getPath()));
+          .serializeFieldAccessRecord(new ImpactedRegion(context, symbol, state.getPath()));
     }
   }
 
@@ -269,9 +316,10 @@ public class AnnotatorScanner extends BugChecker
    * @param tree Given tree.
    * @param state Visitor State.
    */
-  private static void serializeImpactedRegionForFunctionalInterface(
-      Config config, ExpressionTree tree, VisitorState state) {
-    Symbol.MethodSymbol methodSym = SymbolUtil.getFunctionalInterfaceMethod(tree, state.getTypes());
+  private void serializeImpactedRegionForFunctionalInterface(
+      ExpressionTree tree, VisitorState state) {
+    Symbol.MethodSymbol methodSym =
+        context.getSymbolCache().getFunctionalInterfaceMethod(tree, state.getTypes());
     if (methodSym == null) {
       System.err.println(
           "Expected a nonnull method symbol for functional interface:"
@@ -281,8 +329,9 @@ public class AnnotatorScanner extends BugChecker
               + ", but received null.");
       return;
     }
-    config
+    context
+        .getConfig()
         .getSerializer()
-        .serializeImpactedRegionForMethod(new ImpactedRegion(config, methodSym, state.getPath()));
+        .serializeImpactedRegionForMethod(new ImpactedRegion(context, methodSym, state.getPath()));
   }
 }
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compact binary format for scanner outputs. Every value in a row (e.g. class names, method
+ * signatures and paths) is stored once in a table of symbols, and rows are stored as fixed-width
+ * records of symbol indices. Symbols and records are interleaved in the order they are appended,
+ * where a symbol is always defined before the first record referring to it:
+ *
+ * <pre>
+ *   file   := MAGIC entry*
+ *   entry  := SYMBOL length:int utf8:byte[length]
+ *           | RECORD count:int index:int[count]
+ * </pre>
+ *
+ * The first record is the header of the table. A binary table is stored next to the
+ * corresponding TSV file with the {@link #EXTENSION} extension, see {@link #pathOf(Path)}. This
+ * class also provides a converter to and from TSV format for debugging.
+ */
+public class BinaryTable {
+
+  /** Magic number at the beginning of every binary table. */
+  public static final int MAGIC = 0x41534201;
+
+  /** Tag of an entry defining a symbol. */
+  public static final byte SYMBOL = 1;
+
+  /** Tag of an entry defining a record. */
+  public static final byte RECORD = 2;
+
+  /** File extension of binary tables. */
+  public static final String EXTENSION = ".bin";
+
+  /** File extension of TSV tables. */
+  private static final String TSV_EXTENSION = ".tsv";
+
+  private BinaryTable() {}
+
+  /**
+   * Returns the path to the binary table corresponding to the given TSV file.
+   *
+   * @param tsv Path to a TSV file.
+   * @return Path to the binary table stored next to the TSV file.
+   */
+  public static Path pathOf(Path tsv) {
+    String name = tsv.getFileName().toString();
+    if (name.endsWith(TSV_EXTENSION)) {
+      name = name.substring(0, name.length() - TSV_EXTENSION.length());
+    }
+    return tsv.resolveSibling(name + EXTENSION);
+  }
+
+  /**
+   * Converts the given binary table to TSV format.
+   *
+   * @param binary Path to the binary table.
+   * @param tsv Path to the output TSV file.
+   */
+  public static void toTsv(Path binary, Path tsv) {
+    try (BufferedWriter writer = Files.newBufferedWriter(tsv, Charset.defaultCharset());
+        BinaryTableReader reader = new BinaryTableReader(binary)) {
+      while (reader.next()) {
+        writer.write(String.join("\t", reader.fields()));
+        writer.write('\n');
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened in converting binary table at: " + binary, e);
+    }
+  }
+
+  /**
+   * Converts the given TSV file to a binary table. The first row of the TSV file is stored as the
+   * header.
+   *
+   * @param tsv Path to the TSV file.
+   * @param binary Path to the output binary table.
+   */
+  public static void toBinary(Path tsv, Path binary) {
+    BinaryTableWriter writer = new BinaryTableWriter(binary);
+    try (BufferedReader reader = Files.newBufferedReader(tsv, Charset.defaultCharset())) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        writer.append(line);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened in converting TSV file at: " + tsv, e);
+    }
+    writer.close();
+  }
+
+  /**
+   * Converts a table between binary and TSV formats for debugging. The direction is selected by
+   * the extension of the input file.
+   *
+   * @param args Path to the input file followed by path to the output file.
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      System.err.println("Usage: BinaryTable <input (.bin|.tsv)> <output>");
+      System.exit(1);
+    }
+    Path input = Path.of(args[0]);
+    Path output = Path.of(args[1]);
+    if (input.getFileName().toString().endsWith(EXTENSION)) {
+      toTsv(input, output);
+    } else {
+      toBinary(input, output);
+    }
+  }
+}
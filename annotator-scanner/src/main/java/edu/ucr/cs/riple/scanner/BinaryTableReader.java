@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads rows of a table in {@link BinaryTable} format. The file is read chunk by chunk into a
+ * bounded window, an entry spanning two chunks is carried over to the beginning of the window,
+ * hence memory use is bounded by the chunk size and the longest entry rather than the size of the
+ * file. Each symbol is decoded once, therefore all rows share the same string instances for
+ * repeated values. The array returned by {@link #fields()} is reused among rows of the same width
+ * and is only valid until the next call to {@link #next()}.
+ */
+public class BinaryTableReader implements Closeable {
+
+  /** Default number of bytes read from the file at once. */
+  private static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+  /** Path to the binary table. */
+  private final Path path;
+
+  /** Channel of the binary table. */
+  private final FileChannel channel;
+
+  /** Window of bytes read from the file and not consumed yet, grows only for larger entries. */
+  private ByteBuffer buffer;
+
+  /** Whether the end of the file is reached. */
+  private boolean endOfInput;
+
+  /** Decoded symbols, indexed by their index in the table. */
+  private final List<String> symbols;
+
+  /** Reusable arrays of fields, indexed by the number of fields in a row. */
+  private String[][] rowsByWidth;
+
+  /** Fields of the current row. */
+  private String[] fields;
+
+  /**
+   * Creates a reader for the binary table at the given path.
+   *
+   * @param path Path to the binary table.
+   * @throws IOException if the file cannot be read or is not a binary table.
+   */
+  public BinaryTableReader(Path path) throws IOException {
+    this(path, DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates a reader for the binary table at the given path which reads the given number of bytes
+   * at once.
+   *
+   * @param path Path to the binary table.
+   * @param chunkSize Number of bytes read from the file at once.
+   * @throws IOException if the file cannot be read or is not a binary table.
+   */
+  public BinaryTableReader(Path path, int chunkSize) throws IOException {
+    this.path = path;
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.buffer = ByteBuffer.allocate(Math.max(chunkSize, Integer.BYTES));
+    // Start with an empty window in read mode.
+    this.buffer.flip();
+    try {
+      if (!require(Integer.BYTES) || buffer.getInt() != BinaryTable.MAGIC) {
+        throw new IOException("Not a binary table: " + path);
+      }
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    this.symbols = new ArrayList<>();
+    this.rowsByWidth = new String[16][];
+  }
+
+  /**
+   * Advances to the next row, defining all symbols appearing before it. A truncated entry at the
+   * end of the table, left by a writer terminated while flushing, is treated as the end of the
+   * table.
+   *
+   * @return true, if a row is read, false if the end of the table is reached.
+   */
+  public boolean next() {
+    try {
+      if (readEntries()) {
+        return true;
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not read binary table at: " + path, e);
+    }
+    fields = null;
+    return false;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Reads entries until the next record.
+   *
+   * @return true, if a record is read, false if the end of the table is reached.
+   * @throws IOException if the file cannot be read.
+   */
+  private boolean readEntries() throws IOException {
+    while (require(1)) {
+      byte tag = buffer.get();
+      switch (tag) {
+        case BinaryTable.SYMBOL:
+          if (!require(Integer.BYTES)) {
+            return false;
+          }
+          int length = buffer.getInt();
+          if (!require(length)) {
+            return false;
+          }
+          byte[] content = new byte[length];
+          buffer.get(content);
+          symbols.add(new String(content, StandardCharsets.UTF_8));
+          break;
+        case BinaryTable.RECORD:
+          if (!require(Integer.BYTES)) {
+            return false;
+          }
+          int width = buffer.getInt();
+          if (!require(width * Integer.BYTES)) {
+            return false;
+          }
+          fields = rowOfWidth(width);
+          for (int i = 0; i < width; i++) {
+            fields[i] = symbols.get(buffer.getInt());
+          }
+          return true;
+        default:
+          throw new IllegalStateException(
+              "Unexpected entry tag " + tag + " in binary table at: " + path);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Makes sure the given number of bytes can be consumed from {@link #buffer}, reading more
+   * chunks from the file if needed. Unconsumed bytes are moved to the beginning of the window and
+   * the window grows if the requested bytes do not fit in it.
+   *
+   * @param count Number of bytes required.
+   * @return true, if the bytes are available, false if the file ends before them.
+   * @throws IOException if the file cannot be read.
+   */
+  private boolean require(int count) throws IOException {
+    while (buffer.remaining() < count) {
+      if (endOfInput) {
+        return false;
+      }
+      if (buffer.capacity() < count) {
+        buffer = ByteBuffer.allocate(Math.max(count, buffer.capacity() * 2)).put(buffer);
+      } else {
+        buffer.compact();
+      }
+      if (channel.read(buffer) < 0) {
+        endOfInput = true;
+      }
+      buffer.flip();
+    }
+    return true;
+  }
+
+  /**
+   * Returns fields of the current row. The returned array is reused for subsequent rows.
+   *
+   * @return Fields of the current row.
+   */
+  public String[] fields() {
+    if (fields == null) {
+      throw new IllegalStateException("No row is read");
+    }
+    return fields;
+  }
+
+  /**
+   * Returns the reusable array of fields for rows with the given width.
+   *
+   * @param width Number of fields.
+   * @return Array of fields with the given length.
+   */
+  private String[] rowOfWidth(int width) {
+    if (width >= rowsByWidth.length) {
+      rowsByWidth = Arrays.copyOf(rowsByWidth, width * 2);
+    }
+    if (rowsByWidth[width] == null) {
+      rowsByWidth[width] = new String[width];
+    }
+    return rowsByWidth[width];
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Appends rows to a table in {@link BinaryTable} format. Symbols are assigned indices in the order
+ * they are first seen, therefore a table must be written by a single writer from its creation.
+ * Rows are buffered in a stream which is opened on the first append and kept open until {@link
+ * #close()} is called, appending after that reopens the stream.
+ */
+public class BinaryTableWriter {
+
+  /** Path to the binary table. */
+  private final Path path;
+
+  /** Indices of defined symbols. */
+  private final Map<String, Integer> symbols;
+
+  /** Buffered stream to the table, {@code null} if not opened. */
+  @Nullable private DataOutputStream stream;
+
+  /**
+   * Creates the binary table at the given path. The file is cleared if exists.
+   *
+   * @param path Path to the binary table.
+   */
+  public BinaryTableWriter(Path path) {
+    this.path = path;
+    this.symbols = new HashMap<>();
+    try {
+      Files.deleteIfExists(path);
+      try (DataOutputStream os = new DataOutputStream(new FileOutputStream(path.toFile()))) {
+        os.writeInt(BinaryTable.MAGIC);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not create binary table at: " + path, e);
+    }
+  }
+
+  /**
+   * Appends the given tab separated row to the table. Symbols not seen before are defined right
+   * before the record.
+   *
+   * @param row Row to append.
+   */
+  public void append(String row) {
+    String[] values = row.split("\t");
+    try {
+      if (stream == null) {
+        stream =
+            new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(path.toFile(), true)));
+      }
+      DataOutputStream data = stream;
+      int[] indices = new int[values.length];
+      for (int i = 0; i < values.length; i++) {
+        Integer index = symbols.get(values[i]);
+        if (index == null) {
+          index = symbols.size();
+          symbols.put(values[i], index);
+          byte[] content = values[i].getBytes(StandardCharsets.UTF_8);
+          data.writeByte(BinaryTable.SYMBOL);
+          data.writeInt(content.length);
+          data.write(content);
+        }
+        indices[i] = index;
+      }
+      data.writeByte(BinaryTable.RECORD);
+      data.writeInt(indices.length);
+      for (int index : indices) {
+        data.writeInt(index);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened for writing at file: " + path, e);
+    }
+  }
+
+  /** Writes buffered rows to the table. */
+  public void flush() {
+    if (stream == null) {
+      return;
+    }
+    try {
+      stream.flush();
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened for writing at file: " + path, e);
+    }
+  }
+
+  /** Writes buffered rows to the table and closes the stream. */
+  public void close() {
+    if (stream == null) {
+      return;
+    }
+    try {
+      stream.close();
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened for writing at file: " + path, e);
+    } finally {
+      stream = null;
+    }
+  }
+}
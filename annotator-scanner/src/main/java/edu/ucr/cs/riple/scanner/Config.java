@@ -38,6 +38,20 @@ public interface Config {
    */
   boolean isActive();
 
+  /**
+   * If true, outputs are serialized in {@link BinaryTable} format instead of TSV.
+   *
+   * @return true, if outputs are serialized in binary format.
+   */
+  boolean isBinaryOutput();
+
+  /**
+   * If true, outputs are serialized in a shard of their own, see {@link ScannerShards}.
+   *
+   * @return true, if outputs are sharded.
+   */
+  boolean isShardedOutput();
+
   /**
    * Checks if the passed name is a {@code @Nonnull} annotation.
    *
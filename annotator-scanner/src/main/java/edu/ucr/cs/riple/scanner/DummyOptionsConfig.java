@@ -42,6 +42,16 @@ public class DummyOptionsConfig implements Config {
     throw new IllegalStateException(ERROR_MESSAGE);
   }
 
+  @Override
+  public boolean isBinaryOutput() {
+    throw new IllegalStateException(ERROR_MESSAGE);
+  }
+
+  @Override
+  public boolean isShardedOutput() {
+    throw new IllegalStateException(ERROR_MESSAGE);
+  }
+
   @Override
   public boolean isNonnullAnnotation(String annotName) {
     throw new IllegalStateException(ERROR_MESSAGE);
@@ -52,6 +52,12 @@ public class ErrorProneCLIFlagsConfig implements Config {
   /** Controls serialization services activation. */
   private final boolean serializationIsActive;
 
+  /** Controls serialization of outputs in binary format. */
+  private final boolean binaryOutput;
+
+  /** Controls serialization of outputs in a shard of their own. */
+  private final boolean shardedOutput;
+
   /** Serializing instance for writing outputs at the desired paths. */
   private final Serializer serializer;
 
@@ -89,6 +95,12 @@ public class ErrorProneCLIFlagsConfig implements Config {
     this.serializationIsActive =
         XMLUtil.getValueFromAttribute(document, "/scanner/serialization", "active", Boolean.class)
             .orElse(false);
+    this.binaryOutput =
+        XMLUtil.getValueFromAttribute(document, "/scanner/serialization", "binary", Boolean.class)
+            .orElse(false);
+    this.shardedOutput =
+        XMLUtil.getValueFromAttribute(document, "/scanner/serialization", "sharded", Boolean.class)
+            .orElse(false);
     this.symbolSourceResolver = new SymbolSourceResolver(extractRequestedSourceTypes(document));
     this.nonnullAnnotations =
         XMLUtil.getArrayValueFromTag(document, "/scanner/annotations/nonnull", String.class)
@@ -117,6 +129,16 @@ public class ErrorProneCLIFlagsConfig implements Config {
     return serializationIsActive;
   }
 
+  @Override
+  public boolean isBinaryOutput() {
+    return binaryOutput;
+  }
+
+  @Override
+  public boolean isShardedOutput() {
+    return shardedOutput;
+  }
+
   @Override
   public boolean isNonnullAnnotation(String annotName) {
     return nonnullAnnotations.contains(annotName);
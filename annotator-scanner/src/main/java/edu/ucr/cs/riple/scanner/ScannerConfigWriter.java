@@ -53,6 +53,12 @@ public class ScannerConfigWriter {
   /** Controls serialization services activation. */
   private boolean serializationActivation;
 
+  /** Controls serialization of outputs in binary format. */
+  private boolean binaryOutput;
+
+  /** Controls serialization of outputs in a shard of their own. */
+  private boolean shardedOutput;
+
   /** Set of activated generated code detectors. */
   private final Set<SourceType> activatedGeneratedCodeDetectors;
 
@@ -61,6 +67,8 @@ public class ScannerConfigWriter {
 
   public ScannerConfigWriter() {
     this.serializationActivation = false;
+    this.binaryOutput = false;
+    this.shardedOutput = false;
     this.activatedGeneratedCodeDetectors = new HashSet<>();
     this.nonnullAnnotations = ImmutableSet.of();
   }
@@ -75,6 +83,16 @@ public class ScannerConfigWriter {
     return this;
   }
 
+  public ScannerConfigWriter setBinaryOutput(boolean binaryOutput) {
+    this.binaryOutput = binaryOutput;
+    return this;
+  }
+
+  public ScannerConfigWriter setShardedOutput(boolean shardedOutput) {
+    this.shardedOutput = shardedOutput;
+    return this;
+  }
+
   public ScannerConfigWriter addGeneratedCodeDetectors(ImmutableSet<SourceType> sourceType) {
     this.activatedGeneratedCodeDetectors.addAll(sourceType);
     return this;
@@ -109,6 +127,8 @@ public class ScannerConfigWriter {
       // Serialization Activation
       Element methodElement = doc.createElement("serialization");
       methodElement.setAttribute("active", String.valueOf(serializationActivation));
+      methodElement.setAttribute("binary", String.valueOf(binaryOutput));
+      methodElement.setAttribute("sharded", String.valueOf(shardedOutput));
       rootElement.appendChild(methodElement);
 
       // UUID
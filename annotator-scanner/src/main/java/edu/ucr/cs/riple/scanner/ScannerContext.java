@@ -26,8 +26,15 @@ package edu.ucr.cs.riple.scanner;
 
 import com.google.common.collect.Multimap;
 import com.google.common.collect.MultimapBuilder;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
+import com.sun.tools.javac.api.BasicJavacTask;
+import com.sun.tools.javac.util.Context;
 import edu.ucr.cs.riple.scanner.out.MethodRecord;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
 
 /**
  * Container class to store the state of the checker.
@@ -53,10 +60,94 @@ public class ScannerContext {
   /** Type Annotator Scanner config. */
   private final Config config;
 
+  /** Cache of symbol lookups and serializations for the running compilation. */
+  private final SymbolCache symbolCache;
+
+  /** Task of the running compilation, {@code null} if no compilation is visited yet. */
+  @Nullable private JavacTask compilationTask;
+
+  /** Time in nanoseconds when the scanner visited the running compilation for the first time. */
+  private long compilationStartTime;
+
+  /** Time in nanoseconds spent in the scanner during the running compilation. */
+  private long scannerTime;
+
   public ScannerContext(Config config) {
     this.methodId = 0;
     this.visitedMethods = MultimapBuilder.hashKeys().arrayListValues().build();
     this.config = config;
+    this.symbolCache = new SymbolCache();
+  }
+
+  /**
+   * Prepares the context for the compilation of the given javac context. On the first visit of a
+   * compilation, caches of the previous compilation are cleared and the serializer and the timer
+   * are set up to be finalized once the compilation is finished. Error Prone passes a different
+   * {@link com.google.errorprone.SubContext} for each compilation unit, therefore compilations are
+   * identified by their {@link JavacTask}.
+   *
+   * @param context Javac context of the running compilation.
+   */
+  public void enterCompilation(Context context) {
+    JavacTask task = BasicJavacTask.instance(context);
+    if (task == compilationTask) {
+      return;
+    }
+    compilationTask = task;
+    symbolCache.clear();
+    compilationStartTime = System.nanoTime();
+    scannerTime = 0;
+    config.getSerializer().registerCompilationListener(task);
+    task.addTaskListener(
+        new TaskListener() {
+          @Override
+          public void finished(TaskEvent event) {
+            if (event.getKind() == TaskEvent.Kind.COMPILATION) {
+              reportScannerTime();
+            }
+          }
+        });
+  }
+
+  /**
+   * Starts measuring time spent in the scanner. Must be paired with {@link #stopTimer(long)}.
+   *
+   * @return Start time in nanoseconds.
+   */
+  public long startTimer() {
+    return System.nanoTime();
+  }
+
+  /**
+   * Adds the time elapsed since the given start time to the time spent in the scanner.
+   *
+   * @param startTime Start time returned by {@link #startTimer()}.
+   */
+  public void stopTimer(long startTime) {
+    scannerTime += System.nanoTime() - startTime;
+  }
+
+  /**
+   * Serializes the time spent in the scanner and the time of the compilation, see {@link
+   * Serializer#serializeScannerTime(long, long)}. The compilation is measured from the first visit
+   * of the scanner, which excludes parsing and attribution of the first compilation unit. Hence,
+   * the share of the scanner is an upper bound of the actual overhead.
+   */
+  private void reportScannerTime() {
+    config
+        .getSerializer()
+        .serializeScannerTime(
+            TimeUnit.NANOSECONDS.toMillis(scannerTime),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - compilationStartTime));
+  }
+
+  /**
+   * Getter for symbol cache of the running compilation.
+   *
+   * @return Symbol cache instance.
+   */
+  public SymbolCache getSymbolCache() {
+    return symbolCache;
   }
 
   /**
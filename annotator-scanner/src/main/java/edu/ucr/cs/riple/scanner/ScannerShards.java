@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Sharded scanner outputs. When compilations of a module run in parallel (e.g. multiple source sets
+ * compiled by a single build daemon), each scanner instance writes its outputs to a shard directory
+ * of its own under {@link #DIRECTORY}, and registers the shard in a manifest. Readers of an output
+ * merge the files of all registered shards.
+ *
+ * <pre>
+ *   output directory/
+ *     shards/
+ *       manifest.txt     one shard id per line
+ *       [shard id]/      outputs of a single scanner instance
+ * </pre>
+ */
+public class ScannerShards {
+
+  /** Name of the directory containing shards, relative to the output directory. */
+  public static final String DIRECTORY = "shards";
+
+  /** Name of the manifest file listing registered shards. */
+  public static final String MANIFEST = "manifest.txt";
+
+  /** Names of outputs written by the scanner, other files in the directory are not sharded. */
+  private static final ImmutableSet<String> OUTPUTS =
+      ImmutableSet.of(
+          Serializer.FIELD_IMPACTED_REGION_FILE_NAME,
+          Serializer.METHOD_IMPACTED_REGION_FILE_NAME,
+          Serializer.METHOD_RECORD_FILE_NAME,
+          Serializer.CLASS_RECORD_FILE_NAME,
+          Serializer.NON_NULL_ELEMENTS_FILE_NAME,
+          Serializer.SCANNER_TIME_FILE_NAME);
+
+  private ScannerShards() {}
+
+  /**
+   * Creates a new shard in the given output directory and registers it in the manifest. The
+   * manifest is updated under a file lock, therefore shards can be created concurrently by
+   * multiple threads and processes.
+   *
+   * @param outputDirectory Output directory of the scanner.
+   * @return Path to the directory of the created shard.
+   */
+  public static Path createShard(Path outputDirectory) {
+    Path shards = outputDirectory.resolve(DIRECTORY);
+    String id = UUID.randomUUID().toString();
+    Path shard = shards.resolve(id);
+    try {
+      Files.createDirectories(shard);
+      register(shards.resolve(MANIFEST), id);
+    } catch (IOException e) {
+      throw new RuntimeException("Could not create shard at: " + shard, e);
+    }
+    return shard;
+  }
+
+  /**
+   * Appends the given shard id to the manifest.
+   *
+   * @param manifest Path to the manifest.
+   * @param id Shard id.
+   * @throws IOException if the manifest cannot be written.
+   */
+  private static void register(Path manifest, String id) throws IOException {
+    ByteBuffer line = ByteBuffer.wrap((id + "\n").getBytes(StandardCharsets.UTF_8));
+    try (FileChannel channel =
+        FileChannel.open(
+            manifest,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND)) {
+      // File locks are held on behalf of the whole JVM, other threads of this JVM holding the
+      // lock are waited for by retrying.
+      while (true) {
+        try (FileLock ignored = channel.lock()) {
+          while (line.hasRemaining()) {
+            channel.write(line);
+          }
+          return;
+        } catch (OverlappingFileLockException e) {
+          Thread.onSpinWait();
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns paths to the files of the given output in all registered shards. If the given path is
+   * not a scanner output or no manifest exists in the directory of the output, outputs are not
+   * sharded and the given path is returned.
+   *
+   * @param output Path to the output in the output directory (e.g. {@code
+   *     [dir]/method_records.tsv}).
+   * @return Immutable list of paths to files of the output.
+   */
+  public static ImmutableList<Path> resolve(Path output) {
+    Path shards = output.resolveSibling(DIRECTORY);
+    Path manifest = shards.resolve(MANIFEST);
+    if (!OUTPUTS.contains(output.getFileName().toString()) || !Files.exists(manifest)) {
+      return ImmutableList.of(output);
+    }
+    try (Stream<String> lines = Files.lines(manifest, StandardCharsets.UTF_8)) {
+      return lines
+          .map(String::strip)
+          .filter(id -> !id.isEmpty())
+          .distinct()
+          .map(id -> shards.resolve(id).resolve(output.getFileName()))
+          .collect(ImmutableList.toImmutableList());
+    } catch (IOException e) {
+      throw new RuntimeException("Could not read shard manifest at: " + manifest, e);
+    }
+  }
+
+  /**
+   * Removes all shards in the given output directory.
+   *
+   * @param outputDirectory Output directory of the scanner.
+   */
+  public static void clear(Path outputDirectory) {
+    Path shards = outputDirectory.resolve(DIRECTORY);
+    if (!Files.exists(shards)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(shards)) {
+      // Delete children before their parents.
+      for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+        Files.delete(path);
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Could not clear shards at: " + shards, e);
+    }
+  }
+}
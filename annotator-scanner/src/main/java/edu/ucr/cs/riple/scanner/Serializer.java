@@ -26,6 +26,10 @@ package edu.ucr.cs.riple.scanner;
 
 import static java.util.stream.Collectors.joining;
 
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.TaskEvent;
+import com.sun.source.util.TaskListener;
 import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.code.Type;
 import com.sun.tools.javac.util.Name;
@@ -36,11 +40,17 @@ import edu.ucr.cs.riple.scanner.out.MethodRecord;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import javax.annotation.Nullable;
 
 /**
@@ -64,6 +74,9 @@ public class Serializer {
   /** Path to write location of elements with explicit {@code @Nonnull} annotation. */
   private final Path nonnullElementsPath;
 
+  /** Path to write time spent in the scanner for each compilation. */
+  private final Path scannerTimePath;
+
   /** File name where all field usage data has been stored. */
   public static final String FIELD_IMPACTED_REGION_FILE_NAME = "field_impacted_region_map.tsv";
 
@@ -79,14 +92,66 @@ public class Serializer {
   /** File name where location of elements explicitly annotated as {@code @Nonnull}. */
   public static final String NON_NULL_ELEMENTS_FILE_NAME = "nonnull_elements.tsv";
 
+  /** File name where time spent in the scanner for each compilation is stored. */
+  public static final String SCANNER_TIME_FILE_NAME = "scanner_time.tsv";
+
+  /**
+   * Writers of binary tables, mapped by the path of the corresponding TSV file. Empty if outputs
+   * are serialized in TSV format.
+   */
+  private final Map<Path, BinaryTableWriter> binaryWriters;
+
+  /**
+   * Rows of impacted regions for changes on methods serialized for {@link #compilationUnit}. A
+   * member used multiple times in a region is serialized once.
+   */
+  private final Set<String> serializedMethodImpactedRegions;
+
+  /**
+   * Rows of impacted regions for changes on fields serialized for {@link #compilationUnit}. A field
+   * accessed multiple times in a region is serialized once.
+   */
+  private final Set<String> serializedFieldImpactedRegions;
+
+  /** Compilation unit of the most recently serialized impacted region. */
+  @Nullable private CompilationUnitTree compilationUnit;
+
+  /** Buffered writers of outputs in TSV format, opened on the first append to each output. */
+  private final Map<Path, Writer> writers;
+
+  /**
+   * Task of the compilation at the end of which outputs are flushed, {@code null} if no listener is
+   * registered yet.
+   */
+  @Nullable private JavacTask compilationTask;
+
+  /**
+   * Shutdown hook closing the writers, as a fallback if the JVM exits before the end of compilation
+   * is reported.
+   */
+  private final Thread shutdownHook;
+
+  /** Whether {@link #shutdownHook} is registered. */
+  private boolean shutdownHookRegistered;
+
   public Serializer(Config config) {
-    Path outputDirectory = config.getOutputDirectory();
+    // Parallel compilations write to shards of their own to avoid interleaved rows.
+    Path outputDirectory =
+        config.isActive() && config.isShardedOutput()
+            ? ScannerShards.createShard(config.getOutputDirectory())
+            : config.getOutputDirectory();
     this.fieldImpactedRegionPath = outputDirectory.resolve(FIELD_IMPACTED_REGION_FILE_NAME);
     this.methodImpactedRegionPath = outputDirectory.resolve(METHOD_IMPACTED_REGION_FILE_NAME);
     this.methodRecordPath = outputDirectory.resolve(METHOD_RECORD_FILE_NAME);
     this.classRecordsPath = outputDirectory.resolve(CLASS_RECORD_FILE_NAME);
     this.nonnullElementsPath = outputDirectory.resolve(NON_NULL_ELEMENTS_FILE_NAME);
-    initializeOutputFiles(config);
+    this.scannerTimePath = outputDirectory.resolve(SCANNER_TIME_FILE_NAME);
+    this.binaryWriters = new HashMap<>();
+    this.writers = new HashMap<>();
+    this.serializedMethodImpactedRegions = new HashSet<>();
+    this.serializedFieldImpactedRegions = new HashSet<>();
+    this.shutdownHook = new Thread(this::close);
+    initializeOutputFiles(config, outputDirectory);
   }
 
   /**
@@ -96,7 +161,11 @@ public class Serializer {
    * @param impactedRegion ImpactedRegion instance which will be serialized to output.
    */
   public void serializeImpactedRegionForMethod(ImpactedRegion impactedRegion) {
-    appendToFile(impactedRegion.toString(), this.methodImpactedRegionPath);
+    enterCompilationUnit(impactedRegion.getCompilationUnit());
+    String row = impactedRegion.toString();
+    if (serializedMethodImpactedRegions.add(row)) {
+      appendToFile(row, this.methodImpactedRegionPath);
+    }
   }
 
   /**
@@ -106,7 +175,26 @@ public class Serializer {
    * @param fieldAccessRegion Region where the field access occurred.
    */
   public void serializeFieldAccessRecord(ImpactedRegion fieldAccessRegion) {
-    appendToFile(fieldAccessRegion.toString(), this.fieldImpactedRegionPath);
+    enterCompilationUnit(fieldAccessRegion.getCompilationUnit());
+    String row = fieldAccessRegion.toString();
+    if (serializedFieldImpactedRegions.add(row)) {
+      appendToFile(row, this.fieldImpactedRegionPath);
+    }
+  }
+
+  /**
+   * Clears serialized rows of impacted regions if the given compilation unit is not the one the
+   * rows belong to. Regions are enclosed by a single compilation unit, therefore duplicates are
+   * only checked within a compilation unit and the sets do not grow with the size of the module.
+   *
+   * @param tree Compilation unit of the impacted region being serialized.
+   */
+  private void enterCompilationUnit(CompilationUnitTree tree) {
+    if (tree != compilationUnit) {
+      compilationUnit = tree;
+      serializedMethodImpactedRegions.clear();
+      serializedFieldImpactedRegions.clear();
+    }
   }
 
   /**
@@ -139,6 +227,85 @@ public class Serializer {
         this.nonnullElementsPath);
   }
 
+  /**
+   * Serializes the time spent in the scanner during a compilation. Rows are written in a single
+   * append at the end of the compilation, hence they are not buffered with the other outputs.
+   *
+   * @param scannerTime Time spent in the scanner in milliseconds.
+   * @param compilationTime Time of the compilation in milliseconds.
+   */
+  public void serializeScannerTime(long scannerTime, long compilationTime) {
+    String row = scannerTime + "\t" + compilationTime + "\n";
+    try {
+      Files.write(
+          scannerTimePath,
+          row.getBytes(Charset.defaultCharset()),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened for writing at file: " + scannerTimePath, e);
+    }
+  }
+
+  /**
+   * Registers a listener on the given compilation to flush and close all outputs once the
+   * compilation is finished. Until then, rows are buffered in writers which are kept open.
+   *
+   * @param task Task of the running compilation.
+   */
+  public synchronized void registerCompilationListener(JavacTask task) {
+    if (task == compilationTask) {
+      return;
+    }
+    compilationTask = task;
+    task.addTaskListener(
+        new TaskListener() {
+          @Override
+          public void finished(TaskEvent event) {
+            if (event.getKind() == TaskEvent.Kind.COMPILATION) {
+              close();
+              setShutdownHookRegistered(false);
+            }
+          }
+        });
+    setShutdownHookRegistered(true);
+  }
+
+  /** Flushes and closes all outputs. Appending after that reopens the outputs. */
+  public synchronized void close() {
+    writers.forEach(
+        (path, writer) -> {
+          try {
+            writer.close();
+          } catch (IOException e) {
+            throw new RuntimeException("Error happened for writing at file: " + path, e);
+          }
+        });
+    writers.clear();
+    binaryWriters.values().forEach(BinaryTableWriter::close);
+  }
+
+  /**
+   * Registers or removes {@link #shutdownHook}.
+   *
+   * @param registered Whether the hook should be registered.
+   */
+  private synchronized void setShutdownHookRegistered(boolean registered) {
+    if (registered == shutdownHookRegistered) {
+      return;
+    }
+    try {
+      if (registered) {
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+      } else {
+        Runtime.getRuntime().removeShutdownHook(shutdownHook);
+      }
+      shutdownHookRegistered = registered;
+    } catch (IllegalStateException ignored) {
+      // JVM is already shutting down, the hook is either running or not needed.
+    }
+  }
+
   /** Cleared the content of the file if exists and writes the header in the first line. */
   private void initializeFile(Path path, String header) {
     try {
@@ -155,16 +322,60 @@ public class Serializer {
     }
   }
 
-  /** Initializes every file which will be re-generated in the new run of NullAway. */
-  private void initializeOutputFiles(Config config) {
+  /**
+   * Initializes the output at the given path in the requested format, outputs of the other format
+   * are removed.
+   *
+   * @param config Scanner configuration.
+   * @param path Path to the output in TSV format.
+   * @param header Header of the output.
+   */
+  private void initializeOutput(Config config, Path path, String header) {
+    if (config.isBinaryOutput()) {
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        throw new RuntimeException("Could not clear file at: " + path, e);
+      }
+      BinaryTableWriter writer = new BinaryTableWriter(BinaryTable.pathOf(path));
+      writer.append(header);
+      binaryWriters.put(path, writer);
+    } else {
+      try {
+        Files.deleteIfExists(BinaryTable.pathOf(path));
+      } catch (IOException e) {
+        throw new RuntimeException("Could not clear file at: " + BinaryTable.pathOf(path), e);
+      }
+      initializeFile(path, header);
+    }
+  }
+
+  /**
+   * Initializes every file which will be re-generated in the new run of NullAway.
+   *
+   * @param config Scanner configuration.
+   * @param outputDirectory Directory of the outputs, which is a shard directory if outputs are
+   *     sharded.
+   */
+  private void initializeOutputFiles(Config config, Path outputDirectory) {
     try {
-      Files.createDirectories(config.getOutputDirectory());
+      Files.createDirectories(outputDirectory);
       if (config.isActive()) {
-        initializeFile(methodImpactedRegionPath, ImpactedRegion.header());
-        initializeFile(fieldImpactedRegionPath, ImpactedRegion.header());
-        initializeFile(methodRecordPath, MethodRecord.header());
-        initializeFile(classRecordsPath, ClassRecord.header());
-        initializeFile(nonnullElementsPath, SymbolLocation.header());
+        setShutdownHookRegistered(true);
+        if (!config.isShardedOutput()) {
+          // Outputs of a previous sharded run must not be merged with the outputs of this run.
+          Files.deleteIfExists(
+              config
+                  .getOutputDirectory()
+                  .resolve(ScannerShards.DIRECTORY)
+                  .resolve(ScannerShards.MANIFEST));
+        }
+        initializeOutput(config, methodImpactedRegionPath, ImpactedRegion.header());
+        initializeOutput(config, fieldImpactedRegionPath, ImpactedRegion.header());
+        initializeOutput(config, methodRecordPath, MethodRecord.header());
+        initializeOutput(config, classRecordsPath, ClassRecord.header());
+        initializeOutput(config, nonnullElementsPath, SymbolLocation.header());
+        initializeFile(scannerTimePath, String.join("\t", "scanner_ms", "compilation_ms"));
       }
     } catch (IOException e) {
       throw new RuntimeException("Could not finish resetting serializer", e);
@@ -270,17 +481,30 @@ public class Serializer {
    * @param row Row to append.
    * @param path Path to target file.
    */
-  private void appendToFile(String row, Path path) {
-    // Since there is no method available in API of either javac or errorprone to inform NullAway
-    // that the analysis is finished, we cannot open a single stream and flush it within a finalize
-    // method. Must open and close a new stream everytime we are appending a new line to a file.
+  private synchronized void appendToFile(String row, Path path) {
+    // Rows are buffered in writers kept open until the end of compilation, see
+    // registerCompilationListener. The shutdown hook closes the writers if the JVM exits earlier.
     if (row == null || row.equals("")) {
       return;
     }
-    row = row + "\n";
-    try (OutputStream os = new FileOutputStream(path.toFile(), true)) {
-      os.write(row.getBytes(Charset.defaultCharset()), 0, row.length());
-      os.flush();
+    BinaryTableWriter binaryWriter = binaryWriters.get(path);
+    if (binaryWriter != null) {
+      binaryWriter.append(row);
+      return;
+    }
+    try {
+      Writer writer = writers.get(path);
+      if (writer == null) {
+        writer =
+            Files.newBufferedWriter(
+                path,
+                Charset.defaultCharset(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        writers.put(path, writer);
+      }
+      writer.write(row);
+      writer.write('\n');
     } catch (IOException e) {
       throw new RuntimeException("Error happened for writing at file: " + path, e);
     }
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.scanner;
+
+import com.sun.source.tree.ExpressionTree;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.code.Types;
+import com.sun.tools.javac.tree.JCTree;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Caches results of symbol lookups and serializations which are repeated for the same symbols
+ * during a compilation. Symbols are only valid within the compilation they belong to, therefore the
+ * cache must be cleared via {@link #clear()} once a new compilation starts.
+ */
+public class SymbolCache {
+
+  /**
+   * Closest overridden method of each method, a method that does not override anything is mapped to
+   * {@code null}.
+   */
+  private final Map<Symbol.MethodSymbol, Symbol.MethodSymbol> overriddenMethods;
+
+  /** Functional interface method of each functional interface. */
+  private final Map<Symbol.TypeSymbol, Symbol.MethodSymbol> functionalInterfaceMethods;
+
+  /** Serialized string of each symbol, see {@link Serializer#serializeSymbol(Symbol)}. */
+  private final Map<Symbol, String> serializedSymbols;
+
+  public SymbolCache() {
+    this.overriddenMethods = new HashMap<>();
+    this.functionalInterfaceMethods = new HashMap<>();
+    this.serializedSymbols = new HashMap<>();
+  }
+
+  /**
+   * Returns the closest overridden method of the given method, see {@link
+   * SymbolUtil#getClosestOverriddenMethod(Symbol.MethodSymbol, Types)}.
+   *
+   * @param method The subclass method.
+   * @param types The types data structure from javac.
+   * @return Closest overridden ancestor method, or {@code null} if method does not override
+   *     anything.
+   */
+  @Nullable
+  public Symbol.MethodSymbol getClosestOverriddenMethod(Symbol.MethodSymbol method, Types types) {
+    // Most methods do not override anything, containsKey is used to cache null results as well.
+    if (overriddenMethods.containsKey(method)) {
+      return overriddenMethods.get(method);
+    }
+    Symbol.MethodSymbol overridden = SymbolUtil.getClosestOverriddenMethod(method, types);
+    overriddenMethods.put(method, overridden);
+    return overridden;
+  }
+
+  /**
+   * Returns the functional interface method for a lambda expression or a method reference, see
+   * {@link SymbolUtil#getFunctionalInterfaceMethod(ExpressionTree, Types)}. The method only depends
+   * on the functional interface, hence it is resolved once for all expressions of the same
+   * interface. Expressions which are not attributed yet are resolved without caching.
+   *
+   * @param tree The lambda expression or method reference.
+   * @param types The types data structure from javac.
+   * @return The functional interface method.
+   */
+  @Nullable
+  public Symbol.MethodSymbol getFunctionalInterfaceMethod(ExpressionTree tree, Types types) {
+    if (!(tree instanceof JCTree.JCFunctionalExpression)
+        || ((JCTree.JCFunctionalExpression) tree).type == null) {
+      return SymbolUtil.getFunctionalInterfaceMethod(tree, types);
+    }
+    return functionalInterfaceMethods.computeIfAbsent(
+        ((JCTree.JCFunctionalExpression) tree).type.tsym,
+        key -> SymbolUtil.getFunctionalInterfaceMethod(tree, types));
+  }
+
+  /**
+   * Returns the serialized string of the given symbol, see {@link
+   * Serializer#serializeSymbol(Symbol)}.
+   *
+   * @param symbol The symbol to serialize.
+   * @return The serialized symbol.
+   */
+  public String serializeSymbol(@Nullable Symbol symbol) {
+    if (symbol == null) {
+      return "null";
+    }
+    return serializedSymbols.computeIfAbsent(symbol, Serializer::serializeSymbol);
+  }
+
+  /** Clears all cached results. */
+  public void clear() {
+    overriddenMethods.clear();
+    functionalInterfaceMethods.clear();
+    serializedSymbols.clear();
+  }
+}
@@ -26,10 +26,11 @@ package edu.ucr.cs.riple.scanner.out;
 
 import com.google.errorprone.util.ASTHelpers;
 import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
 import com.sun.source.util.TreePath;
 import com.sun.tools.javac.code.Symbol;
-import edu.ucr.cs.riple.scanner.Config;
-import edu.ucr.cs.riple.scanner.Serializer;
+import edu.ucr.cs.riple.scanner.ScannerContext;
+import edu.ucr.cs.riple.scanner.SymbolCache;
 import edu.ucr.cs.riple.scanner.SymbolUtil;
 import edu.ucr.cs.riple.scanner.generatedcode.SourceType;
 import javax.annotation.Nullable;
@@ -49,15 +50,21 @@ public class ImpactedRegion {
   /** Source type of the impacted region. */
   private final SourceType source;
 
+  /** Compilation unit containing the use of the member. */
+  private final CompilationUnitTree compilationUnit;
+
+  /** Cache of serialized symbols of the running compilation. */
+  private final SymbolCache symbolCache;
+
   /**
    * Construct an ImpactedRegion
    *
-   * @param config scanner configuration
+   * @param context scanner context
    * @param memberSymbol symbol for the class member
    * @param path path to the AST node that uses or overrides the member; the impacted region
    *     information is computed from the leaf of this path
    */
-  public ImpactedRegion(Config config, Symbol memberSymbol, TreePath path) {
+  public ImpactedRegion(ScannerContext context, Symbol memberSymbol, TreePath path) {
     this.memberSymbol = memberSymbol;
     ClassTree enclosingClass =
         path.getLeaf() instanceof ClassTree
@@ -70,7 +77,18 @@ public class ImpactedRegion {
       this.regionClass = null;
       this.regionMember = null;
     }
-    this.source = config.getSymbolSourceResolver().getSourceForSymbolAtPath(path);
+    this.source = context.getConfig().getSymbolSourceResolver().getSourceForSymbolAtPath(path);
+    this.compilationUnit = path.getCompilationUnit();
+    this.symbolCache = context.getSymbolCache();
+  }
+
+  /**
+   * Returns the compilation unit containing the use of the member.
+   *
+   * @return Compilation unit tree.
+   */
+  public CompilationUnitTree getCompilationUnit() {
+    return compilationUnit;
   }
 
   @Override
@@ -81,10 +99,10 @@ public class ImpactedRegion {
     Symbol enclosingClass = memberSymbol.enclClass();
     return String.join(
         "\t",
-        Serializer.serializeSymbol(regionClass),
-        Serializer.serializeSymbol(regionMember),
-        Serializer.serializeSymbol(memberSymbol),
-        Serializer.serializeSymbol(enclosingClass),
+        symbolCache.serializeSymbol(regionClass),
+        symbolCache.serializeSymbol(regionMember),
+        symbolCache.serializeSymbol(memberSymbol),
+        symbolCache.serializeSymbol(enclosingClass),
         source.name());
   }
 
@@ -31,6 +31,7 @@ import com.sun.source.tree.CompilationUnitTree;
 import com.sun.tools.javac.code.Symbol;
 import edu.ucr.cs.riple.scanner.ScannerContext;
 import edu.ucr.cs.riple.scanner.Serializer;
+import edu.ucr.cs.riple.scanner.SymbolCache;
 import edu.ucr.cs.riple.scanner.SymbolUtil;
 import java.net.URI;
 import java.nio.file.Path;
@@ -74,11 +75,15 @@ public class MethodRecord {
   /** ID of the closest super method. */
   private int parentID;
 
+  /** Cache of serialized symbols of the running compilation. */
+  private final SymbolCache symbolCache;
+
   /** Delimiter used to separate annotations in the serialized output. */
   public static final String ANNOTATION_DELIMITER = ",";
 
   private MethodRecord(Symbol.MethodSymbol method, ScannerContext context) {
     this.id = context.getNextMethodId();
+    this.symbolCache = context.getSymbolCache();
     this.symbol = method;
     this.clazz = (method != null) ? method.enclClass() : null;
     this.parentID = 0;
@@ -130,7 +135,7 @@ public class MethodRecord {
    */
   public void findParent(VisitorState state, ScannerContext context) {
     Symbol.MethodSymbol superMethod =
-        SymbolUtil.getClosestOverriddenMethod(symbol, state.getTypes());
+        context.getSymbolCache().getClosestOverriddenMethod(symbol, state.getTypes());
     if (superMethod == null || superMethod.toString().equals("null")) {
       this.parentID = 0;
       return;
@@ -147,7 +152,7 @@ public class MethodRecord {
         "\t",
         String.valueOf(id),
         (clazz != null ? clazz.flatName() : "null"),
-        Serializer.serializeSymbol(symbol),
+        symbolCache.serializeSymbol(symbol),
         String.valueOf(parentID),
         Arrays.toString(parameterAnnotationFlags),
         annotations.stream()
@@ -24,7 +24,9 @@
 
 package edu.ucr.cs.riple.scanner;
 
+import com.google.common.collect.ImmutableList;
 import com.google.errorprone.CompilationTestHelper;
+import edu.ucr.cs.riple.scanner.out.ClassRecord;
 import edu.ucr.cs.riple.scanner.tools.ClassRecordDisplay;
 import edu.ucr.cs.riple.scanner.tools.Display;
 import edu.ucr.cs.riple.scanner.tools.DisplayFactory;
@@ -35,6 +37,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -64,6 +67,14 @@ public class ConfigurationTest {
   protected SerializationTestHelper<Display> tester;
   protected Path root;
 
+  /** Outputs of the scanner which can be serialized in binary format. */
+  private static final ImmutableList<String> OUTPUTS =
+      ImmutableList.of(
+          Serializer.CLASS_RECORD_FILE_NAME,
+          Serializer.METHOD_RECORD_FILE_NAME,
+          Serializer.METHOD_IMPACTED_REGION_FILE_NAME,
+          Serializer.FIELD_IMPACTED_REGION_FILE_NAME);
+
   @Before
   public void setup() {
     root = Paths.get(temporaryFolder.getRoot().getAbsolutePath());
@@ -156,4 +167,115 @@ public class ConfigurationTest {
     Assert.assertFalse(root.resolve(Serializer.FIELD_IMPACTED_REGION_FILE_NAME).toFile().exists());
     Assert.assertFalse(root.resolve(Serializer.METHOD_RECORD_FILE_NAME).toFile().exists());
   }
+
+  @Test
+  public void checkOutputsAreSerializedInBinaryFormat() throws IOException {
+    Path config = root.resolve("scanner.xml");
+    Files.createDirectories(root);
+    Files.createFile(config);
+    new ScannerConfigWriter()
+        .setOutput(root)
+        .setSerializationActivation(true)
+        .setBinaryOutput(true)
+        .writeAsXML(config);
+    CompilationTestHelper compilationTestHelper =
+        CompilationTestHelper.newInstance(AnnotatorScanner.class, getClass())
+            .setArgs(
+                Arrays.asList(
+                    "-d",
+                    temporaryFolder.getRoot().getAbsolutePath(),
+                    "-Xep:AnnotatorScanner:ERROR",
+                    "-XepOpt:AnnotatorScanner:ConfigPath=" + config))
+            .addSourceFile("SampleClassForTest.java");
+    compilationTestHelper.doTest();
+    Path tsv = root.resolve(Serializer.CLASS_RECORD_FILE_NAME);
+    Path binary = BinaryTable.pathOf(tsv);
+    Assert.assertFalse(tsv.toFile().exists());
+    Assert.assertTrue(binary.toFile().exists());
+    // Converted table must start with the header of the TSV output.
+    Path converted = root.resolve("converted.tsv");
+    BinaryTable.toTsv(binary, converted);
+    Assert.assertEquals(ClassRecord.header(), Files.readAllLines(converted).get(0));
+  }
+
+  @Test
+  public void checkBinaryOutputsMatchTsvOutputs() throws IOException {
+    Path tsvOutput = compileWithOutputFormat(root.resolve("tsv"), false);
+    Path binaryOutput = compileWithOutputFormat(root.resolve("bin"), true);
+    for (String name : OUTPUTS) {
+      List<String> expected = Files.readAllLines(tsvOutput.resolve(name));
+      // TSV output converted to binary and back must be identical to the original.
+      Path binary = root.resolve("roundtrip" + BinaryTable.EXTENSION);
+      Path converted = root.resolve("roundtrip.tsv");
+      BinaryTable.toBinary(tsvOutput.resolve(name), binary);
+      BinaryTable.toTsv(binary, converted);
+      Assert.assertEquals(expected, Files.readAllLines(converted));
+      // Binary output serialized by the scanner must hold the same rows as the TSV output.
+      BinaryTable.toTsv(BinaryTable.pathOf(binaryOutput.resolve(name)), converted);
+      Assert.assertEquals(expected, Files.readAllLines(converted));
+      // Entries spanning chunks must be carried over when reading in small chunks.
+      try (BinaryTableReader reader = new BinaryTableReader(binary, 5)) {
+        for (String row : expected) {
+          Assert.assertTrue(reader.next());
+          Assert.assertEquals(row, String.join("\t", reader.fields()));
+        }
+        Assert.assertFalse(reader.next());
+      }
+    }
+  }
+
+  @Test
+  public void checkScannerTimeIsSerializedOncePerCompilation() throws IOException {
+    Path config = root.resolve("scanner.xml");
+    Files.createDirectories(root);
+    Files.createFile(config);
+    new ScannerConfigWriter().setOutput(root).setSerializationActivation(true).writeAsXML(config);
+    for (int i = 0; i < 2; i++) {
+      CompilationTestHelper.newInstance(AnnotatorScanner.class, getClass())
+          .setArgs(
+              Arrays.asList(
+                  "-d",
+                  temporaryFolder.getRoot().getAbsolutePath(),
+                  "-Xep:AnnotatorScanner:ERROR",
+                  "-XepOpt:AnnotatorScanner:ConfigPath=" + config))
+          .addSourceFile("SampleClassForTest.java")
+          .addSourceLines("Other.java", "package test;", "public class Other {}")
+          .doTest();
+      // Outputs are reset for each build, a single compilation of two classes writes one row.
+      List<String> lines = Files.readAllLines(root.resolve(Serializer.SCANNER_TIME_FILE_NAME));
+      Assert.assertEquals(2, lines.size());
+      Assert.assertEquals("scanner_ms\tcompilation_ms", lines.get(0));
+      String[] values = lines.get(1).split("\t");
+      Assert.assertEquals(2, values.length);
+      Assert.assertTrue(Long.parseLong(values[0]) <= Long.parseLong(values[1]));
+    }
+  }
+
+  /**
+   * Compiles the sample class with the scanner serializing its outputs in the requested format.
+   *
+   * @param output Directory of the outputs.
+   * @param binary Whether outputs are serialized as binary tables.
+   * @return Directory of the outputs.
+   * @throws IOException if the directory of the outputs cannot be created.
+   */
+  private Path compileWithOutputFormat(Path output, boolean binary) throws IOException {
+    Files.createDirectories(output);
+    Path config = output.resolve("scanner.xml");
+    new ScannerConfigWriter()
+        .setOutput(output)
+        .setSerializationActivation(true)
+        .setBinaryOutput(binary)
+        .writeAsXML(config);
+    CompilationTestHelper.newInstance(AnnotatorScanner.class, getClass())
+        .setArgs(
+            Arrays.asList(
+                "-d",
+                temporaryFolder.getRoot().getAbsolutePath(),
+                "-Xep:AnnotatorScanner:ERROR",
+                "-XepOpt:AnnotatorScanner:ConfigPath=" + config))
+        .addSourceFile("SampleClassForTest.java")
+        .doTest();
+    return output;
+  }
 }
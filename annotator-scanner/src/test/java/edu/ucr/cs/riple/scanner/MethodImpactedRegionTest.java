@@ -166,4 +166,31 @@ public class MethodImpactedRegionTest
                 "edu.ucr.B", "lambda()", "java.io.PrintStream", "println(java.lang.Object)"))
         .doTest();
   }
+
+  @Test
+  public void repeatedCallsInRegionSerializedOnceTest() {
+    tester
+        .addSourceLines(
+            "edu/ucr/A.java",
+            "package edu.ucr;",
+            "public class A {",
+            "   public void bar(Other o){",
+            "      o.foo();",
+            "      o.foo();",
+            "      o.foo();",
+            "   }",
+            "   public void baz(Other o){",
+            "      o.foo();",
+            "   }",
+            "}",
+            "class Other {",
+            "   Object foo() { return null; };",
+            "}")
+        .setExpectedOutputs(
+            new ImpactedRegionRecordDisplay(
+                "edu.ucr.A", "bar(edu.ucr.Other)", "edu.ucr.Other", "foo()"),
+            new ImpactedRegionRecordDisplay(
+                "edu.ucr.A", "baz(edu.ucr.Other)", "edu.ucr.Other", "foo()"))
+        .doTest();
+  }
 }
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Nima Karimipour
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package edu.ucr.cs.riple.injector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes a group of files atomically. The content of each file is first written to a temporary
+ * file in the same directory, and all temporary files are moved to their targets on {@link
+ * #commit()}. A target file is therefore either left untouched or replaced with its complete new
+ * content, and readers never observe a partially written source file. If enabled, all temporary
+ * files are forced to the storage device in a single batch right before they are moved.
+ */
+public class AtomicFileWriter {
+
+  /** Prefix of temporary files created next to their targets. */
+  private static final String TEMP_PREFIX = ".annotator-";
+
+  /** If true, content of files are forced to the storage device before moving to targets. */
+  private final boolean sync;
+
+  /** Map of target files to their staged temporary files, in the order they are staged. */
+  private final Map<Path, Path> staged;
+
+  /** Number of files staged by this writer. */
+  private int writtenFiles;
+
+  /** Number of bytes written to staged files by this writer. */
+  private long writtenBytes;
+
+  /**
+   * Creates a new writer.
+   *
+   * @param sync If true, staged files are forced to the storage device before they replace their
+   *     targets.
+   */
+  public AtomicFileWriter(boolean sync) {
+    this.sync = sync;
+    this.staged = new LinkedHashMap<>();
+  }
+
+  /**
+   * Writes the given content to a temporary file which replaces the target on {@link #commit()}.
+   * Staging the same target twice discards the previously staged content.
+   *
+   * @param target Path to target file.
+   * @param content Content of the file.
+   */
+  public void stage(Path target, ByteBuffer content) {
+    Path directory = target.toAbsolutePath().getParent();
+    Path temp = null;
+    try {
+      temp = Files.createTempFile(directory, TEMP_PREFIX, ".tmp");
+      copyPermissions(target, temp);
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        while (content.hasRemaining()) {
+          writtenBytes += channel.write(content);
+        }
+      }
+      writtenFiles++;
+      Path previous = staged.put(target, temp);
+      if (previous != null) {
+        Files.deleteIfExists(previous);
+      }
+    } catch (IOException e) {
+      deleteQuietly(temp);
+      throw new RuntimeException("Error happened while writing content to: " + target, e);
+    }
+  }
+
+  /**
+   * Moves all staged files to their targets. If sync is enabled, all staged files are forced to
+   * the storage device first.
+   */
+  public void commit() {
+    try {
+      if (sync) {
+        for (Path temp : staged.values()) {
+          try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+          }
+        }
+      }
+      for (Map.Entry<Path, Path> entry : staged.entrySet()) {
+        move(entry.getValue(), entry.getKey());
+      }
+    } catch (IOException e) {
+      throw new RuntimeException("Error happened while replacing files: " + staged.keySet(), e);
+    } finally {
+      discard();
+    }
+  }
+
+  /** Deletes all staged files which are not moved to their targets yet. */
+  public void discard() {
+    staged.values().forEach(AtomicFileWriter::deleteQuietly);
+    staged.clear();
+  }
+
+  /**
+   * Returns the number of files staged by this writer, including files staged more than once.
+   *
+   * @return Number of staged files.
+   */
+  public int getWrittenFileCount() {
+    return writtenFiles;
+  }
+
+  /**
+   * Returns the number of bytes written to staged files by this writer.
+   *
+   * @return Number of written bytes.
+   */
+  public long getWrittenBytes() {
+    return writtenBytes;
+  }
+
+  /**
+   * Replaces target with the given file, atomically if supported by the file system.
+   *
+   * @param source Path to source file.
+   * @param target Path to target file.
+   * @throws IOException if an I/O error occurs.
+   */
+  private static void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(
+          source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * Copies POSIX permissions of the target to the temporary file, as temporary files are created
+   * with owner only permissions. Does nothing if the target does not exist or the file system does
+   * not support POSIX permissions.
+   *
+   * @param target Path to target file.
+   * @param temp Path to temporary file.
+   * @throws IOException if an I/O error occurs.
+   */
+  private static void copyPermissions(Path target, Path temp) throws IOException {
+    if (!Files.exists(target)) {
+      return;
+    }
+    try {
+      Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+    } catch (UnsupportedOperationException ignored) {
+      // File system is not POSIX compliant, keep default permissions.
+    }
+  }
+
+  /**
+   * Deletes the file at the given path if exists, ignoring any errors.
+   *
+   * @param path Path to file, can be null.
+   */
+  private static void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException ignored) {
+      // Nothing to do, file is left as garbage in the directory.
+    }
+  }
+}
@@ -43,6 +43,7 @@ import edu.ucr.cs.riple.injector.modifications.Modification;
 import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
 import edu.ucr.cs.riple.injector.util.ASTUtils;
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.HashSet;
@@ -57,12 +58,28 @@ public class Injector {
 
   private final ParserConfiguration.LanguageLevel languageLevel;
 
+  /** Charset used to read and write source files. */
+  private final Charset charset;
+
+  /**
+   * If true, modified files of each call to {@link #start(Set)} are forced to the storage device
+   * in a single batch before replacing the original files.
+   */
+  private final boolean syncWrites;
+
   public Injector() {
     this(ParserConfiguration.LanguageLevel.JAVA_11);
   }
 
   public Injector(ParserConfiguration.LanguageLevel languageLevel) {
+    this(languageLevel, Charset.defaultCharset(), false);
+  }
+
+  public Injector(
+      ParserConfiguration.LanguageLevel languageLevel, Charset charset, boolean syncWrites) {
     this.languageLevel = languageLevel;
+    this.charset = charset;
+    this.syncWrites = syncWrites;
   }
 
   /**
@@ -72,55 +89,71 @@ public class Injector {
    * @return Offset changes of source file.
    */
   public <T extends ASTChange> Set<FileOffsetStore> start(Set<T> changes) {
-
+    InjectionEvent event = new InjectionEvent();
+    event.begin();
     changes = changes.stream().map(t -> (T) t.copy()).collect(Collectors.toSet());
     // Start method does not support addition and deletion on same element. Should be split into
     // call for addition and deletion separately.
     Map<Path, List<ASTChange>> map =
         changes.stream().collect(groupingBy(change -> change.getLocation().path));
     Set<FileOffsetStore> offsets = new HashSet<>();
-    map.forEach(
-        (path, changeList) -> {
-          mergeTypeArgumentIndices(changeList);
-          CompilationUnit tree = parse(path, languageLevel);
-          if (tree == null) {
-            return;
-          }
-          ChangeVisitor visitor = new ChangeVisitor(tree);
-          Set<Modification> modifications = new HashSet<>();
-          Set<ImportDeclaration> imports = new HashSet<>();
-          for (ASTChange change : changeList) {
-            try {
-              Modification modification = visitor.computeModification(change);
-              if (modification != null) {
-                modifications.add(modification);
-                if (change instanceof AddAnnotation) {
-                  String annotationFullName = ((AnnotationChange) change).annotationName.fullName;
-                  if (ASTUtils.getPackageName(annotationFullName) != null) {
-                    ImportDeclaration importDeclaration =
-                        StaticJavaParser.parseImport("import " + annotationFullName + ";");
-                    if (treeRequiresImportDeclaration(
-                        tree, importDeclaration, annotationFullName)) {
-                      imports.add(importDeclaration);
+    // All modified files are replaced together once every file is processed.
+    AtomicFileWriter writer = new AtomicFileWriter(syncWrites);
+    try {
+      map.forEach(
+          (path, changeList) -> {
+            mergeTypeArgumentIndices(changeList);
+            CompilationUnit tree = parse(path, languageLevel);
+            if (tree == null) {
+              return;
+            }
+            ChangeVisitor visitor = new ChangeVisitor(tree);
+            Set<Modification> modifications = new HashSet<>();
+            Set<ImportDeclaration> imports = new HashSet<>();
+            for (ASTChange change : changeList) {
+              try {
+                Modification modification = visitor.computeModification(change);
+                if (modification != null) {
+                  modifications.add(modification);
+                  if (change instanceof AddAnnotation) {
+                    String annotationFullName = ((AnnotationChange) change).annotationName.fullName;
+                    if (ASTUtils.getPackageName(annotationFullName) != null) {
+                      ImportDeclaration importDeclaration =
+                          StaticJavaParser.parseImport("import " + annotationFullName + ";");
+                      if (treeRequiresImportDeclaration(
+                          tree, importDeclaration, annotationFullName)) {
+                        imports.add(importDeclaration);
+                      }
                     }
                   }
                 }
+              } catch (Exception ex) {
+                System.err.println("Encountered Exception: " + ex);
               }
-            } catch (Exception ex) {
-              System.err.println("Encountered Exception: " + ex);
             }
-          }
-          Printer printer = new Printer(path);
-          printer.applyModifications(modifications);
-          printer.addImports(tree, imports);
-          try {
-            FileOffsetStore offsetStore = printer.write();
-            offsets.add(offsetStore);
-          } catch (Exception e) {
-            System.out.println("Error happened while Printer writing content back to: " + path);
-            throw new RuntimeException(e);
-          }
-        });
+            Printer printer = new Printer(path, charset);
+            printer.applyModifications(modifications);
+            printer.addImports(tree, imports);
+            try {
+              FileOffsetStore offsetStore = printer.write(writer);
+              offsets.add(offsetStore);
+            } catch (Exception e) {
+              System.out.println("Error happened while Printer writing content back to: " + path);
+              throw new RuntimeException(e);
+            }
+          });
+      writer.commit();
+    } finally {
+      // Removes staged files if processing stopped by an exception.
+      writer.discard();
+    }
+    if (event.shouldCommit()) {
+      event.changes = changes.size();
+      event.files = map.size();
+      event.filesWritten = writer.getWrittenFileCount();
+      event.bytesWritten = writer.getWrittenBytes();
+      event.commit();
+    }
     return offsets;
   }
 
@@ -27,9 +27,12 @@ package edu.ucr.cs.riple.injector;
 import com.github.javaparser.Range;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.ImportDeclaration;
+import com.google.common.collect.ImmutableList;
 import edu.ucr.cs.riple.injector.modifications.Modification;
 import edu.ucr.cs.riple.injector.offsets.FileOffsetStore;
 import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -51,19 +54,31 @@ public class Printer {
   /** Path to source file. */
   private final Path path;
 
+  /** Charset of source file. */
+  private final Charset charset;
+
   /** Lines of source file. */
   private final List<String> lines;
 
+  /** Lines of source file before any modification, used to skip writing unchanged files. */
+  private final ImmutableList<String> originalLines;
+
   /** Offset store for recording changes in source code. */
   private final FileOffsetStore offsetStore;
 
   public Printer(Path path) {
+    this(path, Charset.defaultCharset());
+  }
+
+  public Printer(Path path, Charset charset) {
     this.path = path;
+    this.charset = charset;
     try {
-      lines = Files.readAllLines(path, Charset.defaultCharset());
+      lines = Files.readAllLines(path, charset);
     } catch (IOException e) {
       throw new RuntimeException("Happened at path: " + path, e);
     }
+    this.originalLines = ImmutableList.copyOf(lines);
     this.offsetStore = new FileOffsetStore(lines, path);
   }
 
@@ -166,15 +181,48 @@ public class Printer {
   }
 
   /**
-   * Writes the updated lines into the source file.
+   * Checks if the content of the source file is changed by the applied modifications and added
+   * imports.
+   *
+   * @return true, if the updated lines differ from the original lines.
+   */
+  public boolean isModified() {
+    return !lines.equals(originalLines);
+  }
+
+  /**
+   * Writes the updated lines into the source file atomically. The file is left untouched if its
+   * content is not changed, to preserve its modification time.
    *
    * @return offset store corresponding to file changes.
    */
   public FileOffsetStore write() {
+    AtomicFileWriter writer = new AtomicFileWriter(false);
+    write(writer);
+    writer.commit();
+    return offsetStore;
+  }
+
+  /**
+   * Stages the updated lines of the source file in the given writer. The file is replaced once
+   * the writer is committed, and is not staged at all if its content is not changed.
+   *
+   * @param writer Writer used to replace the file.
+   * @return offset store corresponding to file changes.
+   */
+  public FileOffsetStore write(AtomicFileWriter writer) {
+    if (!isModified()) {
+      return offsetStore;
+    }
+    StringBuilder content = new StringBuilder();
+    String separator = System.lineSeparator();
+    for (String line : lines) {
+      content.append(line).append(separator);
+    }
     try {
-      Files.write(path, lines, Charset.defaultCharset());
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+      writer.stage(path, charset.newEncoder().encode(CharBuffer.wrap(content)));
+    } catch (CharacterCodingException e) {
+      throw new RuntimeException("Could not encode content with " + charset + " at: " + path, e);
     }
     return offsetStore;
   }
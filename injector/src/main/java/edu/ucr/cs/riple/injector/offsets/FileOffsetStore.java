@@ -24,17 +24,14 @@
 
 package edu.ucr.cs.riple.injector.offsets;
 
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSortedSet;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 /** Stores list of offset changes for a file. */
 public class FileOffsetStore {
@@ -42,16 +39,41 @@ public class FileOffsetStore {
   /** Path to file. */
   private final Path path;
 
-  /** List of existing offset changes. */
-  private SortedSet<OffsetChange> offsetChanges;
+  /**
+   * Existing offset changes, mapping the position of each change in the original file to the net
+   * number of characters added / removed at that position. Changes on the same position are
+   * summarized on insertion (e.g. offset change (p1, d1) and (p1, -d1 + e) are stored as (p1, e))
+   * and positions with no net change are removed.
+   */
+  private final NavigableMap<Integer, Integer> offsetChanges;
+
+  /**
+   * Prefix sum of line lengths of the original file. The element at index {@code i} is the number
+   * of characters before line {@code i} (including new line characters), and the last element is
+   * the total length of the file. All offset changes are recorded with respect to the original
+   * version of the file, therefore this table is computed once and remains valid while lines are
+   * inserted or removed in the printed version (e.g. import declarations added by {@link
+   * edu.ucr.cs.riple.injector.Printer#addImports}).
+   */
+  private final int[] lineOffsets;
 
-  /** Contents of file. */
-  private final ImmutableList<String> lines;
+  /**
+   * Index used to translate offsets back to the original file, built lazily from {@link
+   * #offsetChanges} and discarded on every update. Null if no index is computed for the current
+   * state.
+   */
+  private TranslationIndex index;
 
   public FileOffsetStore(List<String> lines, Path path) {
-    this.lines = ImmutableList.copyOf(lines);
     this.path = path;
-    this.offsetChanges = new TreeSet<>();
+    this.offsetChanges = new TreeMap<>();
+    this.lineOffsets = new int[lines.size() + 1];
+    int index = 0;
+    for (String line : lines) {
+      // add one for new line.
+      lineOffsets[index + 1] = lineOffsets[index] + line.length() + 1;
+      index++;
+    }
   }
 
   /**
@@ -63,7 +85,7 @@ public class FileOffsetStore {
    */
   public void updateOffsetWithAddition(int line, int column, int numChars) {
     int offset = characterOffsetAtLine(line);
-    this.offsetChanges.add(new OffsetChange(offset + column, numChars));
+    addOffsetChange(offset + column, numChars);
   }
 
   /**
@@ -75,7 +97,7 @@ public class FileOffsetStore {
   public void updateOffsetWithNewLineAddition(int line, int numChars) {
     int offset = characterOffsetAtLine(line);
     // add one to numChars for new line.
-    this.offsetChanges.add(new OffsetChange(offset, numChars + 1));
+    addOffsetChange(offset, numChars + 1);
   }
 
   /**
@@ -87,7 +109,7 @@ public class FileOffsetStore {
    */
   public void updateOffsetWithDeletion(int line, int column, int numChars) {
     int offset = characterOffsetAtLine(line);
-    this.offsetChanges.add(new OffsetChange(offset + column, -1 * numChars));
+    addOffsetChange(offset + column, -1 * numChars);
   }
 
   /**
@@ -97,12 +119,28 @@ public class FileOffsetStore {
    * @return Number of characters before reaching a line.
    */
   private int characterOffsetAtLine(int line) {
-    int ans = 0;
-    for (int current = 0; current < line && current < lines.size(); current++) {
-      ans += lines.get(current).length();
-      ans += 1; // for new line.
+    if (line <= 0) {
+      return 0;
     }
-    return ans;
+    return lineOffsets[Math.min(line, lineOffsets.length - 1)];
+  }
+
+  /**
+   * Records an offset change at the given original position, summarizing it with any existing
+   * change at the same position.
+   *
+   * @param position Position in the original file.
+   * @param numChars Number of characters added (positive) or removed (negative).
+   */
+  private void addOffsetChange(int position, int numChars) {
+    if (numChars == 0) {
+      return;
+    }
+    offsetChanges.merge(
+        position,
+        numChars,
+        (previous, current) -> previous + current == 0 ? null : previous + current);
+    index = null;
   }
 
   /**
@@ -120,7 +158,69 @@ public class FileOffsetStore {
    * @return Immutable set of offset changes.
    */
   public ImmutableSortedSet<OffsetChange> getOffsetChanges() {
-    return ImmutableSortedSet.copyOf(this.offsetChanges);
+    ImmutableSortedSet.Builder<OffsetChange> builder = ImmutableSortedSet.naturalOrder();
+    offsetChanges.forEach(
+        (position, numChars) -> builder.add(new OffsetChange(position, numChars)));
+    return builder.build();
+  }
+
+  /**
+   * Computes the original offset of the given offset according to existing offset changes. The
+   * result is equal to {@link OffsetChange#getOriginalOffset(int, java.util.SortedSet)} on {@link
+   * #getOffsetChanges()}, and is computed in logarithmic time with respect to the number of
+   * existing offset changes.
+   *
+   * @param offset Offset in the current version of the file.
+   * @return Original offset.
+   */
+  public int getOriginalOffset(int offset) {
+    if (offsetChanges.isEmpty()) {
+      return offset;
+    }
+    TranslationIndex translationIndex = getIndex();
+    return offset - translationIndex.shiftBefore(translationIndex.find(offset));
+  }
+
+  /**
+   * Computes the original offsets of all given offsets according to existing offset changes in a
+   * single pass over the existing changes. Preferred over repeated calls to {@link
+   * #getOriginalOffset(int)} when translating many offsets of the same file (e.g. all reported
+   * errors in a file).
+   *
+   * @param offsets Offsets in the current version of the file, in any order.
+   * @return Original offsets, where the element at index {@code i} corresponds to {@code
+   *     offsets[i]}.
+   */
+  public int[] getOriginalOffsets(int[] offsets) {
+    int[] result = Arrays.copyOf(offsets, offsets.length);
+    if (offsetChanges.isEmpty() || offsets.length == 0) {
+      return result;
+    }
+    TranslationIndex translationIndex = getIndex();
+    // Visit offsets in ascending order, the matching change index is non-decreasing.
+    Integer[] order = new Integer[offsets.length];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Integer.compare(offsets[a], offsets[b]));
+    int current = 0;
+    for (int i : order) {
+      current = translationIndex.advance(current, offsets[i]);
+      result[i] = offsets[i] - translationIndex.shiftBefore(current);
+    }
+    return result;
+  }
+
+  /**
+   * Returns the translation index for the current state, computing it if necessary.
+   *
+   * @return Translation index.
+   */
+  private TranslationIndex getIndex() {
+    if (index == null) {
+      index = new TranslationIndex(offsetChanges);
+    }
+    return index;
   }
 
   /**
@@ -131,11 +231,12 @@ public class FileOffsetStore {
    */
   public void updateStateWithNewOffsetChanges(ImmutableSortedSet<OffsetChange> changes) {
     // convert offset changes to original offsets according to existing offset changes.
-    this.offsetChanges.addAll(
-        changes.stream()
-            .map(offsetChange -> offsetChange.getOffsetWithoutChanges(offsetChanges))
-            .collect(Collectors.toSet()));
-    this.summarize();
+    int[] positions = changes.stream().mapToInt(offsetChange -> offsetChange.position).toArray();
+    int[] originalPositions = getOriginalOffsets(positions);
+    int i = 0;
+    for (OffsetChange change : changes) {
+      addOffsetChange(originalPositions[i++], change.numChars);
+    }
   }
 
   @Override
@@ -156,25 +257,81 @@ public class FileOffsetStore {
   }
 
   /**
-   * Summarizes offset changes. (e.g. offset change (p1, d1) and (p1, -d1 + e) can be summarized to
-   * (p1, e)). Also during search, we have many consecutive addition and deletion on the same
-   * position, this method can summarize them into a single offset change.
+   * Sorted view of offset changes which supports translating an offset in the modified file to its
+   * original offset by binary search. For the change at index {@code k}, its position in the
+   * modified file is its original position plus the total shift of all changes before it. An
+   * offset is translated by subtracting the total shift of all changes before the first change
+   * whose modified position is not less than the offset. Deletions can make modified positions
+   * non-monotonic, hence the search runs over their running maximum which reaches a value for the
+   * first time at the same index.
    */
-  private void summarize() {
-    offsetChanges =
-        offsetChanges.stream()
-            .collect(
-                groupingBy(
-                    offsetChange -> offsetChange.position,
-                    mapping(offsetChange -> offsetChange.numChars, Collectors.toList())))
-            .entrySet()
-            .stream()
-            .map(
-                entry ->
-                    new OffsetChange(
-                        entry.getKey(), entry.getValue().stream().mapToInt(value -> value).sum()))
-            .filter(oc -> oc.numChars != 0)
-            .sorted(OffsetChange::compareTo)
-            .collect(Collectors.toCollection(TreeSet::new));
+  private static class TranslationIndex {
+
+    /** Total shift of all changes before index {@code k}, has one extra element for the total. */
+    private final int[] shifts;
+
+    /** Running maximum of modified positions of changes up to index {@code k}. */
+    private final int[] maxModifiedPositions;
+
+    private TranslationIndex(Map<Integer, Integer> offsetChanges) {
+      int size = offsetChanges.size();
+      this.shifts = new int[size + 1];
+      this.maxModifiedPositions = new int[size];
+      int k = 0;
+      int max = Integer.MIN_VALUE;
+      for (Map.Entry<Integer, Integer> entry : offsetChanges.entrySet()) {
+        max = Math.max(max, entry.getKey() + shifts[k]);
+        maxModifiedPositions[k] = max;
+        shifts[k + 1] = shifts[k] + entry.getValue();
+        k++;
+      }
+    }
+
+    /**
+     * Finds the index of the first change whose modified position is not less than the given
+     * offset.
+     *
+     * @param offset Offset in the modified file.
+     * @return Index of the change, or number of changes if no such change exists.
+     */
+    private int find(int offset) {
+      int low = 0;
+      int high = maxModifiedPositions.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (maxModifiedPositions[mid] < offset) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    /**
+     * Same as {@link #find(int)} for offsets visited in ascending order, starting the search from
+     * the index found for the previous offset.
+     *
+     * @param from Index found for the previous offset.
+     * @param offset Offset in the modified file, not less than the previous offset.
+     * @return Index of the change, or number of changes if no such change exists.
+     */
+    private int advance(int from, int offset) {
+      int k = from;
+      while (k < maxModifiedPositions.length && maxModifiedPositions[k] < offset) {
+        k++;
+      }
+      return k;
+    }
+
+    /**
+     * Returns the total shift of all changes before the given index.
+     *
+     * @param k Index of a change.
+     * @return Total number of characters added / removed before the change.
+     */
+    private int shiftBefore(int k) {
+      return shifts[k];
+    }
   }
 }
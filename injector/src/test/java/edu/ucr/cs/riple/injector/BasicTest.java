@@ -24,11 +24,21 @@
 
 package edu.ucr.cs.riple.injector;
 
+import com.github.javaparser.ParserConfiguration;
 import edu.ucr.cs.riple.injector.changes.ASTChange;
 import edu.ucr.cs.riple.injector.changes.AddMarkerAnnotation;
 import edu.ucr.cs.riple.injector.location.OnField;
 import edu.ucr.cs.riple.injector.location.OnMethod;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class BasicTest extends BaseInjectorTest {
@@ -116,4 +126,33 @@ public class BasicTest extends BaseInjectorTest {
                 "javax.annotation.Nullable"))
         .start();
   }
+
+  @Test
+  public void skipWritingUnchangedFile() throws IOException {
+    Path directory = Files.createDirectories(outDirPath.resolve("unchanged"));
+    Path source = directory.resolve("Foo.java");
+    Files.write(
+        source,
+        List.of(
+            "package test;",
+            "import javax.annotation.Nullable;",
+            "public class Foo {",
+            "   @Nullable Object test() {",
+            "       return new Object();",
+            "   }",
+            "}"));
+    FileTime lastModified = FileTime.fromMillis(1_000_000L);
+    Files.setLastModifiedTime(source, lastModified);
+    new Injector(ParserConfiguration.LanguageLevel.JAVA_17)
+        .addAnnotations(
+            Set.of(
+                new AddMarkerAnnotation(
+                    new OnMethod(source.toString(), "test.Foo", "test()"),
+                    "javax.annotation.Nullable")));
+    Assert.assertEquals(lastModified, Files.getLastModifiedTime(source));
+    // No temporary file should be left in the directory.
+    try (Stream<Path> files = Files.list(directory)) {
+      Assert.assertEquals(List.of(source), files.collect(Collectors.toList()));
+    }
+  }
 }